@@ -0,0 +1,62 @@
+// Copyright (c) 2022, WSO2 LLC. (http://www.wso2.com) All Rights Reserved.
+//
+// WSO2 Inc. licenses this file to you under the Apache License,
+// Version 2.0 (the "License"); you may not use this file except
+// in compliance with the License.
+// You may obtain a copy of the License at
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing,
+// software distributed under the License is distributed on an
+// "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+// KIND, either express or implied. See the License for the
+// specific language governing permissions and limitations
+// under the License.
+
+# Limits the number of concurrent executions of a transformer function. Executions beyond the limit are rejected
+# right away instead of waiting for a permit, so that a saturated transformer function does not hold the resources
+# needed by the others, and the rejected requests can be retried after a while or on another instance.
+public isolated class Bulkhead {
+    private final int maxConcurrent;
+    private int inFlight = 0;
+    private int rejected = 0;
+
+    # Initializes the bulkhead.
+    #
+    # + maxConcurrent - Maximum number of concurrent executions
+    public isolated function init(int maxConcurrent) {
+        self.maxConcurrent = maxConcurrent;
+    }
+
+    # Acquires a permit to execute if one is available. A permit acquired successfully has to be released using
+    # `release()` once the execution completes.
+    #
+    # + return - true if a permit is acquired, false if the execution is rejected
+    public isolated function acquire() returns boolean {
+        lock {
+            if self.inFlight < self.maxConcurrent {
+                self.inFlight += 1;
+                return true;
+            }
+            self.rejected += 1;
+            return false;
+        }
+    }
+
+    # Releases a permit acquired using `acquire()`.
+    public isolated function release() {
+        lock {
+            self.inFlight -= 1;
+        }
+    }
+
+    # Returns the number of executions rejected due to the lack of a permit.
+    #
+    # + return - Number of rejected executions
+    public isolated function rejectedCount() returns int {
+        lock {
+            return self.rejected;
+        }
+    }
+}
@@ -0,0 +1,52 @@
+// Copyright (c) 2022, WSO2 LLC. (http://www.wso2.com) All Rights Reserved.
+//
+// WSO2 Inc. licenses this file to you under the Apache License,
+// Version 2.0 (the "License"); you may not use this file except
+// in compliance with the License.
+// You may obtain a copy of the License at
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing,
+// software distributed under the License is distributed on an
+// "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+// KIND, either express or implied. See the License for the
+// specific language governing permissions and limitations
+// under the License.
+
+
+import ballerina/io;
+
+# Returns the given byte stream as a stream of which the failures are I/O errors, so that it can be written as the
+# body of an HTTP response. Chunks are read from the given stream only as the returned stream is consumed.
+#
+# + source - Byte stream returned by a transformer function
+# + return - Byte stream which fails with I/O errors
+public isolated function toByteStream(stream<byte[], error?> source) returns stream<byte[], io:Error?> {
+    ByteStreamAdapter byteStreamAdapter = new (source);
+    return new (byteStreamAdapter);
+}
+
+# Byte stream implementation which passes the chunks of a source stream through as they are.
+class ByteStreamAdapter {
+    private final stream<byte[], error?> source;
+
+    isolated function init(stream<byte[], error?> source) {
+        self.source = source;
+    }
+
+    public isolated function next() returns record {|byte[] value;|}|io:Error? {
+        record {|byte[] value;|}|error? chunk = self.source.next();
+        if chunk is error {
+            return error io:GenericError(chunk.message(), chunk);
+        }
+        return chunk;
+    }
+
+    public isolated function close() returns io:Error? {
+        error? result = self.source.close();
+        if result is error {
+            return error io:GenericError(result.message(), result);
+        }
+    }
+}
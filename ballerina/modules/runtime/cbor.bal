@@ -0,0 +1,329 @@
+// Copyright (c) 2022, WSO2 LLC. (http://www.wso2.com) All Rights Reserved.
+//
+// WSO2 Inc. licenses this file to you under the Apache License,
+// Version 2.0 (the "License"); you may not use this file except
+// in compliance with the License.
+// You may obtain a copy of the License at
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing,
+// software distributed under the License is distributed on an
+// "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+// KIND, either express or implied. See the License for the
+// specific language governing permissions and limitations
+// under the License.
+
+const int MAJOR_UNSIGNED = 0;
+const int MAJOR_NEGATIVE = 1;
+const int MAJOR_BYTES = 2;
+const int MAJOR_TEXT = 3;
+const int MAJOR_ARRAY = 4;
+const int MAJOR_MAP = 5;
+const int MAJOR_SIMPLE = 7;
+const int INDEFINITE_LENGTH = 31;
+const int BREAK = 0xff;
+const int MAX_NESTING_DEPTH = 512;
+
+# Returns the CBOR (RFC 8949) encoding of the given value. The value is encoded as its JSON representation, except
+# that byte arrays are encoded as byte strings and decimals are encoded as floats. The value is written as it is,
+# without being converted to JSON first.
+#
+# + value - Value to be encoded
+# + return - CBOR encoded bytes
+public isolated function toCbor(anydata value) returns byte[] {
+    byte[] output = [];
+    writeValue(value, output);
+    return output;
+}
+
+# Decodes the given CBOR (RFC 8949) encoded bytes into a JSON value. Byte strings are decoded as byte arrays, tags are
+# ignored and keys of maps which are not text strings are converted to strings.
+#
+# + bytes - CBOR encoded bytes of a single data item
+# + return - Decoded value, or an error if the bytes are not a well-formed CBOR data item
+public isolated function fromCbor(byte[] bytes) returns json|error {
+    CborReader reader = new (bytes);
+    json value = check reader.read(0);
+    if !reader.isAtEnd() {
+        return error("Unexpected data after the end of the CBOR data item");
+    }
+    return value;
+}
+
+isolated function writeValue(anydata value, byte[] output) {
+    if value is () {
+        output.push(0xf6);
+    } else if value is boolean {
+        output.push(value ? 0xf5 : 0xf4);
+    } else if value is int {
+        if value >= 0 {
+            writeHead(MAJOR_UNSIGNED, value, output);
+        } else {
+            writeHead(MAJOR_NEGATIVE, -1 - value, output);
+        }
+    } else if value is float {
+        writeFloat(value, output);
+    } else if value is decimal {
+        writeFloat(<float>value, output);
+    } else if value is string {
+        byte[] text = value.toBytes();
+        writeHead(MAJOR_TEXT, text.length(), output);
+        output.push(...text);
+    } else if value is byte[] {
+        writeHead(MAJOR_BYTES, value.length(), output);
+        output.push(...value);
+    } else if value is anydata[] {
+        writeHead(MAJOR_ARRAY, value.length(), output);
+        foreach anydata member in value {
+            writeValue(member, output);
+        }
+    } else if value is map<anydata> {
+        writeHead(MAJOR_MAP, value.length(), output);
+        foreach [string, anydata] [key, member] in value.entries() {
+            writeValue(key, output);
+            writeValue(member, output);
+        }
+    } else if value is table<map<anydata>> {
+        // Similar to the JSON representation, a table is encoded as an array of its rows
+        writeHead(MAJOR_ARRAY, value.length(), output);
+        foreach map<anydata> row in value {
+            writeValue(row, output);
+        }
+    } else {
+        writeValue(value.toString(), output);
+    }
+}
+
+isolated function writeHead(int major, int argument, byte[] output) {
+    int prefix = major << 5;
+    if argument < 24 {
+        output.push(<byte>(prefix | argument));
+    } else if argument < 0x100 {
+        output.push(<byte>(prefix | 24), <byte>argument);
+    } else if argument < 0x10000 {
+        output.push(<byte>(prefix | 25));
+        writeUnsigned(argument, 2, output);
+    } else if argument < 0x100000000 {
+        output.push(<byte>(prefix | 26));
+        writeUnsigned(argument, 4, output);
+    } else {
+        output.push(<byte>(prefix | 27));
+        writeUnsigned(argument, 8, output);
+    }
+}
+
+isolated function writeFloat(float value, byte[] output) {
+    output.push(<byte>((MAJOR_SIMPLE << 5) | 27));
+    writeUnsigned(value.toBitsInt(), 8, output);
+}
+
+isolated function writeUnsigned(int value, int size, byte[] output) {
+    int shift = (size - 1) * 8;
+    while shift >= 0 {
+        output.push(<byte>((value >> shift) & 0xff));
+        shift -= 8;
+    }
+}
+
+# Reader of a single CBOR data item, which keeps track of the offset of the next byte to be read.
+class CborReader {
+    private final byte[] bytes;
+    private int offset = 0;
+
+    isolated function init(byte[] bytes) {
+        self.bytes = bytes;
+    }
+
+    isolated function isAtEnd() returns boolean {
+        return self.offset == self.bytes.length();
+    }
+
+    isolated function read(int depth) returns json|error {
+        if depth > MAX_NESTING_DEPTH {
+            return error("CBOR data item exceeds the maximum nesting depth of " + MAX_NESTING_DEPTH.toString());
+        }
+        int initialByte = check self.readByte();
+        int major = initialByte >> 5;
+        int info = initialByte & 0x1f;
+        if major == MAJOR_SIMPLE {
+            return self.readSimple(info);
+        }
+        if info == INDEFINITE_LENGTH {
+            return self.readIndefinite(major, depth);
+        }
+        int argument = check self.readArgument(info);
+        if major == MAJOR_UNSIGNED {
+            return argument;
+        } else if major == MAJOR_NEGATIVE {
+            return -1 - argument;
+        } else if major == MAJOR_BYTES {
+            return self.readBytes(argument);
+        } else if major == MAJOR_TEXT {
+            return string:fromBytes(check self.readBytes(argument));
+        } else if major == MAJOR_ARRAY {
+            json[] members = [];
+            int index = 0;
+            while index < argument {
+                members.push(check self.read(depth + 1));
+                index += 1;
+            }
+            return members;
+        } else if major == MAJOR_MAP {
+            map<json> entries = {};
+            int index = 0;
+            while index < argument {
+                string key = check self.readKey(depth + 1);
+                entries[key] = check self.read(depth + 1);
+                index += 1;
+            }
+            return entries;
+        }
+        // Tags only add semantics to the data item which follows them, hence the data item is returned as it is
+        return self.read(depth + 1);
+    }
+
+    isolated function readIndefinite(int major, int depth) returns json|error {
+        if major == MAJOR_BYTES || major == MAJOR_TEXT {
+            byte[] chunks = [];
+            while !(check self.readBreak()) {
+                json chunk = check self.read(depth + 1);
+                if chunk is string && major == MAJOR_TEXT {
+                    chunks.push(...chunk.toBytes());
+                } else if chunk is byte[] && major == MAJOR_BYTES {
+                    chunks.push(...chunk);
+                } else {
+                    return error("Invalid chunk in an indefinite length CBOR string");
+                }
+            }
+            return major == MAJOR_TEXT ? string:fromBytes(chunks) : chunks;
+        } else if major == MAJOR_ARRAY {
+            json[] members = [];
+            while !(check self.readBreak()) {
+                members.push(check self.read(depth + 1));
+            }
+            return members;
+        } else if major == MAJOR_MAP {
+            map<json> entries = {};
+            while !(check self.readBreak()) {
+                string key = check self.readKey(depth + 1);
+                entries[key] = check self.read(depth + 1);
+            }
+            return entries;
+        }
+        return error("Invalid indefinite length CBOR data item of major type " + major.toString());
+    }
+
+    isolated function readSimple(int info) returns json|error {
+        if info == 20 {
+            return false;
+        } else if info == 21 {
+            return true;
+        } else if info == 22 || info == 23 {
+            return ();
+        } else if info == 25 {
+            return halfToFloat(check self.readUnsigned(2));
+        } else if info == 26 {
+            return singleToFloat(check self.readUnsigned(4));
+        } else if info == 27 {
+            return float:fromBitsInt(check self.readUnsigned(8));
+        }
+        return error("Unsupported CBOR simple value " + info.toString());
+    }
+
+    isolated function readKey(int depth) returns string|error {
+        json key = check self.read(depth);
+        return key is string ? key : key.toJsonString();
+    }
+
+    isolated function readArgument(int info) returns int|error {
+        if info < 24 {
+            return info;
+        }
+        int size;
+        if info == 24 {
+            size = 1;
+        } else if info == 25 {
+            size = 2;
+        } else if info == 26 {
+            size = 4;
+        } else if info == 27 {
+            size = 8;
+        } else {
+            return error("Invalid additional information " + info.toString() + " in a CBOR data item");
+        }
+        int argument = check self.readUnsigned(size);
+        if argument < 0 {
+            return error("CBOR integer exceeds the range of int");
+        }
+        return argument;
+    }
+
+    isolated function readUnsigned(int size) returns int|error {
+        int value = 0;
+        int index = 0;
+        while index < size {
+            int nextByte = check self.readByte();
+            value = (value << 8) | nextByte;
+            index += 1;
+        }
+        return value;
+    }
+
+    isolated function readBytes(int length) returns byte[]|error {
+        if length > self.bytes.length() - self.offset {
+            return error("Unexpected end of the CBOR data");
+        }
+        byte[] value = self.bytes.slice(self.offset, self.offset + length);
+        self.offset += length;
+        return value;
+    }
+
+    isolated function readByte() returns int|error {
+        if self.isAtEnd() {
+            return error("Unexpected end of the CBOR data");
+        }
+        int value = self.bytes[self.offset];
+        self.offset += 1;
+        return value;
+    }
+
+    isolated function readBreak() returns boolean|error {
+        if self.isAtEnd() {
+            return error("Unexpected end of the CBOR data");
+        }
+        if self.bytes[self.offset] == BREAK {
+            self.offset += 1;
+            return true;
+        }
+        return false;
+    }
+}
+
+isolated function halfToFloat(int bits) returns float {
+    int exponent = (bits >> 10) & 0x1f;
+    int mantissa = bits & 0x3ff;
+    float value;
+    if exponent == 0 {
+        value = <float>mantissa * float:pow(2.0, -24.0);
+    } else if exponent == 0x1f {
+        value = mantissa == 0 ? float:Infinity : float:NaN;
+    } else {
+        value = <float>(mantissa + 0x400) * float:pow(2.0, <float>(exponent - 25));
+    }
+    return ((bits >> 15) & 1) == 1 ? -value : value;
+}
+
+isolated function singleToFloat(int bits) returns float {
+    int exponent = (bits >> 23) & 0xff;
+    int mantissa = bits & 0x7fffff;
+    float value;
+    if exponent == 0 {
+        value = <float>mantissa * float:pow(2.0, -149.0);
+    } else if exponent == 0xff {
+        value = mantissa == 0 ? float:Infinity : float:NaN;
+    } else {
+        value = <float>(mantissa + 0x800000) * float:pow(2.0, <float>(exponent - 150));
+    }
+    return ((bits >> 31) & 1) == 1 ? -value : value;
+}
@@ -0,0 +1,204 @@
+// Copyright (c) 2022, WSO2 LLC. (http://www.wso2.com) All Rights Reserved.
+//
+// WSO2 Inc. licenses this file to you under the Apache License,
+// Version 2.0 (the "License"); you may not use this file except
+// in compliance with the License.
+// You may obtain a copy of the License at
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing,
+// software distributed under the License is distributed on an
+// "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+// KIND, either express or implied. See the License for the
+// specific language governing permissions and limitations
+// under the License.
+
+import ballerina/http;
+import ballerina/lang.runtime;
+
+# Represents the configurations of a client of a transformer service.
+#
+# + httpVersion - HTTP version of the connections, which are upgraded to HTTP/2 when the service supports it
+# + timeout - Maximum time in seconds to wait for a response
+# + maxActiveConnections - Maximum number of active connections, or -1 for no limit
+# + maxIdleConnections - Maximum number of idle connections kept alive in the pool
+# + retryCount - Maximum number of retries of a failed request
+# + retryInterval - Initial interval in seconds between the retries
+# + backOffFactor - Multiplier of the retry interval after each retry
+# + maxRetryInterval - Maximum interval in seconds between the retries
+# + coalesce - Whether concurrent calls of a transformer function are coalesced into requests to its batch resource
+# + maxBatchSize - Maximum number of calls coalesced into a single batch request
+# + maxBatchDelay - Maximum time in seconds a call waits for other calls to be coalesced with
+public type ClientConfiguration record {|
+    http:HttpVersion httpVersion = http:HTTP_2_0;
+    decimal timeout = 60;
+    int maxActiveConnections = -1;
+    int maxIdleConnections = 100;
+    int retryCount = 3;
+    decimal retryInterval = 0.1;
+    float backOffFactor = 2.0;
+    decimal maxRetryInterval = 2;
+    boolean coalesce = false;
+    int maxBatchSize = 64;
+    decimal maxBatchDelay = 0.002;
+|};
+
+# Returns an HTTP client for a transformer service, which keeps the connections alive in a pool and retries the
+# requests failed due to connection errors or the unavailability of an upstream gateway with an exponential back off.
+# Retrying is safe as transformer functions do not have side effects. The requests rejected by the concurrency limit
+# of a transformer function are not retried, as the back off of the client does not honour their Retry-After header.
+#
+# + url - URL of the transformer service
+# + config - Configurations of the client
+# + return - HTTP client, or an error if the client cannot be initialized
+public isolated function createHttpClient(string url, ClientConfiguration config) returns http:Client|error {
+    return new (url, {
+        httpVersion: config.httpVersion,
+        timeout: config.timeout,
+        http1Settings: {keepAlive: http:KEEPALIVE_ALWAYS},
+        poolConfig: {
+            maxActiveConnections: config.maxActiveConnections,
+            maxIdleConnections: config.maxIdleConnections
+        },
+        retryConfig: {
+            count: config.retryCount,
+            interval: config.retryInterval,
+            backOffFactor: config.backOffFactor,
+            maxWaitInterval: config.maxRetryInterval,
+            statusCodes: [http:STATUS_BAD_GATEWAY, http:STATUS_GATEWAY_TIMEOUT]
+        }
+    });
+}
+
+# Coalesces the concurrent calls of a transformer function into requests to its batch resource. The first call of a
+# batch waits for the other calls for a limited time and sends the batch, while a full batch is closed so that the
+# later calls are coalesced into the next batch. Each call then receives its own result from the response of the
+# batch, or the error of the batch request, which is bounded by the timeout and the retries of the client.
+public isolated class BatchCoalescer {
+    private final http:Client httpClient;
+    private final string path;
+    private final int maxBatchSize;
+    private final decimal maxBatchDelay;
+    private Batch? openBatch = ();
+    private int nextBatch = 0;
+    private final map<(json & readonly)[]> payloads = {};
+
+    # Initializes the batch coalescer.
+    #
+    # + httpClient - HTTP client of the transformer service
+    # + path - Path of the batch resource of the transformer function
+    # + maxBatchSize - Maximum number of calls coalesced into a single batch request
+    # + maxBatchDelay - Maximum time in seconds a call waits for other calls to be coalesced with
+    public isolated function init(http:Client httpClient, string path, int maxBatchSize, decimal maxBatchDelay) {
+        self.httpClient = httpClient;
+        self.path = path;
+        self.maxBatchSize = maxBatchSize;
+        self.maxBatchDelay = maxBatchDelay;
+    }
+
+    # Calls the transformer function as a part of a batch.
+    #
+    # + payload - Payload of the transformer function
+    # + return - Result of the transformer function, or an error if the call failed
+    public isolated function transform(json & readonly payload) returns json|error {
+        int number;
+        lock {
+            number = self.nextBatch;
+            self.nextBatch += 1;
+        }
+        Batch batch = new (number);
+        return batch.join(self, payload);
+    }
+
+    # Adds a call to the open batch, or opens the given batch with the call if no batch is open.
+    #
+    # + batch - Batch to be opened, which is already locked by the call
+    # + payload - Payload of the call
+    # + return - Batch of the call and the index of its result in the batch
+    isolated function add(Batch batch, json & readonly payload) returns [Batch, int] {
+        lock {
+            Batch openBatch = self.openBatch ?: batch;
+            string key = openBatch.number.toString();
+            (json & readonly)[] payloads = self.payloads[key] ?: [];
+            int index = payloads.length();
+            payloads.push(payload);
+            self.payloads[key] = payloads;
+            // A full batch is closed, hence the later calls are coalesced into the next batch
+            self.openBatch = payloads.length() < self.maxBatchSize ? openBatch : ();
+            return [openBatch, index];
+        }
+    }
+
+    # Sends a batch once the batch delay has elapsed.
+    #
+    # + batch - Batch to be sent
+    # + return - Results of the calls of the batch, or an error if the batch request failed
+    isolated function send(Batch batch) returns (json[] & readonly)|error {
+        runtime:sleep(self.maxBatchDelay);
+        json[] & readonly payloads;
+        lock {
+            if self.openBatch === batch {
+                self.openBatch = ();
+            }
+            payloads = (self.payloads.removeIfHasKey(batch.number.toString()) ?: []).cloneReadOnly();
+        }
+        json[] results = check self.httpClient->post(self.path, payloads);
+        return results.cloneReadOnly();
+    }
+}
+
+# Represents a batch of coalesced calls. The first call of the batch locks it before the batch is opened, and holds
+# the lock until the response of the batch is received. Hence the other calls of the batch wait on the lock for
+# their results instead of polling for them, and no longer than the request of the batch.
+isolated class Batch {
+    final int number;
+    private (json[] & readonly)|error results = error("The batch is not sent");
+
+    isolated function init(int number) {
+        self.number = number;
+    }
+
+    # Adds a call to the open batch of the coalescer, which is this batch if no batch is open.
+    #
+    # + coalescer - Batch coalescer of the transformer function
+    # + payload - Payload of the call
+    # + return - Result of the call, or an error if the call failed
+    isolated function join(BatchCoalescer coalescer, json & readonly payload) returns json|error {
+        Batch batch;
+        int index;
+        lock {
+            [batch, index] = coalescer.add(self, payload);
+            // The first call of this batch sends it while holding the lock
+            if index == 0 {
+                self.results = coalescer.send(self);
+            }
+        }
+        return batch.result(index);
+    }
+
+    isolated function result(int index) returns json|error {
+        (json[] & readonly)|error results;
+        lock {
+            results = self.results;
+        }
+        if results is error {
+            return results;
+        }
+        if index >= results.length() {
+            return error("The batch response does not have a result for the call");
+        }
+        return toCallResult(results[index]);
+    }
+}
+
+isolated function toCallResult(json & readonly batchResult) returns json|error {
+    if batchResult is map<json> {
+        json errorMessage = batchResult["error"];
+        if errorMessage is string {
+            return error(errorMessage);
+        }
+        return batchResult["result"];
+    }
+    return error("Invalid batch result: " + batchResult.toJsonString());
+}
@@ -0,0 +1,41 @@
+// Copyright (c) 2022, WSO2 LLC. (http://www.wso2.com) All Rights Reserved.
+//
+// WSO2 Inc. licenses this file to you under the Apache License,
+// Version 2.0 (the "License"); you may not use this file except
+// in compliance with the License.
+// You may obtain a copy of the License at
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing,
+// software distributed under the License is distributed on an
+// "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+// KIND, either express or implied. See the License for the
+// specific language governing permissions and limitations
+// under the License.
+
+import ballerina/lang.runtime;
+
+# Represents an error due to a transformer function not completing within its deadline.
+public type DeadlineExceededError distinct error;
+
+# Waits for the result of a transformer function running on its own strand, for at most the given deadline. If the
+# deadline is exceeded, the strand of the transformer function is left to complete on its own, so that it can still
+# release the resources it holds, such as its bulkhead permit. Its result is discarded.
+#
+# + result - Future of the result of the transformer function
+# + deadline - Maximum time in seconds to wait for the result
+# + return - Result of the transformer function, or a `DeadlineExceededError` if the deadline is exceeded
+public isolated function runWithDeadline(future<anydata|error> result, decimal deadline) returns anydata|error {
+    future<DeadlineExceededError> timer = start expireAfter(deadline);
+    anydata|error value = wait result | timer;
+    if value !is DeadlineExceededError {
+        timer.cancel();
+    }
+    return value;
+}
+
+isolated function expireAfter(decimal deadline) returns DeadlineExceededError {
+    runtime:sleep(deadline);
+    return error DeadlineExceededError(string `The transformer function did not complete within ${deadline} seconds`);
+}
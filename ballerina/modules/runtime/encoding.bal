@@ -0,0 +1,87 @@
+// Copyright (c) 2022, WSO2 LLC. (http://www.wso2.com) All Rights Reserved.
+//
+// WSO2 Inc. licenses this file to you under the Apache License,
+// Version 2.0 (the "License"); you may not use this file except
+// in compliance with the License.
+// You may obtain a copy of the License at
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing,
+// software distributed under the License is distributed on an
+// "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+// KIND, either express or implied. See the License for the
+// specific language governing permissions and limitations
+// under the License.
+
+# Media type of CBOR encoded payloads.
+public const string CBOR_MEDIA_TYPE = "application/cbor";
+# Media type of JSON encoded payloads.
+public const string JSON_MEDIA_TYPE = "application/json";
+
+# Represents an encoded response payload.
+#
+# + content - Encoded bytes of the payload
+# + contentType - Media type of the encoding
+public type EncodedPayload record {|
+    byte[] content;
+    string contentType;
+|};
+
+# Decodes a request payload into a value of the given type according to its content type, which is CBOR if the
+# media type is `application/cbor` and JSON otherwise. A JSON payload is parsed into the given type in a single step.
+#
+# + body - Bytes of the request payload
+# + contentType - Value of the `Content-Type` header of the request
+# + targetType - Type of the payload
+# + return - Decoded value, or an error if the payload is not well-formed or not of the given type
+public isolated function decodePayload(byte[] body, string contentType, typedesc<anydata> targetType)
+        returns anydata|error {
+    if getMediaType(contentType) == CBOR_MEDIA_TYPE {
+        return (check fromCbor(body)).fromJsonWithType(targetType);
+    }
+    return (check string:fromBytes(body)).fromJsonStringWithType(targetType);
+}
+
+# Encodes a response payload in CBOR if `application/cbor` is accepted by the client, and in JSON otherwise.
+#
+# + value - Value to be encoded
+# + accept - Value of the `Accept` header of the request
+# + return - Encoded payload along with its media type
+public isolated function encodePayload(anydata value, string accept) returns EncodedPayload {
+    if acceptsMediaType(accept, CBOR_MEDIA_TYPE) {
+        return {content: toCbor(value), contentType: CBOR_MEDIA_TYPE};
+    }
+    return {content: value.toJsonString().toBytes(), contentType: JSON_MEDIA_TYPE};
+}
+
+isolated function getMediaType(string headerValue) returns string {
+    int? paramsIndex = headerValue.indexOf(";");
+    string mediaType = paramsIndex is int ? headerValue.substring(0, paramsIndex) : headerValue;
+    return mediaType.trim().toLowerAscii();
+}
+
+# Checks whether the given media type is listed in an `Accept` header with a non-zero quality value. Wildcards are
+# not taken into account, so that JSON remains the encoding of clients which do not ask for CBOR explicitly.
+isolated function acceptsMediaType(string accept, string mediaType) returns boolean {
+    int offset = 0;
+    while offset <= accept.length() {
+        int? commaIndex = accept.indexOf(",", offset);
+        int endIndex = commaIndex is int ? commaIndex : accept.length();
+        string mediaRange = accept.substring(offset, endIndex);
+        if getMediaType(mediaRange) == mediaType && !hasZeroQuality(mediaRange) {
+            return true;
+        }
+        offset = endIndex + 1;
+    }
+    return false;
+}
+
+isolated function hasZeroQuality(string mediaRange) returns boolean {
+    int? qualityIndex = mediaRange.indexOf("q=");
+    if qualityIndex is () {
+        return false;
+    }
+    float|error quality = float:fromString(mediaRange.substring(qualityIndex + 2).trim());
+    return quality is float && quality == 0.0;
+}
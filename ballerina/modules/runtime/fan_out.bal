@@ -0,0 +1,47 @@
+// Copyright (c) 2022, WSO2 LLC. (http://www.wso2.com) All Rights Reserved.
+//
+// WSO2 Inc. licenses this file to you under the Apache License,
+// Version 2.0 (the "License"); you may not use this file except
+// in compliance with the License.
+// You may obtain a copy of the License at
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing,
+// software distributed under the License is distributed on an
+// "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+// KIND, either express or implied. See the License for the
+// specific language governing permissions and limitations
+// under the License.
+
+# Represents a request to run several transformer functions concurrently on the same payload.
+#
+# + transformers - Names of the transformer functions to be run
+# + payload - Payload of the transformer functions
+public type FanOutRequest record {|
+    string[] transformers;
+    json payload = ();
+|};
+
+# Validates the transformer functions of a fan-out request against the transformer functions which can be run
+# concurrently.
+#
+# + transformers - Names of the transformer functions to be run
+# + concurrentTransformers - Names of the transformer functions which can be run concurrently
+# + return - Reason for the request to be invalid, or nil if it is valid
+public isolated function validateFanOut(string[] transformers, string[] & readonly concurrentTransformers)
+        returns string? {
+    if transformers.length() == 0 {
+        return "A fan-out request should have at least one transformer function";
+    }
+    foreach int index in 0 ..< transformers.length() {
+        string transformerName = transformers[index];
+        if concurrentTransformers.indexOf(transformerName) is () {
+            return "Unknown or non-isolated transformer function: " + transformerName;
+        }
+        if transformers.indexOf(transformerName) != index {
+            return "Duplicate transformer function: " + transformerName;
+        }
+    }
+    return ();
+}
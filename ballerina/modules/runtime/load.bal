@@ -0,0 +1,90 @@
+// Copyright (c) 2022, WSO2 LLC. (http://www.wso2.com) All Rights Reserved.
+//
+// WSO2 Inc. licenses this file to you under the Apache License,
+// Version 2.0 (the "License"); you may not use this file except
+// in compliance with the License.
+// You may obtain a copy of the License at
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing,
+// software distributed under the License is distributed on an
+// "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+// KIND, either express or implied. See the License for the
+// specific language governing permissions and limitations
+// under the License.
+
+
+import ballerina/time;
+
+const decimal LATENCY_SMOOTHING_FACTOR = 0.2;
+
+# Represents the load of a transformer function.
+#
+# + inFlight - Number of executions in progress
+# + rejected - Number of executions rejected due to the lack of a permit, if the concurrent executions are limited
+# + requests - Number of executions started
+# + errors - Number of executions which failed
+# + recentLatency - Exponentially weighted moving average of the execution time in seconds, which favours the
+# recent executions
+public type TransformerStats record {|
+    int inFlight;
+    int rejected;
+    int requests;
+    int errors;
+    decimal recentLatency;
+|};
+
+# Tracks the executions of a transformer function, so that its load can be reported to a load balancer. Tracking an
+# execution costs a clock read and a short lock, hence it can be enabled on the hot path.
+public isolated class LoadTracker {
+    private int inFlight = 0;
+    private int requests = 0;
+    private int errors = 0;
+    private decimal recentLatency = 0;
+    private boolean hasLatency = false;
+
+    # Records the start of an execution.
+    #
+    # + return - Start time of the execution, which has to be passed to `end()` once the execution completes
+    public isolated function begin() returns decimal {
+        lock {
+            self.inFlight += 1;
+            self.requests += 1;
+        }
+        return time:monotonicNow();
+    }
+
+    # Records the end of an execution started using `begin()`.
+    #
+    # + startTime - Start time of the execution returned by `begin()`
+    # + failed - Whether the execution failed
+    public isolated function end(decimal startTime, boolean failed) {
+        decimal latency = time:monotonicNow() - startTime;
+        lock {
+            self.inFlight -= 1;
+            if failed {
+                self.errors += 1;
+            }
+            self.recentLatency = self.hasLatency ?
+                self.recentLatency + LATENCY_SMOOTHING_FACTOR * (latency - self.recentLatency) : latency;
+            self.hasLatency = true;
+        }
+    }
+
+    # Returns the load of the transformer function.
+    #
+    # + rejected - Number of executions rejected due to the lack of a permit
+    # + return - Load of the transformer function
+    public isolated function stats(int rejected = 0) returns TransformerStats {
+        lock {
+            return {
+                inFlight: self.inFlight,
+                rejected,
+                requests: self.requests,
+                errors: self.errors,
+                recentLatency: self.recentLatency
+            };
+        }
+    }
+}
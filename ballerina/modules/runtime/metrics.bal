@@ -0,0 +1,116 @@
+// Copyright (c) 2022, WSO2 LLC. (http://www.wso2.com) All Rights Reserved.
+//
+// WSO2 Inc. licenses this file to you under the Apache License,
+// Version 2.0 (the "License"); you may not use this file except
+// in compliance with the License.
+// You may obtain a copy of the License at
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing,
+// software distributed under the License is distributed on an
+// "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+// KIND, either express or implied. See the License for the
+// specific language governing permissions and limitations
+// under the License.
+
+import ballerina/observe;
+import ballerina/time;
+
+const string FUNCTION_TAG = "function";
+
+# Represents the phases of handling a request to a transformer resource.
+public enum Phase {
+    # Reading the request body and binding it to the arguments of the transformer function
+    BIND = "bind",
+    # Executing the transformer function
+    TRANSFORM = "transform",
+    # Serializing the result of the transformer function into the response
+    RESPOND = "respond"
+}
+
+# Metrics of a transformer function, which are published through the Ballerina observability metrics reporter
+# tagged with the name of the function.
+public isolated class TransformerMetrics {
+    private final observe:Counter requests;
+    private final observe:Counter errors;
+    private final observe:Gauge payloadSize;
+    private final observe:Gauge bindLatency;
+    private final observe:Gauge transformLatency;
+    private final observe:Gauge respondLatency;
+
+    # Initializes and registers the metrics of a transformer function.
+    #
+    # + functionName - Name of the transformer function
+    # + return - An error if the metrics could not be registered
+    public isolated function init(string functionName) returns error? {
+        map<string> tags = {[FUNCTION_TAG]: functionName};
+        self.requests = new ("transformer_requests_total", "Number of requests received", tags);
+        self.errors = new ("transformer_errors_total", "Number of requests which failed", tags);
+        self.payloadSize = new ("transformer_payload_size_bytes", "Size of the request payloads", tags);
+        self.bindLatency = new ("transformer_bind_seconds", "Time taken to bind the request payloads", tags);
+        self.transformLatency = new ("transformer_transform_seconds", "Time taken by the transformer function", tags);
+        self.respondLatency = new ("transformer_respond_seconds", "Time taken to serialize the responses", tags);
+        check self.requests.register();
+        check self.errors.register();
+        check self.payloadSize.register();
+        check self.bindLatency.register();
+        check self.transformLatency.register();
+        check self.respondLatency.register();
+    }
+
+    # Records a new request and returns the timer of its phases.
+    #
+    # + return - Timer which records the latency of each phase of the request
+    public isolated function startRequest() returns RequestTimer {
+        self.requests.increment();
+        return new (self);
+    }
+
+    isolated function recordError() {
+        self.errors.increment();
+    }
+
+    isolated function recordPayloadSize(int size) {
+        self.payloadSize.setValue(<float>size);
+    }
+
+    isolated function recordLatency(Phase phase, decimal seconds) {
+        observe:Gauge latency = phase == BIND ? self.bindLatency :
+            phase == TRANSFORM ? self.transformLatency : self.respondLatency;
+        latency.setValue(<float>seconds);
+    }
+}
+
+# Records the latency of the phases of a single request. Each phase is measured from the end of the previous phase,
+# or from the start of the request for the first phase.
+public class RequestTimer {
+    private final TransformerMetrics metrics;
+    private decimal phaseStart;
+
+    isolated function init(TransformerMetrics metrics) {
+        self.metrics = metrics;
+        self.phaseStart = time:monotonicNow();
+    }
+
+    # Records the size of the request payload.
+    #
+    # + size - Size of the request payload in bytes
+    public isolated function setPayloadSize(int size) {
+        self.metrics.recordPayloadSize(size);
+    }
+
+    # Records the latency of the given phase, which ends now.
+    #
+    # + phase - Phase which ended
+    public isolated function endPhase(Phase phase) {
+        decimal now = time:monotonicNow();
+        self.metrics.recordLatency(phase, now - self.phaseStart);
+        self.phaseStart = now;
+    }
+
+    # Records the request as a failed request.
+    public isolated function fail() {
+        self.metrics.recordError();
+    }
+}
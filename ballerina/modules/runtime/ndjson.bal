@@ -0,0 +1,101 @@
+// Copyright (c) 2022, WSO2 LLC. (http://www.wso2.com) All Rights Reserved.
+//
+// WSO2 Inc. licenses this file to you under the Apache License,
+// Version 2.0 (the "License"); you may not use this file except
+// in compliance with the License.
+// You may obtain a copy of the License at
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing,
+// software distributed under the License is distributed on an
+// "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+// KIND, either express or implied. See the License for the
+// specific language governing permissions and limitations
+// under the License.
+
+import ballerina/io;
+
+const byte NEWLINE = 10;
+
+# Represents a function which transforms a single value read from a newline-delimited JSON stream.
+public type NdjsonTransformFunction isolated function (json item) returns anydata|error;
+
+# Returns a byte stream which produces the results of applying the given function to each newline-delimited JSON
+# value of the source stream, as newline-delimited JSON. Lines are read and transformed only as the returned stream
+# is consumed, hence the memory usage does not depend on the size of the source stream.
+#
+# + source - Source byte stream of newline-delimited JSON values
+# + transform - Function to be applied to each JSON value of the source stream
+# + return - Byte stream of newline-delimited JSON results
+public isolated function transformNdjson(stream<byte[], io:Error?> source, NdjsonTransformFunction transform)
+        returns stream<byte[], io:Error?> {
+    NdjsonTransformer ndjsonTransformer = new (source, transform);
+    return new (ndjsonTransformer);
+}
+
+# Byte stream implementation which splits the source stream into lines and transforms each of them. A line which
+# fails to get transformed produces an `{"error": <message>}` line instead of terminating the stream.
+class NdjsonTransformer {
+    private final stream<byte[], io:Error?> source;
+    private final NdjsonTransformFunction transform;
+    private byte[] buffer = [];
+    private int offset = 0;
+    private int scanFrom = 0;
+    private boolean sourceEnded = false;
+
+    isolated function init(stream<byte[], io:Error?> source, NdjsonTransformFunction transform) {
+        self.source = source;
+        self.transform = transform;
+    }
+
+    public isolated function next() returns record {|byte[] value;|}|io:Error? {
+        while true {
+            int? newlineIndex = self.buffer.indexOf(NEWLINE, self.scanFrom);
+            if newlineIndex is int {
+                byte[] line = self.buffer.slice(self.offset, newlineIndex);
+                self.offset = newlineIndex + 1;
+                self.scanFrom = self.offset;
+                if line.length() > 0 {
+                    return {value: self.transformLine(line)};
+                }
+                continue;
+            }
+            self.scanFrom = self.buffer.length();
+            if self.sourceEnded {
+                if self.offset == self.buffer.length() {
+                    return;
+                }
+                byte[] line = self.buffer.slice(self.offset);
+                self.offset = self.buffer.length();
+                return {value: self.transformLine(line)};
+            }
+            record {|byte[] value;|}? chunk = check self.source.next();
+            if chunk is () {
+                self.sourceEnded = true;
+                continue;
+            }
+            // Drop the bytes of the lines which are already transformed before buffering the next chunk
+            byte[] unconsumed = self.buffer.slice(self.offset);
+            unconsumed.push(...chunk.value);
+            self.buffer = unconsumed;
+            self.scanFrom -= self.offset;
+            self.offset = 0;
+        }
+    }
+
+    public isolated function close() returns io:Error? {
+        return self.source.close();
+    }
+
+    isolated function transformLine(byte[] line) returns byte[] {
+        anydata|error result = trap self.applyTransform(line);
+        json output = result is error ? {"error": result.message()} : result.toJson();
+        return (output.toJsonString() + "\n").toBytes();
+    }
+
+    isolated function applyTransform(byte[] line) returns anydata|error {
+        string text = check string:fromBytes(line);
+        return self.transform(check text.fromJsonString());
+    }
+}
@@ -0,0 +1,55 @@
+// Copyright (c) 2022, WSO2 LLC. (http://www.wso2.com) All Rights Reserved.
+//
+// WSO2 Inc. licenses this file to you under the Apache License,
+// Version 2.0 (the "License"); you may not use this file except
+// in compliance with the License.
+// You may obtain a copy of the License at
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing,
+// software distributed under the License is distributed on an
+// "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+// KIND, either express or implied. See the License for the
+// specific language governing permissions and limitations
+// under the License.
+
+import ballerina/io;
+
+# Represents an error due to a payload exceeding the maximum payload size of a transformer function.
+public type PayloadTooLargeError distinct error;
+
+# Reads a payload of at most the given size. A payload which declares a larger `Content-Length` is rejected without
+# reading it, while a payload without a `Content-Length` is rejected as soon as the bytes read exceed the size, hence
+# an oversized payload is never buffered in full.
+#
+# + source - Byte stream of the payload
+# + contentLength - Value of the `Content-Length` header, or an error if the header is not present
+# + maxSize - Maximum size of the payload in bytes
+# + return - Bytes of the payload, a `PayloadTooLargeError` if the payload exceeds the size, or an error if the
+# payload cannot be read
+public isolated function readPayload(stream<byte[], io:Error?> source, string|error contentLength, int maxSize)
+        returns byte[]|PayloadTooLargeError|io:Error {
+    if contentLength is string {
+        int|error length = int:fromString(contentLength.trim());
+        if length is int && length > maxSize {
+            check source.close();
+            return payloadTooLarge(maxSize);
+        }
+    }
+    byte[] payload = [];
+    record {|byte[] value;|}? chunk = check source.next();
+    while chunk is record {|byte[] value;|} {
+        if payload.length() + chunk.value.length() > maxSize {
+            check source.close();
+            return payloadTooLarge(maxSize);
+        }
+        payload.push(...chunk.value);
+        chunk = check source.next();
+    }
+    return payload;
+}
+
+isolated function payloadTooLarge(int maxSize) returns PayloadTooLargeError {
+    return error PayloadTooLargeError(string `The payload exceeds the maximum payload size of ${maxSize} bytes`);
+}
@@ -0,0 +1,52 @@
+// Copyright (c) 2022, WSO2 LLC. (http://www.wso2.com) All Rights Reserved.
+//
+// WSO2 Inc. licenses this file to you under the Apache License,
+// Version 2.0 (the "License"); you may not use this file except
+// in compliance with the License.
+// You may obtain a copy of the License at
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing,
+// software distributed under the License is distributed on an
+// "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+// KIND, either express or implied. See the License for the
+// specific language governing permissions and limitations
+// under the License.
+
+# Represents a request to run a pipeline of transformer functions, where the result of each transformer function
+# is passed to the next one.
+#
+# + transformers - Names of the transformer functions in the order they are to be run
+# + payload - Payload of the first transformer function
+public type PipelineRequest record {|
+    string[] transformers;
+    json payload = ();
+|};
+
+# Represents an error in binding the payload of a transformer function.
+public type PayloadBindingError distinct error;
+
+# Validates the transformer functions of a pipeline against the transformer functions which can receive the result
+# of each transformer function.
+#
+# + transformers - Names of the transformer functions in the order they are to be run
+# + successors - Names of the transformer functions which can receive the result of each transformer function
+# + return - Reason for the pipeline to be invalid, or nil if it is valid
+public isolated function validatePipeline(string[] transformers, map<string[]> & readonly successors)
+        returns string? {
+    if transformers.length() == 0 {
+        return "A pipeline should have at least one transformer function";
+    }
+    if !successors.hasKey(transformers[0]) {
+        return "Unknown transformer function: " + transformers[0];
+    }
+    foreach int index in 1 ..< transformers.length() {
+        string[]? nextTransformers = successors[transformers[index - 1]];
+        if nextTransformers is () || nextTransformers.indexOf(transformers[index]) is () {
+            return string `The result of the transformer function ${transformers[index - 1]} cannot be passed to ` +
+                string `the transformer function ${transformers[index]}`;
+        }
+    }
+    return ();
+}
@@ -0,0 +1,119 @@
+// Copyright (c) 2022, WSO2 LLC. (http://www.wso2.com) All Rights Reserved.
+//
+// WSO2 Inc. licenses this file to you under the Apache License,
+// Version 2.0 (the "License"); you may not use this file except
+// in compliance with the License.
+// You may obtain a copy of the License at
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing,
+// software distributed under the License is distributed on an
+// "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+// KIND, either express or implied. See the License for the
+// specific language governing permissions and limitations
+// under the License.
+
+import ballerina/cache;
+
+const float EVICTION_FACTOR = 0.25;
+
+# Represents the statistics of a response cache.
+#
+# + hits - Number of lookups which found a cached result
+# + misses - Number of lookups which did not find a cached result
+# + evictions - Number of cached results evicted to make space for new results
+public type ResponseCacheStats record {|
+    int hits;
+    int misses;
+    int evictions;
+|};
+
+# A bounded cache of transformer results, which evicts the least recently used results when it is full and
+# expires the results after a given age.
+public isolated class ResponseCache {
+    private final cache:Cache cache;
+    private int hits = 0;
+    private int misses = 0;
+    private int evictions = 0;
+
+    # Initializes the response cache.
+    #
+    # + capacity - Maximum number of results to be cached
+    # + maxAge - Maximum age of a cached result in seconds
+    public isolated function init(int capacity, decimal maxAge) {
+        self.cache = new ({
+            capacity,
+            evictionFactor: EVICTION_FACTOR,
+            defaultMaxAge: maxAge,
+            cleanupInterval: maxAge
+        });
+    }
+
+    # Returns the cached result for the given key.
+    #
+    # + key - Canonical key of the payload
+    # + return - Cached result, or `()` if there is no cached result for the key
+    public isolated function get(string key) returns anydata {
+        any|error cached = self.cache.get(key);
+        if cached is anydata {
+            lock {
+                self.hits += 1;
+            }
+            return cached;
+        }
+        lock {
+            self.misses += 1;
+        }
+        return ();
+    }
+
+    # Caches the given result against the key. A `()` result is not cached, as it cannot be told apart from a
+    # cache miss.
+    #
+    # + key - Canonical key of the payload
+    # + value - Result to be cached
+    public isolated function put(string key, anydata & readonly value) {
+        if value is () {
+            return;
+        }
+        lock {
+            boolean isCached = self.cache.hasKey(key);
+            int sizeBeforePut = self.cache.size();
+            if self.cache.put(key, value) is error {
+                return;
+            }
+            if !isCached {
+                self.evictions += sizeBeforePut + 1 - self.cache.size();
+            }
+        }
+    }
+
+    # Returns the statistics of the cache.
+    #
+    # + return - Hit, miss and eviction counts of the cache
+    public isolated function stats() returns ResponseCacheStats {
+        lock {
+            return {hits: self.hits, misses: self.misses, evictions: self.evictions};
+        }
+    }
+}
+
+# Returns the canonical cache key of the given arguments. The fields of the mappings are written in the order of
+# their names, so that the key does not depend on the order of the fields in the request.
+#
+# + value - Arguments of a transformer function call
+# + return - Canonical key of the arguments
+public isolated function cacheKey(anydata value) returns string {
+    if value is map<anydata> {
+        string[] fields = from string fieldName in value.keys().sort()
+            select fieldName.toJsonString() + ":" + cacheKey(value.get(fieldName));
+        return "{" + string:'join(",", ...fields) + "}";
+    }
+    if value is anydata[] {
+        string[] members = from anydata member in value
+            select cacheKey(member);
+        return "[" + string:'join(",", ...members) + "]";
+    }
+    return value.toBalString();
+}
@@ -0,0 +1,86 @@
+// Copyright (c) 2022, WSO2 LLC. (http://www.wso2.com) All Rights Reserved.
+//
+// WSO2 Inc. licenses this file to you under the Apache License,
+// Version 2.0 (the "License"); you may not use this file except
+// in compliance with the License.
+// You may obtain a copy of the License at
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing,
+// software distributed under the License is distributed on an
+// "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+// KIND, either express or implied. See the License for the
+// specific language governing permissions and limitations
+// under the License.
+
+
+import ballerina/io;
+
+const int RESULT_CHUNK_SIZE = 8192;
+
+# Returns a byte stream which serializes the values of the given stream either as a JSON array or as
+# newline-delimited JSON. Values are read and serialized only as the returned stream is consumed, and are written in
+# chunks of about 8 KiB, hence the memory usage does not depend on the number of values.
+#
+# + values - Stream of the values to be serialized
+# + ndjson - Whether the values to be serialized as newline-delimited JSON instead of a JSON array
+# + return - Byte stream of the serialized values
+public isolated function streamResults(stream<anydata, error?> values, boolean ndjson = false)
+        returns stream<byte[], io:Error?> {
+    ResultSerializer resultSerializer = new (values, ndjson);
+    return new (resultSerializer);
+}
+
+# Byte stream implementation which serializes the values of a stream. The response is already committed once the
+# first chunk is written, therefore a failure of the source stream produces an `{"error": <message>}` value and ends
+# the serialized values instead of terminating the stream.
+class ResultSerializer {
+    private final stream<anydata, error?> values;
+    private final boolean ndjson;
+    private boolean started = false;
+    private boolean ended = false;
+
+    isolated function init(stream<anydata, error?> values, boolean ndjson) {
+        self.values = values;
+        self.ndjson = ndjson;
+    }
+
+    public isolated function next() returns record {|byte[] value;|}|io:Error? {
+        if self.ended {
+            return;
+        }
+        byte[] chunk = [];
+        if !self.started && !self.ndjson {
+            chunk.push(...("[").toBytes());
+        }
+        while chunk.length() < RESULT_CHUNK_SIZE {
+            record {|anydata value;|}|error? next = self.values.next();
+            if next is () {
+                self.ended = true;
+                break;
+            }
+            json item = next is error ? {"error": next.message()} : next.value.toJson();
+            if self.started && !self.ndjson {
+                chunk.push(...(",").toBytes());
+            }
+            chunk.push(...(self.ndjson ? item.toJsonString() + "\n" : item.toJsonString()).toBytes());
+            self.started = true;
+            if next is error {
+                self.ended = true;
+                break;
+            }
+        }
+        if self.ended && !self.ndjson {
+            chunk.push(...("]").toBytes());
+        }
+        return {value: chunk};
+    }
+
+    public isolated function close() returns io:Error? {
+        error? result = self.values.close();
+        if result is error {
+            return error io:GenericError(result.message(), result);
+        }
+    }
+}
@@ -17,20 +17,32 @@
  */
 package io.ballerina.transformer.test;
 
+import io.ballerina.compiler.syntax.tree.SyntaxTree;
 import io.ballerina.projects.CodeGeneratorResult;
 import io.ballerina.projects.DiagnosticResult;
+import io.ballerina.projects.Document;
+import io.ballerina.projects.DocumentId;
+import io.ballerina.projects.Module;
 import io.ballerina.projects.Package;
 import io.ballerina.projects.ProjectEnvironmentBuilder;
 import io.ballerina.projects.directory.BuildProject;
 import io.ballerina.projects.environment.Environment;
 import io.ballerina.projects.environment.EnvironmentBuilder;
 import io.ballerina.tools.diagnostics.Diagnostic;
+import io.ballerina.tools.text.TextDocuments;
 import io.ballerina.transformer.plugin.diagnostic.DiagnosticMessage;
 import org.testng.Assert;
 import org.testng.annotations.Test;
 
+import java.io.IOException;
+import java.lang.reflect.Method;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.Comparator;
+import java.util.Optional;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 /**
  * This class includes integration tests for Ballerina Transformer compiler plugin.
@@ -41,6 +53,7 @@ public class CompilerPluginTests {
             .toAbsolutePath();
     private static final Path DISTRIBUTION_PATH = Paths.get("../", "target", "ballerina-runtime")
             .toAbsolutePath();
+    private static final String CLIENT_MODULE_NAME = "api";
 
     private Package loadPackage(String path) {
         Path projectDirPath = RESOURCE_DIRECTORY.resolve(path);
@@ -59,6 +72,82 @@ public class CompilerPluginTests {
         Assert.assertEquals(diagnostic.diagnosticInfo().code(), diagnosticMessage.getCode());
     }
 
+    private int getCompilationStateCount() {
+        try {
+            Method sizeMethod = Class.forName("io.ballerina.transformer.plugin.CompilationState")
+                    .getDeclaredMethod("size");
+            sizeMethod.setAccessible(true);
+            return (int) sizeMethod.invoke(null);
+        } catch (ReflectiveOperationException e) {
+            Assert.fail("Compilation states of the compiler plugin cannot be read", e);
+            return -1;
+        }
+    }
+
+    private long getGeneratedSourceReuseCount() {
+        try {
+            Method reuseCountMethod = Class.forName("io.ballerina.transformer.plugin.GeneratedSourceCache")
+                    .getDeclaredMethod("getReuseCount");
+            reuseCountMethod.setAccessible(true);
+            return (long) reuseCountMethod.invoke(null);
+        } catch (ReflectiveOperationException e) {
+            Assert.fail("Generated source cache of the compiler plugin cannot be read", e);
+            return -1;
+        }
+    }
+
+    private long getPackageIndexBuildCount() {
+        try {
+            Method buildCountMethod = Class.forName("io.ballerina.transformer.plugin.PackageIndex")
+                    .getDeclaredMethod("getBuildCount");
+            buildCountMethod.setAccessible(true);
+            return (long) buildCountMethod.invoke(null);
+        } catch (ReflectiveOperationException e) {
+            Assert.fail("Package indexes of the compiler plugin cannot be read", e);
+            return -1;
+        }
+    }
+
+    private void assertGeneratedCodeCompiles(CodeGeneratorResult codeGenResult) {
+        Assert.assertTrue(codeGenResult.updatedPackage().isPresent());
+        // The package is compiled along with the generated service and client modules
+        DiagnosticResult diagnosticResult = codeGenResult.updatedPackage().get().getCompilation().diagnosticResult();
+        Assert.assertEquals(diagnosticResult.errorCount(), 0, diagnosticResult.errors().toString());
+    }
+
+    private String getGeneratedServiceSource(CodeGeneratorResult codeGenResult) {
+        Assert.assertTrue(codeGenResult.updatedPackage().isPresent());
+        return getGeneratedSource(codeGenResult.updatedPackage().get().getDefaultModule(), "service");
+    }
+
+    private String getGeneratedClientSource(CodeGeneratorResult codeGenResult) {
+        Assert.assertTrue(codeGenResult.updatedPackage().isPresent());
+        for (Module module : codeGenResult.updatedPackage().get().modules()) {
+            if (CLIENT_MODULE_NAME.equals(module.moduleName().moduleNamePart())) {
+                return getGeneratedSource(module, "client");
+            }
+        }
+        Assert.fail("Client module " + CLIENT_MODULE_NAME + " not found");
+        return null;
+    }
+
+    private String getGeneratedSource(Module module, String fileNamePrefix) {
+        Optional<String> source = findGeneratedSource(module, fileNamePrefix);
+        Assert.assertTrue(source.isPresent(), "Generated " + fileNamePrefix + " source not found in the module " +
+                module.moduleName());
+        return source.get();
+    }
+
+    private Optional<String> findGeneratedSource(Module module, String fileNamePrefix) {
+        for (DocumentId documentId : module.documentIds()) {
+            Document document = module.document(documentId);
+            if (document.name().startsWith(fileNamePrefix)) {
+                return Optional.of(document.syntaxTree().toSourceCode());
+            }
+        }
+        return Optional.empty();
+    }
+
     @Test
     public void testForAnnotatedFunctions() {
         Package currentPackage = loadPackage("sample_package_0");
@@ -180,4 +269,734 @@ public class CompilerPluginTests {
         Assert.assertEquals(diagnosticResult.errorCount(), 0);
         Assert.assertEquals(diagnosticResult.hintCount(), 2);
     }
+
+    @Test
+    public void testForIsolatedServiceGeneration() {
+        Package currentPackage = loadPackage("sample_package_12");
+        CodeGeneratorResult codeGenResult = currentPackage.runCodeGeneratorPlugins();
+        DiagnosticResult diagnosticResult = codeGenResult.reportedDiagnostics();
+        Assert.assertEquals(diagnosticResult.errorCount(), 0);
+        Assert.assertEquals(diagnosticResult.hintCount(), 0);
+        assertGeneratedCodeCompiles(codeGenResult);
+
+        // Requests are dispatched concurrently only if both the service and its resource functions are isolated
+        String serviceSource = getGeneratedServiceSource(codeGenResult);
+        Assert.assertTrue(serviceSource.contains("isolated service / on new http:Listener"));
+        Assert.assertTrue(serviceSource.contains("isolated resource function post helloWorld("));
+        Assert.assertTrue(serviceSource.contains("isolated resource function post fullName("));
+        Assert.assertTrue(serviceSource.contains("isolated resource function post greetAll("));
+    }
+
+    @Test
+    public void testForServiceGenerationWithNonIsolatedFunctions() {
+        Package currentPackage = loadPackage("sample_package_7");
+        CodeGeneratorResult codeGenResult = currentPackage.runCodeGeneratorPlugins();
+        assertGeneratedCodeCompiles(codeGenResult);
+
+        String serviceSource = getGeneratedServiceSource(codeGenResult);
+        Assert.assertFalse(serviceSource.contains("isolated service"));
+        Assert.assertTrue(serviceSource.contains("isolated resource function post helloWorld("));
+        Assert.assertFalse(serviceSource.contains("isolated resource function post helloWorld3("));
+        Assert.assertTrue(serviceSource.contains("resource function post helloWorld3("));
+        Assert.assertFalse(serviceSource.contains("post helloWorld3/ndjson"));
+        Assert.assertTrue(serviceSource.contains("configurable int port = 8080;"));
+        Assert.assertFalse(serviceSource.contains("socketConfig"));
+    }
+
+    @Test
+    public void testForBatchResourceGeneration() {
+        Package currentPackage = loadPackage("sample_package_12");
+        CodeGeneratorResult codeGenResult = currentPackage.runCodeGeneratorPlugins();
+        assertGeneratedCodeCompiles(codeGenResult);
+
+        String serviceSource = getGeneratedServiceSource(codeGenResult);
+        Assert.assertTrue(serviceSource.contains("isolated resource function post helloWorld/batch(" +
+                "@http:Payload helloWorldPayload[] payloads) returns helloWorldBatchResult[]"));
+        Assert.assertTrue(serviceSource.contains("isolated resource function post fullName/batch("));
+        Assert.assertTrue(serviceSource.contains("public type helloWorldBatchResult record {|"));
+        Assert.assertTrue(serviceSource.contains("string|error result = trap helloWorld(payload.firstName);"));
+    }
+
+    @Test
+    public void testForNdjsonResourceGeneration() {
+        Package currentPackage = loadPackage("sample_package_12");
+        CodeGeneratorResult codeGenResult = currentPackage.runCodeGeneratorPlugins();
+        assertGeneratedCodeCompiles(codeGenResult);
+
+        String serviceSource = getGeneratedServiceSource(codeGenResult);
+        Assert.assertTrue(serviceSource.contains("import ballerinax/transformer.runtime as transformer;"));
+        Assert.assertTrue(serviceSource.contains("isolated resource function post helloWorld/ndjson(" +
+                "http:Request request) returns http:Response|error"));
+        Assert.assertTrue(serviceSource.contains("transformer:transformNdjson(check request.getByteStream()"));
+    }
+
+    @Test
+    public void testForListenerConfigurationsInBallerinaToml() {
+        Package currentPackage = loadPackage("sample_package_13");
+        CodeGeneratorResult codeGenResult = currentPackage.runCodeGeneratorPlugins();
+        DiagnosticResult diagnosticResult = codeGenResult.reportedDiagnostics();
+        Assert.assertEquals(diagnosticResult.errorCount(), 0);
+        Assert.assertEquals(diagnosticResult.warningCount(), 1);
+        Diagnostic diagnostic = (Diagnostic) diagnosticResult.warnings().toArray()[0];
+        Assert.assertEquals(diagnostic.diagnosticInfo().code(), DiagnosticMessage.WARNING_100.getCode());
+        assertGeneratedCodeCompiles(codeGenResult);
+
+        String serviceSource = getGeneratedServiceSource(codeGenResult);
+        Assert.assertTrue(serviceSource.contains("configurable int port = 9090;"));
+        Assert.assertTrue(serviceSource.contains("configurable string httpVersion = \"2.0\";"));
+        Assert.assertTrue(serviceSource.contains("configurable string keepAlive = \"ALWAYS\";"));
+        Assert.assertTrue(serviceSource.contains("configurable decimal timeout = 30.5;"));
+        Assert.assertTrue(serviceSource.contains("configurable int maxHeaderSize = 8192;"));
+        Assert.assertTrue(serviceSource.contains("configurable int maxEntityBodySize = 1048576;"));
+        Assert.assertTrue(serviceSource.contains("configurable int backlog = 1024;"));
+        Assert.assertTrue(serviceSource.contains("socketConfig: {soBackLog: backlog}"));
+        Assert.assertTrue(serviceSource.contains("new http:Listener(port, listenerConfig)"));
+    }
+
+    @Test
+    public void testForResponseCacheGeneration() {
+        Package currentPackage = loadPackage("sample_package_14");
+        CodeGeneratorResult codeGenResult = currentPackage.runCodeGeneratorPlugins();
+        DiagnosticResult diagnosticResult = codeGenResult.reportedDiagnostics();
+        Assert.assertEquals(diagnosticResult.errorCount(), 0);
+        // Cache capacities and maximum ages which are not positive fall back to the default values
+        Assert.assertEquals(diagnosticResult.warningCount(), 2);
+        diagnosticResult.warnings().forEach(diagnostic -> Assert.assertEquals(diagnostic.diagnosticInfo().code(),
+                DiagnosticMessage.WARNING_102.getCode()));
+        assertGeneratedCodeCompiles(codeGenResult);
+
+        String serviceSource = getGeneratedServiceSource(codeGenResult);
+        Assert.assertTrue(serviceSource.contains("import ballerinax/transformer.runtime as transformer;"));
+        Assert.assertTrue(serviceSource.contains("final transformer:ResponseCache fullNameCache = new (256, 60);"));
+        Assert.assertTrue(serviceSource.contains("final transformer:ResponseCache lastNameCache = new (1024, 300);"));
+        Assert.assertTrue(serviceSource.contains("string cacheKey = transformer:cacheKey([payload.person]);"));
+        Assert.assertTrue(serviceSource.contains("anydata cached = fullNameCache.get(cacheKey);"));
+        Assert.assertTrue(serviceSource.contains("fullNameCache.put(cacheKey, result.cloneReadOnly());"));
+        Assert.assertTrue(serviceSource.contains("resource function get _cache() " +
+                "returns map<transformer:ResponseCacheStats>"));
+        Assert.assertTrue(serviceSource.contains("\"fullName\": fullNameCache.stats()"));
+        // Results of non isolated transformer functions and the ones without cache configurations are not cached
+        Assert.assertFalse(serviceSource.contains("greetingCache"));
+        Assert.assertFalse(serviceSource.contains("initialsCache"));
+    }
+
+    @Test
+    public void testForMetricsGeneration() {
+        Package currentPackage = loadPackage("sample_package_15");
+        CodeGeneratorResult codeGenResult = currentPackage.runCodeGeneratorPlugins();
+        DiagnosticResult diagnosticResult = codeGenResult.reportedDiagnostics();
+        Assert.assertEquals(diagnosticResult.errorCount(), 0);
+        assertGeneratedCodeCompiles(codeGenResult);
+
+        String serviceSource = getGeneratedServiceSource(codeGenResult);
+        Assert.assertTrue(serviceSource.contains("final transformer:TransformerMetrics fullNameMetrics = " +
+                "check new (\"fullName\");"));
+        Assert.assertTrue(serviceSource.contains("isolated resource function post fullName(http:Request request) " +
+                "returns http:Response|http:BadRequest|error"));
+        Assert.assertTrue(serviceSource.contains("transformer:RequestTimer timer = fullNameMetrics.startRequest();"));
+        Assert.assertTrue(serviceSource.contains("timer.endPhase(transformer:BIND);"));
+        Assert.assertTrue(serviceSource.contains("timer.endPhase(transformer:TRANSFORM);"));
+        Assert.assertTrue(serviceSource.contains("timer.endPhase(transformer:RESPOND);"));
+        Assert.assertTrue(serviceSource.contains("fullNameCache.put(cacheKey, result.cloneReadOnly());"));
+        Assert.assertTrue(serviceSource.contains("response.statusCode = http:STATUS_ACCEPTED;"));
+        // Metrics can be disabled per transformer function
+        Assert.assertFalse(serviceSource.contains("initialsMetrics"));
+        Assert.assertTrue(serviceSource.contains("isolated resource function post initials(@http:Payload " +
+                "initialsPayload payload)"));
+    }
+
+    @Test
+    public void testForDirectPayloadBinding() {
+        Package currentPackage = loadPackage("sample_package_16");
+        CodeGeneratorResult codeGenResult = currentPackage.runCodeGeneratorPlugins();
+        DiagnosticResult diagnosticResult = codeGenResult.reportedDiagnostics();
+        Assert.assertEquals(diagnosticResult.errorCount(), 0);
+        assertGeneratedCodeCompiles(codeGenResult);
+
+        String serviceSource = getGeneratedServiceSource(codeGenResult);
+        Assert.assertTrue(serviceSource.contains("resource function post helloWorld(@http:Payload string payload)"));
+        Assert.assertTrue(serviceSource.contains("return helloWorld(payload);"));
+        Assert.assertTrue(serviceSource.contains("resource function post fullName(@http:Payload Person payload)"));
+        Assert.assertTrue(serviceSource.contains("return fullName(payload);"));
+        // Functions with multiple parameters and the batch resources still bind to the payload records
+        Assert.assertTrue(serviceSource.contains("resource function post join(@http:Payload joinPayload payload)"));
+        Assert.assertTrue(serviceSource.contains("helloWorld/batch(@http:Payload helloWorldPayload[] payloads)"));
+    }
+
+    @Test
+    public void testForCborNegotiation() {
+        Package currentPackage = loadPackage("sample_package_17");
+        CodeGeneratorResult codeGenResult = currentPackage.runCodeGeneratorPlugins();
+        DiagnosticResult diagnosticResult = codeGenResult.reportedDiagnostics();
+        Assert.assertEquals(diagnosticResult.errorCount(), 0);
+        assertGeneratedCodeCompiles(codeGenResult);
+
+        String serviceSource = getGeneratedServiceSource(codeGenResult);
+        Assert.assertTrue(serviceSource.contains("isolated resource function post fullName(http:Request request) " +
+                "returns http:Response|http:BadRequest|error"));
+        Assert.assertTrue(serviceSource.contains("transformer:decodePayload(body, request.getContentType(), " +
+                "fullNamePayload);"));
+        Assert.assertTrue(serviceSource.contains("payloadValue.ensureType(fullNamePayload)"));
+        Assert.assertFalse(serviceSource.contains("payloadValue.cloneWithType"));
+        Assert.assertTrue(serviceSource.contains("isolated resource function post greeting(http:Request request) " +
+                "returns http:Response|http:BadRequest|error"));
+        Assert.assertTrue(serviceSource.contains("response.setBinaryPayload(encoded.content, encoded.contentType);"));
+        // Metrics are not recorded unless they are enabled
+        Assert.assertFalse(serviceSource.contains("timer"));
+    }
+
+    @Test
+    public void testForCompressionThreshold() {
+        Package currentPackage = loadPackage("sample_package_18");
+        CodeGeneratorResult codeGenResult = currentPackage.runCodeGeneratorPlugins();
+        DiagnosticResult diagnosticResult = codeGenResult.reportedDiagnostics();
+        Assert.assertEquals(diagnosticResult.errorCount(), 0);
+        assertGeneratedCodeCompiles(codeGenResult);
+
+        String serviceSource = getGeneratedServiceSource(codeGenResult);
+        Assert.assertTrue(serviceSource.contains("configurable string compression = \"ALWAYS\";"));
+        Assert.assertTrue(serviceSource.contains("configurable int compressionThreshold = 2048;"));
+        Assert.assertTrue(serviceSource.contains("@http:ServiceConfig {compression: compressionConfig}"));
+        Assert.assertTrue(serviceSource.contains("isolated resource function post fullNames(http:Request request) " +
+                "returns http:Response|http:BadRequest|error"));
+        Assert.assertTrue(serviceSource.contains("if content.length() < compressionThreshold {"));
+        Assert.assertTrue(serviceSource.contains("response.setHeader(\"Content-Encoding\", \"identity\");"));
+    }
+
+    @Test
+    public void testForInvalidCompressionThreshold() {
+        Package currentPackage = loadPackage("sample_package_38");
+        CodeGeneratorResult codeGenResult = currentPackage.runCodeGeneratorPlugins();
+        DiagnosticResult diagnosticResult = codeGenResult.reportedDiagnostics();
+        Assert.assertEquals(diagnosticResult.errorCount(), 0);
+        // Compression thresholds which are not positive integers are ignored
+        Assert.assertEquals(diagnosticResult.warningCount(), 1);
+        Diagnostic diagnostic = (Diagnostic) diagnosticResult.warnings().toArray()[0];
+        Assert.assertEquals(diagnostic.diagnosticInfo().code(), DiagnosticMessage.WARNING_102.getCode());
+        assertGeneratedCodeCompiles(codeGenResult);
+
+        String serviceSource = getGeneratedServiceSource(codeGenResult);
+        Assert.assertTrue(serviceSource.contains("configurable string compression = \"ALWAYS\";"));
+        Assert.assertFalse(serviceSource.contains("compressionThreshold"));
+        Assert.assertTrue(serviceSource.contains("isolated resource function post fullNames(@http:Payload " +
+                "fullNamesPayload payload)"));
+    }
+
+    @Test
+    public void testForBulkheadGeneration() {
+        Package currentPackage = loadPackage("sample_package_19");
+        CodeGeneratorResult codeGenResult = currentPackage.runCodeGeneratorPlugins();
+        DiagnosticResult diagnosticResult = codeGenResult.reportedDiagnostics();
+        Assert.assertEquals(diagnosticResult.errorCount(), 0);
+        // Concurrency limits which are not positive integers are ignored, while such retry intervals fall back
+        Assert.assertEquals(diagnosticResult.warningCount(), 4);
+        Assert.assertEquals(diagnosticResult.warnings().stream().filter(diagnostic ->
+                diagnostic.diagnosticInfo().code().equals(DiagnosticMessage.WARNING_102.getCode())).count(), 3);
+        // The wait queue of the bulkheads is no longer supported
+        Assert.assertEquals(diagnosticResult.warnings().stream().filter(diagnostic ->
+                diagnostic.diagnosticInfo().code().equals(DiagnosticMessage.WARNING_104.getCode())).count(), 1);
+        assertGeneratedCodeCompiles(codeGenResult);
+
+        String serviceSource = getGeneratedServiceSource(codeGenResult);
+        Assert.assertTrue(serviceSource.contains("final transformer:Bulkhead fullNameBulkhead = new (4);"));
+        Assert.assertTrue(serviceSource.contains("isolated resource function post fullName(@http:Payload " +
+                "fullNamePayload payload) returns string|error|http:ServiceUnavailable"));
+        Assert.assertTrue(serviceSource.contains("if !fullNameBulkhead.acquire() {"));
+        Assert.assertTrue(serviceSource.contains("return <http:ServiceUnavailable>{headers: " +
+                "{\"Retry-After\": \"2\"}};"));
+        Assert.assertTrue(serviceSource.contains("final transformer:Bulkhead initialsBulkhead = new (2);"));
+        Assert.assertTrue(serviceSource.contains("return <http:ServiceUnavailable>{headers: " +
+                "{\"Retry-After\": \"1\"}};"));
+        Assert.assertTrue(serviceSource.contains("fullNameBulkhead.release();"));
+        Assert.assertTrue(serviceSource.contains("returns fullNameBatchResult[]|http:ServiceUnavailable"));
+        // Transformer functions without the concurrency limits are not affected
+        Assert.assertFalse(serviceSource.contains("firstNameBulkhead"));
+        Assert.assertFalse(serviceSource.contains("lastNameBulkhead"));
+    }
+
+    @Test
+    public void testForWarmUpGeneration() {
+        Package currentPackage = loadPackage("sample_package_20");
+        CodeGeneratorResult codeGenResult = currentPackage.runCodeGeneratorPlugins();
+        DiagnosticResult diagnosticResult = codeGenResult.reportedDiagnostics();
+        Assert.assertEquals(diagnosticResult.errorCount(), 0);
+        assertGeneratedCodeCompiles(codeGenResult);
+
+        String serviceSource = getGeneratedServiceSource(codeGenResult);
+        Assert.assertTrue(serviceSource.contains("configurable int warmUpIterations = 1000;"));
+        Assert.assertTrue(serviceSource.contains("final int warmedUpIterations = warmUpTransformers();"));
+        Assert.assertTrue(serviceSource.contains("json fullNameSample = {\"person\": {\"firstName\": \"sample\", " +
+                "\"lastName\": \"sample\"}};"));
+        Assert.assertTrue(serviceSource.contains("json sumSample = {\"values\": [1, 1, 1]};"));
+        Assert.assertTrue(serviceSource.contains("fullNamePayload|error fullNameArgs = " +
+                "fullNameSample.fromJsonWithType(fullNamePayload);"));
+        Assert.assertTrue(serviceSource.contains("anydata|error fullNameResult = trap fullName(fullNameArgs.person);"));
+        Assert.assertTrue(serviceSource.contains("anydata|error greetingResult = trap greeting();"));
+    }
+
+    @Test
+    public void testForInvalidWarmUpIterations() {
+        Package currentPackage = loadPackage("sample_package_39");
+        CodeGeneratorResult codeGenResult = currentPackage.runCodeGeneratorPlugins();
+        DiagnosticResult diagnosticResult = codeGenResult.reportedDiagnostics();
+        Assert.assertEquals(diagnosticResult.errorCount(), 0);
+        // Numbers of iterations which are not positive integers are ignored
+        Assert.assertEquals(diagnosticResult.warningCount(), 1);
+        Diagnostic diagnostic = (Diagnostic) diagnosticResult.warnings().toArray()[0];
+        Assert.assertEquals(diagnostic.diagnosticInfo().code(), DiagnosticMessage.WARNING_102.getCode());
+        assertGeneratedCodeCompiles(codeGenResult);
+
+        String serviceSource = getGeneratedServiceSource(codeGenResult);
+        Assert.assertTrue(serviceSource.contains("configurable int warmUpIterations = 0;"));
+    }
+
+    @Test
+    public void testForPipelineGeneration() {
+        Package currentPackage = loadPackage("sample_package_21");
+        CodeGeneratorResult codeGenResult = currentPackage.runCodeGeneratorPlugins();
+        DiagnosticResult diagnosticResult = codeGenResult.reportedDiagnostics();
+        Assert.assertEquals(diagnosticResult.errorCount(), 0);
+        assertGeneratedCodeCompiles(codeGenResult);
+
+        String serviceSource = getGeneratedServiceSource(codeGenResult);
+        Assert.assertTrue(serviceSource.contains("final readonly & map<string[]> pipelineSuccessors = " +
+                "{\"fullName\": [\"toUpper\", \"characterCount\"], \"toUpper\": [\"toUpper\", " +
+                "\"characterCount\"], \"characterCount\": []};"));
+        Assert.assertTrue(serviceSource.contains("isolated function startPipeline(string transformerName, " +
+                "json payload) returns anydata|error {"));
+        Assert.assertTrue(serviceSource.contains("isolated function continuePipeline(string transformerName, " +
+                "anydata input) returns anydata|error {"));
+        Assert.assertTrue(serviceSource.contains("return fullName(payloadArgs.person);"));
+        Assert.assertTrue(serviceSource.contains("string inputArg = check input.ensureType();"));
+        Assert.assertTrue(serviceSource.contains("isolated resource function post _pipeline(" +
+                "@http:Payload transformer:PipelineRequest request) returns anydata|http:BadRequest|error {"));
+    }
+
+    @Test
+    public void testForFanOutGeneration() {
+        Package currentPackage = loadPackage("sample_package_22");
+        CodeGeneratorResult codeGenResult = currentPackage.runCodeGeneratorPlugins();
+        DiagnosticResult diagnosticResult = codeGenResult.reportedDiagnostics();
+        Assert.assertEquals(diagnosticResult.errorCount(), 0);
+        assertGeneratedCodeCompiles(codeGenResult);
+
+        String serviceSource = getGeneratedServiceSource(codeGenResult);
+        Assert.assertTrue(serviceSource.contains("final readonly & string[] fanOutTransformers = " +
+                "[\"fullName\", \"initials\", \"isAdult\"];"));
+        Assert.assertTrue(serviceSource.contains("isolated function fanOutTransform(string transformerName, " +
+                "json payload) returns anydata|error {"));
+        Assert.assertTrue(serviceSource.contains("return isAdult(payloadArgs.person);"));
+        Assert.assertTrue(serviceSource.contains("isolated resource function post _fanout(" +
+                "@http:Payload transformer:FanOutRequest request) returns map<anydata>|http:BadRequest {"));
+        Assert.assertTrue(serviceSource.contains("futures[transformerName] = start fanOutTransform(" +
+                "transformerName, payload);"));
+    }
+
+    @Test
+    public void testForDeadlineGeneration() {
+        Package currentPackage = loadPackage("sample_package_23");
+        CodeGeneratorResult codeGenResult = currentPackage.runCodeGeneratorPlugins();
+        DiagnosticResult diagnosticResult = codeGenResult.reportedDiagnostics();
+        Assert.assertEquals(diagnosticResult.errorCount(), 0);
+        // Deadlines which are not positive are ignored
+        Assert.assertEquals(diagnosticResult.warningCount(), 1);
+        Diagnostic diagnostic = (Diagnostic) diagnosticResult.warnings().toArray()[0];
+        Assert.assertEquals(diagnostic.diagnosticInfo().code(), DiagnosticMessage.WARNING_102.getCode());
+        assertGeneratedCodeCompiles(codeGenResult);
+
+        String serviceSource = getGeneratedServiceSource(codeGenResult);
+        Assert.assertTrue(serviceSource.contains("isolated resource function post fullName(http:Request request) " +
+                "returns http:Response|http:BadRequest|http:GatewayTimeout|error {"));
+        Assert.assertTrue(serviceSource.contains("var readonlyPayload = payload.cloneReadOnly();"));
+        // The bulkhead permit and the load of fullName are released by the strand which runs it
+        Assert.assertTrue(serviceSource.contains("isolated function fullNameWithinDeadline(readonly & " +
+                "fullNamePayload readonlyPayload, decimal loadStart) returns string|error {"));
+        Assert.assertTrue(serviceSource.contains("string|error result = trap fullName(readonlyPayload.person);"));
+        Assert.assertTrue(serviceSource.contains("string|error result = trap <string|error>transformer:" +
+                "runWithDeadline(start fullNameWithinDeadline(readonlyPayload, loadStart), 0.5);"));
+        Assert.assertTrue(serviceSource.contains("string|error result = trap <string|error>transformer:" +
+                "runWithDeadline(start greeting(), 2);"));
+        Assert.assertTrue(serviceSource.contains("if result is transformer:DeadlineExceededError {"));
+        Assert.assertTrue(serviceSource.contains("return <http:GatewayTimeout>{body: result.message()};"));
+        Assert.assertFalse(serviceSource.contains("runWithDeadline(start initials"));
+    }
+
+    @Test
+    public void testForPayloadSizeLimitGeneration() {
+        Package currentPackage = loadPackage("sample_package_24");
+        CodeGeneratorResult codeGenResult = currentPackage.runCodeGeneratorPlugins();
+        DiagnosticResult diagnosticResult = codeGenResult.reportedDiagnostics();
+        Assert.assertEquals(diagnosticResult.errorCount(), 0);
+        // Payload size limits which are not positive integers are ignored
+        Assert.assertEquals(diagnosticResult.warningCount(), 1);
+        Diagnostic diagnostic = (Diagnostic) diagnosticResult.warnings().toArray()[0];
+        Assert.assertEquals(diagnostic.diagnosticInfo().code(), DiagnosticMessage.WARNING_102.getCode());
+        assertGeneratedCodeCompiles(codeGenResult);
+
+        String serviceSource = getGeneratedServiceSource(codeGenResult);
+        Assert.assertTrue(serviceSource.contains("isolated resource function post fullName(http:Request request) " +
+                "returns http:Response|http:BadRequest|http:PayloadTooLarge|error {"));
+        Assert.assertTrue(serviceSource.contains("byte[]|error payloadBytes = transformer:readPayload(" +
+                "check request.getByteStream(), request.getHeader(\"Content-Length\"), 1024);"));
+        Assert.assertTrue(serviceSource.contains("byte[]|error payloadBytes = transformer:readPayload(" +
+                "check request.getByteStream(), request.getHeader(\"Content-Length\"), 65536);"));
+        Assert.assertTrue(serviceSource.contains("return <http:PayloadTooLarge>{body: payloadBytes.message()};"));
+        Assert.assertEquals(serviceSource.split("transformer:readPayload\\(", -1).length, 3);
+        Assert.assertTrue(serviceSource.contains("isolated resource function post greeting() returns string|error {"));
+    }
+
+    @Test
+    public void testForClientGeneration() {
+        Package currentPackage = loadPackage("sample_package_25");
+        CodeGeneratorResult codeGenResult = currentPackage.runCodeGeneratorPlugins();
+        DiagnosticResult diagnosticResult = codeGenResult.reportedDiagnostics();
+        Assert.assertEquals(diagnosticResult.errorCount(), 0);
+
+        String clientSource = getGeneratedClientSource(codeGenResult);
+        Assert.assertTrue(clientSource.contains("public isolated client class Client {"));
+        Assert.assertTrue(clientSource.contains("public isolated function init(string url, " +
+                "*transformer:ClientConfiguration config) returns error? {"));
+        Assert.assertTrue(clientSource.contains("private final transformer:BatchCoalescer? fullNameCoalescer;"));
+        Assert.assertTrue(clientSource.contains("remote isolated function fullName(Person person, " +
+                "string separator = SEPARATOR) returns string|error {"));
+        Assert.assertTrue(clientSource.contains("map<anydata> payload = {person, separator};"));
+        Assert.assertTrue(clientSource.contains("new transformer:BatchCoalescer(self.httpClient, " +
+                "\"/fullName/batch\", config.maxBatchSize, config.maxBatchDelay)"));
+        Assert.assertTrue(clientSource.contains("return self.httpClient->post(\"/fullName\", payload);"));
+        Assert.assertTrue(clientSource.contains("return self.httpClient->post(\"/toUpper\", text);"));
+        Assert.assertTrue(clientSource.contains("remote isolated function greeting() returns string|error {"));
+        Assert.assertFalse(clientSource.contains("greetingCoalescer"));
+        // The client module does not import the default module, which starts the listener of the service
+        Assert.assertFalse(clientSource.contains("sample_package_25"));
+        Assert.assertTrue(clientSource.contains("public const SEPARATOR = \" \";"));
+        Assert.assertTrue(clientSource.contains("public enum Title {"));
+        Assert.assertTrue(clientSource.contains("public type Person record {"));
+        Assert.assertFalse(clientSource.contains("Address"));
+        Assert.assertTrue(findGeneratedSource(codeGenResult.updatedPackage().get().getDefaultModule(), "client")
+                .isEmpty());
+        // The pipeline and fan-out resources are generated only if they are enabled
+        assertGeneratedCodeCompiles(codeGenResult);
+
+        String serviceSource = getGeneratedServiceSource(codeGenResult);
+        Assert.assertFalse(serviceSource.contains("_pipeline"));
+        Assert.assertFalse(serviceSource.contains("_fanout"));
+    }
+
+    @Test
+    public void testForNativeImageProfileGeneration() {
+        Package currentPackage = loadPackage("sample_package_26");
+        CodeGeneratorResult codeGenResult = currentPackage.runCodeGeneratorPlugins();
+        DiagnosticResult diagnosticResult = codeGenResult.reportedDiagnostics();
+        Assert.assertEquals(diagnosticResult.errorCount(), 0);
+        Assert.assertEquals(diagnosticResult.warningCount(), 2);
+        diagnosticResult.warnings().forEach(diagnostic -> Assert.assertEquals(diagnostic.diagnosticInfo().code(),
+                DiagnosticMessage.WARNING_101.getCode()));
+        assertGeneratedCodeCompiles(codeGenResult);
+
+        String serviceSource = getGeneratedServiceSource(codeGenResult);
+        Assert.assertTrue(serviceSource.contains("import ballerina/http;"));
+        Assert.assertFalse(serviceSource.contains("import ballerinax/transformer.runtime"));
+        Assert.assertFalse(serviceSource.contains("transformer:"));
+        Assert.assertFalse(serviceSource.contains("warmUpTransformers"));
+        Assert.assertFalse(serviceSource.contains("_pipeline"));
+        Assert.assertFalse(serviceSource.contains("_fanout"));
+        Assert.assertFalse(serviceSource.contains("/ndjson"));
+        Assert.assertTrue(serviceSource.contains("resource function post helloWorld(@http:Payload " +
+                "helloWorldPayload payload)"));
+    }
+
+    @Test
+    public void testForStreamedResultsGeneration() {
+        Package currentPackage = loadPackage("sample_package_27");
+        CodeGeneratorResult codeGenResult = currentPackage.runCodeGeneratorPlugins();
+        DiagnosticResult diagnosticResult = codeGenResult.reportedDiagnostics();
+        Assert.assertEquals(diagnosticResult.errorCount(), 0);
+        assertGeneratedCodeCompiles(codeGenResult);
+
+        String serviceSource = getGeneratedServiceSource(codeGenResult);
+        Assert.assertTrue(serviceSource.contains("isolated function adultsResultStream(Person[] people) " +
+                "returns stream<anydata, error?>"));
+        Assert.assertTrue(serviceSource.contains("stream from Person person in people"));
+        Assert.assertTrue(serviceSource.contains("isolated resource function post adults/streamed(" +
+                "http:Request request, @http:Payload adultsPayload payload) returns http:Response|error"));
+        Assert.assertTrue(serviceSource.contains("stream<anydata, error?> results = " +
+                "adultsResultStream(payload.people);"));
+        Assert.assertTrue(serviceSource.contains("Person[]|error result = trap pair(payload.person);"));
+        Assert.assertTrue(serviceSource.contains("transformer:streamResults(results, isNdjson)"));
+        Assert.assertFalse(serviceSource.contains("greeting/streamed"));
+    }
+
+    @Test
+    public void testForByteStreamGeneration() {
+        Package currentPackage = loadPackage("sample_package_28");
+        CodeGeneratorResult codeGenResult = currentPackage.runCodeGeneratorPlugins();
+        DiagnosticResult diagnosticResult = codeGenResult.reportedDiagnostics();
+        Assert.assertEquals(diagnosticResult.errorCount(), 0);
+        assertGeneratedCodeCompiles(codeGenResult);
+
+        String serviceSource = getGeneratedServiceSource(codeGenResult);
+        Assert.assertTrue(serviceSource.contains("import ballerinax/transformer.runtime as transformer;"));
+        Assert.assertTrue(serviceSource.contains("isolated resource function post passThrough(" +
+                "http:Request request) returns http:Response|error"));
+        Assert.assertTrue(serviceSource.contains("stream<byte[], error?> payload = check request.getByteStream();"));
+        Assert.assertTrue(serviceSource.contains("response.setByteStream(transformer:toByteStream(result), " +
+                "\"application/octet-stream\");"));
+        Assert.assertTrue(serviceSource.contains("byte[] payload = check request.getBinaryPayload();"));
+        Assert.assertTrue(serviceSource.contains("string|error result = trap received(payload);"));
+        Assert.assertTrue(serviceSource.contains("isolated resource function post greeting(http:Request request, " +
+                "@http:Payload greetingPayload payload) returns http:Response|error"));
+        Assert.assertFalse(serviceSource.contains("passThroughPayload"));
+        Assert.assertFalse(serviceSource.contains("passThrough/batch"));
+        Assert.assertFalse(serviceSource.contains("greeting/batch"));
+        Assert.assertTrue(serviceSource.contains("echo/batch"));
+    }
+
+    @Test
+    public void testForByteStreamWithOtherParameters() {
+        Package currentPackage = loadPackage("sample_package_29");
+        CodeGeneratorResult codeGenResult = currentPackage.runCodeGeneratorPlugins();
+        DiagnosticResult diagnosticResult = codeGenResult.reportedDiagnostics();
+        Assert.assertEquals(diagnosticResult.errorCount(), 2);
+        assertError(diagnosticResult, 0, DiagnosticMessage.ERROR_107);
+        // The byte stream of the request body may complete with an error, hence it cannot be passed to count
+        assertError(diagnosticResult, 1, DiagnosticMessage.ERROR_107);
+    }
+
+    @Test
+    public void testForResolvedByteStreamTypes() {
+        Package currentPackage = loadPackage("sample_package_36");
+        CodeGeneratorResult codeGenResult = currentPackage.runCodeGeneratorPlugins();
+        DiagnosticResult diagnosticResult = codeGenResult.reportedDiagnostics();
+        Assert.assertEquals(diagnosticResult.errorCount(), 0);
+        assertGeneratedCodeCompiles(codeGenResult);
+
+        String serviceSource = getGeneratedServiceSource(codeGenResult);
+        Assert.assertTrue(serviceSource.contains("isolated resource function post passThrough(" +
+                "http:Request request) returns http:Response|error"));
+        Assert.assertTrue(serviceSource.contains("ByteStream|error result = trap passThrough(payload);"));
+        Assert.assertTrue(serviceSource.contains("isolated resource function post upper(" +
+                "http:Request request) returns http:Response|error"));
+        Assert.assertTrue(serviceSource.contains("string|error result = trap upper(payload);"));
+        Assert.assertTrue(serviceSource.contains("isolated resource function post chunks(http:Request request, " +
+                "@http:Payload chunksPayload payload) returns http:Response|error"));
+        Assert.assertTrue(serviceSource.contains("response.setByteStream(transformer:toByteStream(result), " +
+                "\"application/octet-stream\");"));
+        Assert.assertFalse(serviceSource.contains("passThrough/batch"));
+        Assert.assertFalse(serviceSource.contains("upper/batch"));
+        Assert.assertFalse(serviceSource.contains("chunks/batch"));
+    }
+
+    @Test
+    public void testForLoadStatsGeneration() {
+        Package currentPackage = loadPackage("sample_package_30");
+        CodeGeneratorResult codeGenResult = currentPackage.runCodeGeneratorPlugins();
+        DiagnosticResult diagnosticResult = codeGenResult.reportedDiagnostics();
+        Assert.assertEquals(diagnosticResult.errorCount(), 0);
+        assertGeneratedCodeCompiles(codeGenResult);
+
+        String serviceSource = getGeneratedServiceSource(codeGenResult);
+        Assert.assertTrue(serviceSource.contains("final transformer:LoadTracker fullNameLoad = new;"));
+        Assert.assertTrue(serviceSource.contains("decimal loadStart = fullNameLoad.begin();"));
+        Assert.assertTrue(serviceSource.contains("fullNameLoad.end(loadStart, result is error);"));
+        Assert.assertTrue(serviceSource.contains("isolated resource function get _stats() " +
+                "returns map<transformer:TransformerStats>"));
+        Assert.assertTrue(serviceSource.contains("\"fullName\": fullNameLoad.stats(fullNameBulkhead.rejectedCount())"));
+        Assert.assertTrue(serviceSource.contains("\"greeting\": greetingLoad.stats()"));
+        Assert.assertTrue(serviceSource.contains("isolated resource function get _health()"));
+    }
+
+    @Test
+    public void testForGeneratedSourceReuse() {
+        Package currentPackage = loadPackage("sample_package_31");
+        CodeGeneratorResult codeGenResult = currentPackage.runCodeGeneratorPlugins();
+        Assert.assertEquals(codeGenResult.reportedDiagnostics().warningCount(), 1);
+        assertGeneratedCodeCompiles(codeGenResult);
+
+        String serviceSource = getGeneratedServiceSource(codeGenResult);
+        String clientSource = getGeneratedClientSource(codeGenResult);
+
+        // The sources generated for the unchanged package are reused, along with the warnings
+        long reuseCount = getGeneratedSourceReuseCount();
+        CodeGeneratorResult reusedCodeGenResult = loadPackage("sample_package_31").runCodeGeneratorPlugins();
+        Assert.assertEquals(getGeneratedSourceReuseCount(), reuseCount + 1);
+        DiagnosticResult diagnosticResult = reusedCodeGenResult.reportedDiagnostics();
+        Assert.assertEquals(diagnosticResult.errorCount(), 0);
+        Assert.assertEquals(diagnosticResult.warningCount(), 1);
+        diagnosticResult.warnings().forEach(diagnostic -> Assert.assertEquals(diagnostic.diagnosticInfo().code(),
+                DiagnosticMessage.WARNING_100.getCode()));
+        Assert.assertEquals(getGeneratedServiceSource(reusedCodeGenResult), serviceSource);
+        Assert.assertEquals(getGeneratedClientSource(reusedCodeGenResult), clientSource);
+
+        // The sources are generated again once a transformer function is changed
+        Document document = currentPackage.getDefaultModule()
+                .document(currentPackage.getDefaultModule().documentIds().iterator().next());
+        String changedSource = document.syntaxTree().toSourceCode().replace("greet", "welcome");
+        Package changedPackage = document.modify().withContent(changedSource).apply().module().packageInstance();
+        String changedServiceSource = getGeneratedServiceSource(changedPackage.runCodeGeneratorPlugins());
+        Assert.assertEquals(getGeneratedSourceReuseCount(), reuseCount + 1);
+        Assert.assertNotEquals(changedServiceSource, serviceSource);
+        Assert.assertTrue(changedServiceSource.contains("resource function post welcome("));
+        Assert.assertFalse(changedServiceSource.contains("resource function post greet("));
+    }
+
+    @Test
+    public void testForGeneratedSourceEviction() {
+        String[] packageNames = {"sample_package_14", "sample_package_15", "sample_package_16", "sample_package_17",
+                "sample_package_18", "sample_package_19", "sample_package_20", "sample_package_23",
+                "sample_package_24"};
+        for (String packageName : packageNames) {
+            Assert.assertEquals(loadPackage(packageName).runCodeGeneratorPlugins().reportedDiagnostics()
+                    .errorCount(), 0);
+        }
+
+        // Only the sources of the most recently generated packages are kept
+        long reuseCount = getGeneratedSourceReuseCount();
+        loadPackage(packageNames[0]).runCodeGeneratorPlugins();
+        Assert.assertEquals(getGeneratedSourceReuseCount(), reuseCount);
+        loadPackage(packageNames[packageNames.length - 1]).runCodeGeneratorPlugins();
+        Assert.assertEquals(getGeneratedSourceReuseCount(), reuseCount + 1);
+    }
+
+    @Test
+    public void testForInvalidClientModule() {
+        Package currentPackage = loadPackage("sample_package_35");
+        CodeGeneratorResult codeGenResult = currentPackage.runCodeGeneratorPlugins();
+        DiagnosticResult diagnosticResult = codeGenResult.reportedDiagnostics();
+        Assert.assertEquals(diagnosticResult.errorCount(), 0);
+        Assert.assertEquals(diagnosticResult.warningCount(), 1);
+        Diagnostic diagnostic = (Diagnostic) diagnosticResult.warnings().toArray()[0];
+        Assert.assertEquals(diagnostic.diagnosticInfo().code(), DiagnosticMessage.WARNING_103.getCode());
+
+        Assert.assertTrue(codeGenResult.updatedPackage().isPresent());
+        for (Module module : codeGenResult.updatedPackage().get().modules()) {
+            Assert.assertTrue(findGeneratedSource(module, "client").isEmpty());
+        }
+        assertGeneratedCodeCompiles(codeGenResult);
+
+        Assert.assertTrue(getGeneratedServiceSource(codeGenResult).contains("service / on new http:Listener"));
+    }
+
+    @Test
+    public void testForUncachedGeneration() {
+        String serviceSource = getGeneratedServiceSource(loadPackage("sample_package_37").runCodeGeneratorPlugins());
+
+        // The types of other modules used by the transformer functions cannot be fingerprinted, hence the sources
+        // are generated again
+        long reuseCount = getGeneratedSourceReuseCount();
+        CodeGeneratorResult codeGenResult = loadPackage("sample_package_37").runCodeGeneratorPlugins();
+        Assert.assertEquals(codeGenResult.reportedDiagnostics().errorCount(), 0);
+        Assert.assertEquals(getGeneratedSourceReuseCount(), reuseCount);
+        assertGeneratedCodeCompiles(codeGenResult);
+
+        Assert.assertEquals(getGeneratedServiceSource(codeGenResult), serviceSource);
+        Assert.assertTrue(serviceSource.contains("resource function post fullName("));
+    }
+
+    @Test
+    public void testForUnformattedGeneration() {
+        Package currentPackage = loadPackage("sample_package_32");
+        CodeGeneratorResult codeGenResult = currentPackage.runCodeGeneratorPlugins();
+        DiagnosticResult diagnosticResult = codeGenResult.reportedDiagnostics();
+        Assert.assertEquals(diagnosticResult.errorCount(), 0);
+        Assert.assertEquals(diagnosticResult.warningCount(), 0);
+        assertGeneratedCodeCompiles(codeGenResult);
+
+        String serviceSource = getGeneratedServiceSource(codeGenResult);
+        Assert.assertFalse(SyntaxTree.from(TextDocuments.from(serviceSource)).hasDiagnostics());
+        Assert.assertTrue(serviceSource.contains("service / on new http:Listener"));
+        Assert.assertTrue(serviceSource.contains("resource function post fullName(@http:Payload " +
+                "fullNamePayload payload)"));
+        String clientSource = getGeneratedClientSource(codeGenResult);
+        Assert.assertFalse(SyntaxTree.from(TextDocuments.from(clientSource)).hasDiagnostics());
+        Assert.assertTrue(clientSource.contains("remote isolated function greet(string name)"));
+    }
+
+    @Test
+    public void testForRepeatedCompilations() {
+        Package currentPackage = loadPackage("sample_package_33");
+        int compilationStateCount = getCompilationStateCount();
+        String[] greetings = {"Hello ", "Hi "};
+        String[] serviceSources = new String[6];
+        for (int i = 0; i < serviceSources.length; i++) {
+            // Each change of the package is compiled again with the same compiler plugin
+            Document document = currentPackage.getDefaultModule()
+                    .document(currentPackage.getDefaultModule().documentIds().iterator().next());
+            String source = document.syntaxTree().toSourceCode()
+                    .replace(greetings[(i + 1) % 2], greetings[i % 2]);
+            currentPackage = document.modify().withContent(source).apply().module().packageInstance();
+            CodeGeneratorResult codeGenResult = currentPackage.runCodeGeneratorPlugins();
+            Assert.assertEquals(codeGenResult.reportedDiagnostics().errorCount(), 0);
+
+            serviceSources[i] = getGeneratedServiceSource(codeGenResult);
+            Assert.assertEquals(serviceSources[i].split("resource function post helloWorld\\(", -1).length, 2);
+            Assert.assertEquals(serviceSources[i].split("resource function post goodbyeWorld\\(", -1).length, 2);
+            if (i > 1) {
+                Assert.assertEquals(serviceSources[i], serviceSources[i - 2]);
+            }
+            // The state of each compilation is removed once its service is generated
+            Assert.assertTrue(getCompilationStateCount() <= compilationStateCount);
+        }
+    }
+
+    @Test
+    public void testForMultipleDocumentDiagnostics() {
+        for (int i = 0; i < 2; i++) {
+            // The diagnostics are reported in the order of the documents, whatever the order of their analysis
+            CodeGeneratorResult codeGenResult = loadPackage("sample_package_34").runCodeGeneratorPlugins();
+            DiagnosticResult diagnosticResult = codeGenResult.reportedDiagnostics();
+            Assert.assertEquals(diagnosticResult.errorCount(), 4);
+            assertError(diagnosticResult, 0, DiagnosticMessage.ERROR_103);
+            assertError(diagnosticResult, 1, DiagnosticMessage.ERROR_101);
+            assertError(diagnosticResult, 2, DiagnosticMessage.ERROR_100);
+            assertError(diagnosticResult, 3, DiagnosticMessage.ERROR_105);
+        }
+    }
+
+    @Test
+    public void testForManyDocuments() throws IOException {
+        long packageIndexBuildCount = getPackageIndexBuildCount();
+        compileManyDocuments(400);
+        // The package is indexed once per compilation, instead of once for each of its documents
+        Assert.assertEquals(getPackageIndexBuildCount() - packageIndexBuildCount, 1);
+    }
+
+    private void compileManyDocuments(int documentCount) throws IOException {
+        Path projectDirPath = Files.createTempDirectory("sample_package_many_documents");
+        try {
+            Files.writeString(projectDirPath.resolve("Ballerina.toml"), "[package]\n" +
+                    "org = \"azeemmuzammil\"\n" +
+                    "name = \"sample_package_many_documents\"\n" +
+                    "version = \"0.1.0\"\n");
+            Files.writeString(projectDirPath.resolve("types.bal"), "import ballerinax/transformer as _;\n\n" +
+                    "type Person record {|\n    string firstName;\n    string lastName;\n|};\n");
+            for (int i = 0; i < documentCount; i++) {
+                Files.writeString(projectDirPath.resolve("transformer_" + i + ".bal"),
+                        "public isolated function fullName" + i + "(Person person) returns string =>\n" +
+                                "    person.firstName + \" \" + person.lastName;\n");
+            }
+            Files.createDirectories(projectDirPath.resolve("tests"));
+            Files.writeString(projectDirPath.resolve("tests").resolve("main_test.bal"),
+                    "function testFullName() {\n}\n");
+            BuildProject project = BuildProject.load(getEnvironmentBuilder(), projectDirPath);
+            CodeGeneratorResult codeGenResult = project.currentPackage().runCodeGeneratorPlugins();
+            DiagnosticResult diagnosticResult = codeGenResult.reportedDiagnostics();
+            Assert.assertEquals(diagnosticResult.errorCount(), 0);
+            Assert.assertEquals(diagnosticResult.hintCount(), 0);
+            String serviceSource = getGeneratedServiceSource(codeGenResult);
+            for (int i = 0; i < documentCount; i++) {
+                Assert.assertTrue(serviceSource.contains("resource function post fullName" + i + "("));
+            }
+        } finally {
+            deleteDirectory(projectDirPath);
+        }
+    }
+
+    private void deleteDirectory(Path directoryPath) throws IOException {
+        // The contents of a directory are deleted before the directory itself
+        try (Stream<Path> paths = Files.walk(directoryPath)) {
+            for (Path path : paths.sorted(Comparator.reverseOrder()).collect(Collectors.toList())) {
+                Files.delete(path);
+            }
+        }
+    }
 }
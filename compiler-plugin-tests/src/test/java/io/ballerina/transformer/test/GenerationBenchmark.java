@@ -0,0 +1,141 @@
+/*
+ *  Copyright (c) 2022, WSO2 LLC. (http://www.wso2.com) All Rights Reserved.
+ *
+ *  WSO2 Inc. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package io.ballerina.transformer.test;
+
+import io.ballerina.compiler.syntax.tree.SyntaxTree;
+import io.ballerina.projects.CodeGeneratorResult;
+import io.ballerina.projects.Document;
+import io.ballerina.projects.DocumentId;
+import io.ballerina.projects.Module;
+import io.ballerina.projects.Package;
+import io.ballerina.projects.ProjectEnvironmentBuilder;
+import io.ballerina.projects.directory.BuildProject;
+import io.ballerina.projects.environment.Environment;
+import io.ballerina.projects.environment.EnvironmentBuilder;
+import io.ballerina.tools.text.TextDocuments;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Comparator;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * This class benchmarks the generation of the service with and without formatting the generated code, for packages
+ * of different numbers of transformer functions. It is run using the benchmark task, since it is excluded from the
+ * tests.
+ */
+public class GenerationBenchmark {
+
+    private static final Path DISTRIBUTION_PATH = Paths.get("../", "target", "ballerina-runtime")
+            .toAbsolutePath();
+    private static final int[] FUNCTION_COUNTS = {10, 100, 1000};
+    private static final int WARM_UP_ITERATIONS = 1;
+    private static final int ITERATIONS = 3;
+    private static final String BALLERINA_TOML = "[package]\n" +
+            "org = \"azeemmuzammil\"\n" +
+            "name = \"benchmark_package\"\n" +
+            "version = \"0.1.0\"\n" +
+            "\n" +
+            "[transformer]\n" +
+            "format = %1$s\n";
+    private static final String PERSON_TYPE = "import ballerinax/transformer as _;\n" +
+            "\n" +
+            "type Person record {|\n" +
+            "    string firstName;\n" +
+            "    string lastName;\n" +
+            "    int age;\n" +
+            "|};\n";
+    private static final String TRANSFORMER_FUNCTION = "\n" +
+            "public isolated function transform%1$d(Person person, string title = \"Mx\") returns string =>\n" +
+            "    title + \" \" + person.firstName + \" \" + person.lastName + \" %1$d\";\n";
+
+    @Test(groups = "benchmark")
+    public void benchmarkServiceGeneration() throws IOException {
+        System.out.printf("%-12s %-18s %-18s%n", "Functions", "Formatted (ms)", "Unformatted (ms)");
+        for (int functionCount : FUNCTION_COUNTS) {
+            long formattedTime = measure(functionCount, true);
+            long unformattedTime = measure(functionCount, false);
+            System.out.printf("%-12d %-18d %-18d%n", functionCount, formattedTime, unformattedTime);
+        }
+    }
+
+    private long measure(int functionCount, boolean format) throws IOException {
+        long minTime = Long.MAX_VALUE;
+        for (int i = 0; i < WARM_UP_ITERATIONS + ITERATIONS; i++) {
+            // A new package is created for each iteration, since the generated sources of a package are reused
+            Package currentPackage = createPackage(functionCount, format);
+            long time;
+            try {
+                currentPackage.getCompilation();
+                long startTime = System.nanoTime();
+                CodeGeneratorResult codeGenResult = currentPackage.runCodeGeneratorPlugins();
+                time = (System.nanoTime() - startTime) / 1_000_000;
+                Assert.assertEquals(codeGenResult.reportedDiagnostics().errorCount(), 0);
+                Assert.assertFalse(SyntaxTree.from(TextDocuments.from(getGeneratedServiceSource(codeGenResult)))
+                        .hasDiagnostics());
+            } finally {
+                deleteDirectory(currentPackage.project().sourceRoot());
+            }
+            if (i >= WARM_UP_ITERATIONS) {
+                minTime = Math.min(minTime, time);
+            }
+        }
+        return minTime;
+    }
+
+    private Package createPackage(int functionCount, boolean format) throws IOException {
+        Path projectDirPath = Files.createTempDirectory("transformer-benchmark");
+        StringBuilder source = new StringBuilder(PERSON_TYPE);
+        for (int i = 0; i < functionCount; i++) {
+            source.append(String.format(TRANSFORMER_FUNCTION, i));
+        }
+        Files.writeString(projectDirPath.resolve("Ballerina.toml"), String.format(BALLERINA_TOML, format),
+                StandardCharsets.UTF_8);
+        Files.writeString(projectDirPath.resolve("main.bal"), source, StandardCharsets.UTF_8);
+        Environment environment = EnvironmentBuilder.getBuilder().setBallerinaHome(DISTRIBUTION_PATH).build();
+        return BuildProject.load(ProjectEnvironmentBuilder.getBuilder(environment), projectDirPath).currentPackage();
+    }
+
+    private void deleteDirectory(Path directoryPath) throws IOException {
+        // The contents of a directory are deleted before the directory itself
+        try (Stream<Path> paths = Files.walk(directoryPath)) {
+            for (Path path : paths.sorted(Comparator.reverseOrder()).collect(Collectors.toList())) {
+                Files.delete(path);
+            }
+        }
+    }
+
+    private String getGeneratedServiceSource(CodeGeneratorResult codeGenResult) {
+        Assert.assertTrue(codeGenResult.updatedPackage().isPresent());
+        Module defaultModule = codeGenResult.updatedPackage().get().getDefaultModule();
+        for (DocumentId documentId : defaultModule.documentIds()) {
+            Document document = defaultModule.document(documentId);
+            if (document.name().startsWith("service")) {
+                return document.syntaxTree().toSourceCode();
+            }
+        }
+        Assert.fail("Generated service source not found in the default module");
+        return null;
+    }
+}
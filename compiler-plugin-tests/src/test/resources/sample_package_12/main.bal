@@ -0,0 +1,9 @@
+import ballerinax/transformer as _;
+
+public isolated function helloWorld(string firstName) returns string => "Hello " + firstName;
+
+public isolated function fullName(string firstName, string lastName = "Root") returns string =>
+    firstName + " " + lastName;
+
+public isolated function greetAll(string... names) returns string[] => from string name in names
+    select "Hello " + name;
@@ -0,0 +1,8 @@
+import ballerinax/transformer as _;
+
+public type Person record {
+    string firstName;
+    string lastName;
+};
+
+public isolated function fullName(Person person) returns string => person.firstName + " " + person.lastName;
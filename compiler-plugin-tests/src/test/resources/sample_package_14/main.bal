@@ -0,0 +1,15 @@
+import ballerinax/transformer as _;
+
+public type Person record {
+    string firstName;
+    string lastName;
+};
+
+public isolated function fullName(Person person) returns string => person.firstName + " " + person.lastName;
+
+public isolated function lastName(Person person) returns string => person.lastName;
+
+public function greeting(string name) returns string => "Hello " + name;
+
+public isolated function initials(Person person) returns string => person.firstName.substring(0, 1) +
+    person.lastName.substring(0, 1);
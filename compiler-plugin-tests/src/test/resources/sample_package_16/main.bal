@@ -0,0 +1,12 @@
+import ballerinax/transformer as _;
+
+public type Person record {
+    string firstName;
+    string lastName;
+};
+
+public isolated function helloWorld(string firstName) returns string => "Hello " + firstName;
+
+public isolated function fullName(Person person) returns string => person.firstName + " " + person.lastName;
+
+public isolated function join(string firstName, string lastName) returns string => firstName + " " + lastName;
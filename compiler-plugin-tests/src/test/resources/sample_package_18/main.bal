@@ -0,0 +1,9 @@
+import ballerinax/transformer as _;
+
+public type Person record {
+    string firstName;
+    string lastName;
+};
+
+public isolated function fullNames(Person[] people) returns string[] =>
+    from Person person in people select person.firstName + " " + person.lastName;
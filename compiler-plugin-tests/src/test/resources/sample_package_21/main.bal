@@ -0,0 +1,12 @@
+import ballerinax/transformer as _;
+
+public type Person record {
+    string firstName;
+    string lastName;
+};
+
+public isolated function fullName(Person person) returns string => person.firstName + " " + person.lastName;
+
+public isolated function toUpper(string text) returns string => text.toUpperAscii();
+
+public isolated function characterCount(string text) returns int => text.length();
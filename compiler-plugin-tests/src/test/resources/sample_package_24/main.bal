@@ -0,0 +1,15 @@
+import ballerinax/transformer as _;
+
+public type Person record {
+    string firstName;
+    string lastName;
+};
+
+public isolated function fullName(Person person) returns string => person.firstName + " " + person.lastName;
+
+public isolated function initials(Person person) returns string => person.firstName.substring(0, 1) +
+    person.lastName.substring(0, 1);
+
+public isolated function sum(int[] values) returns int => int:sum(...values);
+
+public isolated function greeting() returns string => "Hello World";
@@ -0,0 +1,25 @@
+import ballerinax/transformer as _;
+
+const SEPARATOR = " ";
+
+public enum Title {
+    MR,
+    MS
+}
+
+public type Person record {
+    Title title?;
+    string firstName;
+    string lastName;
+};
+
+public type Address record {
+    string city;
+};
+
+public isolated function fullName(Person person, string separator = SEPARATOR) returns string =>
+    person.firstName + separator + person.lastName;
+
+public isolated function toUpper(string text) returns string => text.toUpperAscii();
+
+public isolated function greeting() returns string => "Hello World";
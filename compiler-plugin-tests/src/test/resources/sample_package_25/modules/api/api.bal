@@ -0,0 +1,2 @@
+# URL of the transformer service when it runs locally.
+public const DEFAULT_URL = "http://localhost:9090";
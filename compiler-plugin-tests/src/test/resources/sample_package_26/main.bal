@@ -0,0 +1,7 @@
+import ballerinax/transformer as _;
+
+public isolated function helloWorld(string firstName) returns string => firstName;
+
+public isolated function helloWorld2(string... names) returns string => "Hello World";
+
+public function helloWorld3(string firstName, string lastName = "Root") returns string => "Hello World";
@@ -0,0 +1,13 @@
+import ballerinax/transformer as _;
+
+public type Person record {
+    string name;
+    int age;
+};
+
+public isolated function adults(Person[] people) returns Person[] =>
+    from Person person in people where person.age >= 18 select person;
+
+public isolated function pair(Person person) returns Person[] => [person, person];
+
+public isolated function greeting() returns string => "Hello World";
@@ -0,0 +1,11 @@
+import ballerinax/transformer as _;
+
+public isolated function passThrough(stream<byte[], error?> content) returns stream<byte[], error?> => content;
+
+public isolated function reverse(byte[] content) returns stream<byte[], error?> => [content.reverse()].toStream();
+
+public isolated function received(stream<byte[], error?> content) returns string => "Received";
+
+public isolated function greeting(string name) returns stream<byte[], error?> => [name.toBytes()].toStream();
+
+public isolated function echo(string text) returns string => text;
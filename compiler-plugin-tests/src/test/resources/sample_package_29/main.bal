@@ -0,0 +1,5 @@
+import ballerinax/transformer as _;
+
+public isolated function join(stream<byte[], error?> content, string separator) returns string => separator;
+
+public isolated function count(stream<byte[], error> content) returns int => 0;
@@ -0,0 +1,10 @@
+import ballerinax/transformer as _;
+
+type Person record {|
+    string firstName;
+    string lastName;
+|};
+
+public isolated function fullName(Person person) returns string => person.firstName + " " + person.lastName;
+
+public isolated function greet(string name) returns string => "Hello " + name;
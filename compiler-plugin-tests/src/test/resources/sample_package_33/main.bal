@@ -0,0 +1,5 @@
+import ballerinax/transformer as _;
+
+public isolated function helloWorld(string firstName) returns string => "Hello " + firstName;
+
+public isolated function goodbyeWorld(string firstName) returns string => "Goodbye " + firstName;
@@ -0,0 +1,4 @@
+import ballerinax/transformer as _;
+
+class Greeter {
+}
@@ -0,0 +1,2 @@
+public function greet() {
+}
@@ -0,0 +1,10 @@
+import ballerinax/transformer as _;
+
+type ByteStream stream<byte[], error?>;
+
+public isolated function passThrough(ByteStream content) returns ByteStream => content;
+
+public isolated function upper(stream<byte[], // chunks of ASCII text
+        error?> content) returns string => "Received";
+
+public isolated function chunks(string text) returns stream<byte[]> => [text.toBytes()].toStream();
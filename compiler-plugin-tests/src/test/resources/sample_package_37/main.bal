@@ -0,0 +1,9 @@
+import ballerinax/transformer as _;
+import azeemmuzammil/sample_package_37.types;
+
+type Person record {|
+    string firstName;
+    types:Name lastName;
+|};
+
+public isolated function fullName(Person person) returns string => person.firstName + " " + person.lastName;
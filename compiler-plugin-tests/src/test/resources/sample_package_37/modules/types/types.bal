@@ -0,0 +1,2 @@
+# Name of a person, of which the warm up payloads are generated by resolving this type.
+public type Name string;
@@ -0,0 +1,13 @@
+import ballerinax/transformer as _;
+
+public type Person record {
+    string firstName;
+    string lastName;
+    int age?;
+};
+
+public isolated function fullName(Person person) returns string => person.firstName + " " + person.lastName;
+
+public isolated function sum(int[] values) returns int => int:sum(...values);
+
+public isolated function greeting() returns string => "Hello World";
@@ -0,0 +1,182 @@
+/*
+ * Copyright (c) 2022, WSO2 LLC. (http://www.wso2.com) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.transformer.plugin;
+
+import io.ballerina.compiler.api.SemanticModel;
+import io.ballerina.compiler.api.symbols.ArrayTypeSymbol;
+import io.ballerina.compiler.api.symbols.FunctionSymbol;
+import io.ballerina.compiler.api.symbols.FunctionTypeSymbol;
+import io.ballerina.compiler.api.symbols.ParameterSymbol;
+import io.ballerina.compiler.api.symbols.StreamTypeSymbol;
+import io.ballerina.compiler.api.symbols.Symbol;
+import io.ballerina.compiler.api.symbols.TypeDescKind;
+import io.ballerina.compiler.api.symbols.TypeReferenceTypeSymbol;
+import io.ballerina.compiler.api.symbols.TypeSymbol;
+import io.ballerina.compiler.api.symbols.UnionTypeSymbol;
+import io.ballerina.compiler.syntax.tree.FunctionDefinitionNode;
+import io.ballerina.compiler.syntax.tree.ParameterNode;
+import io.ballerina.compiler.syntax.tree.SeparatedNodeList;
+import io.ballerina.compiler.syntax.tree.SyntaxKind;
+
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Analyzer of the transformer functions which take or return byte streams. The types are resolved through the
+ * semantic model, hence a byte stream is recognized regardless of how its type is written, such as through a type
+ * definition or with the completion type omitted.
+ * <p>
+ * A byte stream result is written as the response body as long as the stream completes with nil or an error. A byte
+ * stream parameter receives the byte stream of the request body, which may complete with an error, hence its
+ * completion type should include both nil and error.
+ *
+ * @since 0.1.1
+ */
+class ByteStreamAnalyzer {
+
+    private static final String ERROR_TYPE = "error";
+
+    private final SemanticModel semanticModel;
+
+    ByteStreamAnalyzer(SemanticModel semanticModel) {
+        this.semanticModel = semanticModel;
+    }
+
+    /**
+     * This method checks whether the given transformer function takes or returns a byte stream. Such arguments and
+     * results cannot be represented as JSON, hence the transformer function is exposed only by a binary resource
+     * function.
+     *
+     * @param transformerFuncNode Transformer function to be checked
+     * @return {@link Boolean} true if the transformer function takes or returns a byte stream
+     */
+    boolean isByteStreamTransformer(FunctionDefinitionNode transformerFuncNode) {
+        if (returnsByteStream(transformerFuncNode)) {
+            return true;
+        }
+        for (int i = 0; i < transformerFuncNode.functionSignature().parameters().size(); i++) {
+            if (isByteStreamParameter(transformerFuncNode, i)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * This method checks whether the given transformer function returns a byte stream.
+     *
+     * @param transformerFuncNode Transformer function to be checked
+     * @return {@link Boolean} true if the return type is a stream of byte arrays which completes with nil or an error
+     */
+    boolean returnsByteStream(FunctionDefinitionNode transformerFuncNode) {
+        return getFunctionType(transformerFuncNode)
+                .flatMap(FunctionTypeSymbol::returnTypeDescriptor)
+                .flatMap(this::getByteStreamType)
+                .filter(streamType -> isErrorOrNil(streamType.completionValueTypeParameter()))
+                .isPresent();
+    }
+
+    /**
+     * This method checks whether the required parameter at the given position of the given transformer function is
+     * a byte stream, regardless of whether it can receive the byte stream of the request body.
+     *
+     * @param transformerFuncNode Transformer function to be checked
+     * @param index Position of the parameter
+     * @return {@link Boolean} true if the parameter is a required parameter of a stream of byte arrays
+     */
+    boolean isByteStreamParameter(FunctionDefinitionNode transformerFuncNode, int index) {
+        return getRequiredParameterType(transformerFuncNode, index).flatMap(this::getByteStreamType).isPresent();
+    }
+
+    /**
+     * This method checks whether the required parameter at the given position of the given transformer function can
+     * receive the byte stream of the request body.
+     *
+     * @param transformerFuncNode Transformer function to be checked
+     * @param index Position of the parameter
+     * @return {@link Boolean} true if the parameter is a byte stream of which the completion type includes both nil
+     * and error
+     */
+    boolean acceptsRequestByteStream(FunctionDefinitionNode transformerFuncNode, int index) {
+        return getRequiredParameterType(transformerFuncNode, index)
+                .flatMap(this::getByteStreamType)
+                .filter(streamType -> includesErrorAndNil(streamType.completionValueTypeParameter()))
+                .isPresent();
+    }
+
+    private Optional<TypeSymbol> getRequiredParameterType(FunctionDefinitionNode transformerFuncNode, int index) {
+        SeparatedNodeList<ParameterNode> params = transformerFuncNode.functionSignature().parameters();
+        if (index >= params.size() || params.get(index).kind() != SyntaxKind.REQUIRED_PARAM) {
+            return Optional.empty();
+        }
+        return getFunctionType(transformerFuncNode)
+                .flatMap(FunctionTypeSymbol::params)
+                .filter(paramSymbols -> index < paramSymbols.size())
+                .map(paramSymbols -> paramSymbols.get(index))
+                .map(ParameterSymbol::typeDescriptor);
+    }
+
+    private Optional<StreamTypeSymbol> getByteStreamType(TypeSymbol typeSymbol) {
+        TypeSymbol type = getReferredType(typeSymbol);
+        if (type.typeKind() != TypeDescKind.STREAM) {
+            return Optional.empty();
+        }
+        StreamTypeSymbol streamType = (StreamTypeSymbol) type;
+        TypeSymbol valueType = getReferredType(streamType.typeParameter());
+        if (valueType.typeKind() != TypeDescKind.ARRAY || getReferredType(
+                ((ArrayTypeSymbol) valueType).memberTypeDescriptor()).typeKind() != TypeDescKind.BYTE) {
+            return Optional.empty();
+        }
+        return Optional.of(streamType);
+    }
+
+    private boolean isErrorOrNil(TypeSymbol typeSymbol) {
+        TypeSymbol type = getReferredType(typeSymbol);
+        if (type.typeKind() == TypeDescKind.UNION) {
+            return ((UnionTypeSymbol) type).memberTypeDescriptors().stream().allMatch(this::isErrorOrNil);
+        }
+        return type.typeKind() == TypeDescKind.NIL || type.typeKind() == TypeDescKind.ERROR;
+    }
+
+    private boolean includesErrorAndNil(TypeSymbol typeSymbol) {
+        TypeSymbol type = getReferredType(typeSymbol);
+        List<TypeSymbol> members = type.typeKind() == TypeDescKind.UNION ?
+                ((UnionTypeSymbol) type).memberTypeDescriptors() : List.of(type);
+        // Only the error type itself includes the errors of the request body, rather than any of its subtypes
+        return members.stream().anyMatch(member -> getReferredType(member).typeKind() == TypeDescKind.NIL)
+                && members.stream().anyMatch(member -> getReferredType(member).typeKind() == TypeDescKind.ERROR
+                && getReferredType(member).signature().equals(ERROR_TYPE));
+    }
+
+    private TypeSymbol getReferredType(TypeSymbol typeSymbol) {
+        TypeSymbol type = typeSymbol;
+        while (type.typeKind() == TypeDescKind.TYPE_REFERENCE) {
+            type = ((TypeReferenceTypeSymbol) type).typeDescriptor();
+        }
+        return type;
+    }
+
+    private Optional<FunctionTypeSymbol> getFunctionType(FunctionDefinitionNode transformerFuncNode) {
+        Optional<Symbol> symbol = semanticModel.symbol(transformerFuncNode);
+        if (symbol.isEmpty() || !(symbol.get() instanceof FunctionSymbol)) {
+            return Optional.empty();
+        }
+        return Optional.of(((FunctionSymbol) symbol.get()).typeDescriptor());
+    }
+}
@@ -0,0 +1,229 @@
+/*
+ * Copyright (c) 2022, WSO2 LLC. (http://www.wso2.com) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.transformer.plugin;
+
+import io.ballerina.compiler.syntax.tree.FunctionDefinitionNode;
+import io.ballerina.compiler.syntax.tree.ModuleMemberDeclarationNode;
+import io.ballerina.compiler.syntax.tree.ModulePartNode;
+import io.ballerina.compiler.syntax.tree.SyntaxKind;
+import io.ballerina.projects.Document;
+import io.ballerina.projects.Module;
+import io.ballerina.projects.PackageCompilation;
+import io.ballerina.tools.diagnostics.Diagnostic;
+import io.ballerina.tools.diagnostics.Location;
+import io.ballerina.tools.text.LineRange;
+import io.ballerina.tools.text.TextRange;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.WeakHashMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+/**
+ * State of the transformer plugin for a single compilation of a package, which is collected by the validator and
+ * consumed by the service generator. The plugin is reused for the subsequent compilations of a package, such as in
+ * the language server, hence the state is kept against the compilation and removed once the service is generated.
+ * The state of a compilation which never reaches the generation is evicted along with the compilation. Only the names
+ * of the transformer functions and the line ranges of the documents are kept, so that the syntax trees of a
+ * compilation are not retained by the plugin beyond the locations of the diagnostics.
+ *
+ * @since 0.1.1
+ */
+class CompilationState {
+
+    private static final Map<PackageCompilation, CompilationState> STATES =
+            Collections.synchronizedMap(new WeakHashMap<>());
+
+    private final Set<String> transformerFunctionNames = ConcurrentHashMap.newKeySet();
+    private final Map<String, List<Diagnostic>> modulePartDiagnostics = new ConcurrentSkipListMap<>();
+    private final Map<String, Location> defaultModulePartLocations = new ConcurrentSkipListMap<>();
+    private final AtomicInteger analyzedModuleParts = new AtomicInteger(0);
+    private final AtomicBoolean isCompilationErrorReported = new AtomicBoolean(false);
+    private volatile PackageIndex packageIndex;
+
+    private CompilationState() {
+    }
+
+    /**
+     * This method returns the state of the given compilation, which is created when it is first requested.
+     *
+     * @param compilation Compilation of the package
+     * @return {@link CompilationState} State of the compilation
+     */
+    static CompilationState of(PackageCompilation compilation) {
+        return STATES.computeIfAbsent(compilation, key -> new CompilationState());
+    }
+
+    /**
+     * This method removes the state of the given compilation, once it is no longer required.
+     *
+     * @param compilation Compilation of the package
+     * @return {@link CompilationState} State of the compilation, or an empty state if none was collected
+     */
+    static CompilationState remove(PackageCompilation compilation) {
+        CompilationState state = STATES.remove(compilation);
+        return state == null ? new CompilationState() : state;
+    }
+
+    /**
+     * This method returns the number of compilations of which the state is kept, which are the compilations being
+     * analyzed and those which are not yet evicted after failing to reach the generation.
+     *
+     * @return {@link Integer} Number of kept compilation states
+     */
+    static int size() {
+        return STATES.size();
+    }
+
+    /**
+     * This method records the diagnostics of an analyzed document, and returns the number of documents analyzed so
+     * far. The documents can be analyzed concurrently, hence the diagnostics are reported only once all of them are
+     * analyzed, in the order of the given keys.
+     *
+     * @param key Key of the document, which decides the order of its diagnostics
+     * @param diagnostics Diagnostics of the document
+     * @param defaultModulePartLocation Location of the document if it belongs to the default module, null otherwise
+     * @return {@link Integer} Number of analyzed documents
+     */
+    int addModulePart(String key, List<Diagnostic> diagnostics, Location defaultModulePartLocation) {
+        modulePartDiagnostics.put(key, diagnostics);
+        if (defaultModulePartLocation != null) {
+            // The location of a node refers to the node, hence only its ranges are kept
+            defaultModulePartLocations.put(key, new RangeLocation(defaultModulePartLocation.lineRange(),
+                    defaultModulePartLocation.textRange()));
+        }
+        return analyzedModuleParts.incrementAndGet();
+    }
+
+    /**
+     * This method returns the diagnostics of all the analyzed documents, in the order of the keys of the documents.
+     *
+     * @return {@link List<Diagnostic>} Diagnostics of the analyzed documents
+     */
+    List<Diagnostic> getModulePartDiagnostics() {
+        return modulePartDiagnostics.values().stream()
+                .flatMap(List::stream)
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * This method returns the location of the last document of the default module, in the order of the keys of the
+     * documents, at which the package level diagnostics are reported.
+     *
+     * @return {@link Optional<Location>} Location of the last document of the default module
+     */
+    Optional<Location> getDefaultModuleLocation() {
+        return defaultModulePartLocations.values().stream().reduce((first, second) -> second);
+    }
+
+    /**
+     * This method records that the compilation errors are reported, so that they are reported only once.
+     *
+     * @return {@link Boolean} true if the compilation errors were not reported before
+     */
+    boolean markCompilationErrorReported() {
+        return isCompilationErrorReported.compareAndSet(false, true);
+    }
+
+    /**
+     * This method returns the index of the compiled package, which is built by the given indexer when it is first
+     * requested.
+     *
+     * @param indexer Indexer of the package
+     * @return {@link PackageIndex} Index of the compiled package
+     */
+    PackageIndex getPackageIndex(Supplier<PackageIndex> indexer) {
+        PackageIndex index = packageIndex;
+        if (index == null) {
+            synchronized (this) {
+                if (packageIndex == null) {
+                    packageIndex = indexer.get();
+                }
+                index = packageIndex;
+            }
+        }
+        return index;
+    }
+
+    void addTransformerFunction(FunctionDefinitionNode transformerFuncNode) {
+        transformerFunctionNames.add(transformerFuncNode.functionName().text());
+    }
+
+    boolean hasTransformerFunctions() {
+        return !transformerFunctionNames.isEmpty();
+    }
+
+    /**
+     * This method returns the transformer functions of the given module, in the order of the names of the documents
+     * and the order of the functions within each document.
+     *
+     * @param defaultModule Default module of the compiled package
+     * @return {@link List<FunctionDefinitionNode>} Transformer functions of the module
+     */
+    List<FunctionDefinitionNode> getTransformerFunctions(Module defaultModule) {
+        List<Document> documents = defaultModule.documentIds().stream()
+                .map(defaultModule::document)
+                .sorted(Comparator.comparing(Document::name))
+                .collect(Collectors.toList());
+        List<FunctionDefinitionNode> transformerFunctions = new ArrayList<>();
+        for (Document document : documents) {
+            for (ModuleMemberDeclarationNode member : ((ModulePartNode) document.syntaxTree().rootNode()).members()) {
+                if (member.kind() == SyntaxKind.FUNCTION_DEFINITION && transformerFunctionNames.contains(
+                        ((FunctionDefinitionNode) member).functionName().text())) {
+                    transformerFunctions.add((FunctionDefinitionNode) member);
+                }
+            }
+        }
+        return transformerFunctions;
+    }
+
+    /**
+     * Location of a document which is given by its ranges, without referring to its syntax tree.
+     */
+    private static class RangeLocation implements Location {
+
+        private final LineRange lineRange;
+        private final TextRange textRange;
+
+        RangeLocation(LineRange lineRange, TextRange textRange) {
+            this.lineRange = lineRange;
+            this.textRange = textRange;
+        }
+
+        @Override
+        public LineRange lineRange() {
+            return lineRange;
+        }
+
+        @Override
+        public TextRange textRange() {
+            return textRange;
+        }
+    }
+}
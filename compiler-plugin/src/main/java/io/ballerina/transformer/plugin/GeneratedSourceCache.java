@@ -0,0 +1,222 @@
+/*
+ * Copyright (c) 2022, WSO2 LLC. (http://www.wso2.com) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.transformer.plugin;
+
+import io.ballerina.compiler.syntax.tree.FunctionDefinitionNode;
+import io.ballerina.compiler.syntax.tree.ModuleMemberDeclarationNode;
+import io.ballerina.compiler.syntax.tree.ModulePartNode;
+import io.ballerina.compiler.syntax.tree.Node;
+import io.ballerina.compiler.syntax.tree.NonTerminalNode;
+import io.ballerina.compiler.syntax.tree.SyntaxKind;
+import io.ballerina.projects.BallerinaToml;
+import io.ballerina.projects.Document;
+import io.ballerina.projects.Module;
+import io.ballerina.projects.Package;
+import io.ballerina.tools.diagnostics.Diagnostic;
+
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+
+/**
+ * Cache of the last sources generated for each package, which are reused as long as the inputs of the generation
+ * remain the same. The inputs are fingerprinted using the transformer functions, the type definitions of the default
+ * module, which decide the pipelines and the warm up payloads, the Ballerina.toml, which holds the transformer
+ * configurations, and the names of the modules, one of which may hold the client. Edits to any other part of the
+ * package do not regenerate the sources.
+ * <p>
+ * The pipelines, the warm up payloads and the byte stream resources are decided by the types of the transformer
+ * functions, which are resolved by the semantic model. Types of other modules and dependencies cannot be
+ * fingerprinted by their sources, hence the sources are not cached if such a type is referred to.
+ * <p>
+ * The cache lives as long as the compiler plugin is loaded, which is the whole session of a language server. Hence
+ * it keeps only the sources of the {@value MAX_ENTRIES} packages which were generated most recently, and the sources
+ * of the least recently generated or reused package are evicted once another package is generated.
+ *
+ * @since 0.1.1
+ */
+class GeneratedSourceCache {
+
+    private static final String DIGEST_ALGORITHM = "SHA-256";
+    private static final Set<SyntaxKind> TYPE_MEMBER_KINDS = Set.of(SyntaxKind.TYPE_DEFINITION,
+            SyntaxKind.ENUM_DECLARATION, SyntaxKind.CONST_DECLARATION);
+    private static final int MAX_ENTRIES = 8;
+    private static final Map<String, Entry> ENTRIES = Collections.synchronizedMap(
+            new LinkedHashMap<>(MAX_ENTRIES, 0.75f, true) {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<String, Entry> eldest) {
+                    return size() > MAX_ENTRIES;
+                }
+            });
+    private static final AtomicLong REUSE_COUNT = new AtomicLong();
+
+    private GeneratedSourceCache() {
+    }
+
+    /**
+     * This method returns the sources generated for the given package, if they were generated from the inputs of
+     * the given fingerprint.
+     *
+     * @param currentPackage Package of which the sources to be returned
+     * @param fingerprint Fingerprint of the current inputs of the generation
+     * @return {@link Optional<Entry>} Generated sources, or empty if the inputs changed since the last generation
+     */
+    static Optional<Entry> get(Package currentPackage, String fingerprint) {
+        Optional<Entry> entry = Optional.ofNullable(ENTRIES.get(getPackageKey(currentPackage)))
+                .filter(cachedEntry -> cachedEntry.fingerprint.equals(fingerprint));
+        entry.ifPresent(reusedEntry -> REUSE_COUNT.incrementAndGet());
+        return entry;
+    }
+
+    /**
+     * This method returns the number of times the cached sources were reused.
+     *
+     * @return {@link Long} Number of reuses of the cached sources
+     */
+    static long getReuseCount() {
+        return REUSE_COUNT.get();
+    }
+
+    /**
+     * This method caches the sources generated for the given package, replacing the sources generated from the
+     * previous inputs, and evicts the sources of the least recently used package if the cache is full.
+     *
+     * @param currentPackage Package of which the sources are generated
+     * @param entry Generated sources and the fingerprint of their inputs
+     */
+    static void put(Package currentPackage, Entry entry) {
+        ENTRIES.put(getPackageKey(currentPackage), entry);
+    }
+
+    /**
+     * This method returns the fingerprint of the inputs of the generation for the given package.
+     *
+     * @param currentPackage Package of which the sources to be generated
+     * @param transformerFunctions List of transformer functions of the package
+     * @return {@link Optional<String>} Hex encoded digest of the inputs, or empty if the transformer functions refer
+     * to types of other modules
+     */
+    static Optional<String> fingerprint(Package currentPackage, List<FunctionDefinitionNode> transformerFunctions) {
+        MessageDigest digest;
+        try {
+            digest = MessageDigest.getInstance(DIGEST_ALGORITHM);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+        update(digest, currentPackage.ballerinaToml()
+                .map(BallerinaToml::tomlDocument)
+                .map(tomlDocument -> tomlDocument.textDocument().toString())
+                .orElse(""));
+        List<String> moduleNames = new ArrayList<>();
+        for (Module module : currentPackage.modules()) {
+            moduleNames.add(module.moduleName().toString());
+        }
+        moduleNames.stream().sorted().forEach(moduleName -> update(digest, moduleName));
+        Module defaultModule = currentPackage.getDefaultModule();
+        List<Document> documents = defaultModule.documentIds().stream()
+                .map(defaultModule::document)
+                .sorted(Comparator.comparing(Document::name))
+                .collect(Collectors.toList());
+        for (Document document : documents) {
+            for (ModuleMemberDeclarationNode member : ((ModulePartNode) document.syntaxTree().rootNode()).members()) {
+                if (TYPE_MEMBER_KINDS.contains(member.kind())) {
+                    if (hasQualifiedReference(member)) {
+                        return Optional.empty();
+                    }
+                    update(digest, member.toSourceCode());
+                }
+            }
+        }
+        // The order of the transformer functions decides the order of the generated members
+        for (FunctionDefinitionNode transformerFuncNode : transformerFunctions) {
+            if (hasQualifiedReference(transformerFuncNode.functionSignature())) {
+                return Optional.empty();
+            }
+            update(digest, transformerFuncNode.toSourceCode());
+        }
+        return Optional.of(String.format("%064x", new BigInteger(1, digest.digest())));
+    }
+
+    private static boolean hasQualifiedReference(Node node) {
+        if (node.kind() == SyntaxKind.QUALIFIED_NAME_REFERENCE) {
+            return true;
+        }
+        if (node instanceof NonTerminalNode) {
+            for (Node child : ((NonTerminalNode) node).children()) {
+                if (hasQualifiedReference(child)) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    private static void update(MessageDigest digest, String source) {
+        byte[] bytes = source.getBytes(StandardCharsets.UTF_8);
+        // Length prefixes keep the boundaries of the inputs, so that moving text between them changes the digest
+        digest.update(BigInteger.valueOf(bytes.length).toByteArray());
+        digest.update(bytes);
+    }
+
+    private static String getPackageKey(Package currentPackage) {
+        return currentPackage.project().sourceRoot().toAbsolutePath() + "/" +
+                currentPackage.packageOrg().value() + "/" + currentPackage.packageName().value();
+    }
+
+    /**
+     * Sources generated for a package and the fingerprint of their inputs. The diagnostics reported while generating
+     * the sources are kept as well, so that they are reported again when the sources are reused.
+     */
+    static class Entry {
+
+        private final String fingerprint;
+        private final Map<String, String> sources;
+        private final List<Diagnostic> diagnostics;
+
+        Entry(String fingerprint, Map<String, String> sources, List<Diagnostic> diagnostics) {
+            this.fingerprint = fingerprint;
+            this.sources = sources;
+            this.diagnostics = diagnostics;
+        }
+
+        /**
+         * This method returns the generated sources against the prefixes of their file names.
+         *
+         * @return {@link Map<String, String>} Generated sources
+         */
+        Map<String, String> getSources() {
+            return sources;
+        }
+
+        List<Diagnostic> getDiagnostics() {
+            return diagnostics;
+        }
+    }
+}
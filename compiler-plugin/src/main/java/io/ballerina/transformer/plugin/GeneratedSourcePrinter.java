@@ -0,0 +1,109 @@
+/*
+ * Copyright (c) 2022, WSO2 LLC. (http://www.wso2.com) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.transformer.plugin;
+
+import io.ballerina.compiler.syntax.tree.Node;
+import io.ballerina.compiler.syntax.tree.NonTerminalNode;
+import io.ballerina.compiler.syntax.tree.Token;
+
+/**
+ * Printer of the source code of a generated syntax tree, which is a faster alternative to formatting the tree when
+ * the generated code is large. The tokens created by the node factory do not have minutiae, hence the printer
+ * separates such a token from the previous token only when they would otherwise be read as a single token, and
+ * breaks the line after statements and braces. The tokens parsed from the templates are printed with their own
+ * minutiae.
+ *
+ * @since 0.1.1
+ */
+class GeneratedSourcePrinter {
+
+    private static final String OPERATOR_CHARS = "=<>!-+*/%&|^~?.:@{}";
+
+    private final StringBuilder source = new StringBuilder();
+    private boolean isLineBreakPending = false;
+
+    private GeneratedSourcePrinter() {
+    }
+
+    /**
+     * This method returns the source code of the given node.
+     *
+     * @param node Generated node to be printed
+     * @return {@link String} Source code of the node
+     */
+    static String print(Node node) {
+        GeneratedSourcePrinter printer = new GeneratedSourcePrinter();
+        printer.visit(node);
+        return printer.source.toString();
+    }
+
+    private void visit(Node node) {
+        if (node instanceof Token) {
+            visitToken((Token) node);
+            return;
+        }
+        for (Node child : ((NonTerminalNode) node).children()) {
+            if (child != null) {
+                visit(child);
+            }
+        }
+    }
+
+    private void visitToken(Token token) {
+        String text = token.text();
+        if (text.isEmpty() && !token.hasLeadingMinutiae() && !token.hasTrailingMinutiae()) {
+            return;
+        }
+        if (token.hasLeadingMinutiae()) {
+            isLineBreakPending = false;
+            source.append(token.leadingMinutiae());
+        } else if (isLineBreakPending && !isClosingToken(text)) {
+            source.append(System.lineSeparator());
+        } else if (!text.isEmpty() && source.length() > 0 &&
+                isSeparationRequired(source.charAt(source.length() - 1), text.charAt(0))) {
+            source.append(' ');
+        }
+        isLineBreakPending = false;
+        source.append(text);
+        if (token.hasTrailingMinutiae()) {
+            source.append(token.trailingMinutiae());
+        } else {
+            isLineBreakPending = text.equals(";") || text.equals("{") || text.equals("}");
+        }
+    }
+
+    private static boolean isClosingToken(String text) {
+        return text.equals(";") || text.equals(",") || text.equals(")") || text.equals("]");
+    }
+
+    private static boolean isSeparationRequired(char previousChar, char nextChar) {
+        if (isWordChar(previousChar)) {
+            // A service path followed by a keyword, as in 'service / on', is read as a single path otherwise
+            return isWordChar(nextChar) || nextChar == '/';
+        }
+        if (previousChar == '/' && isWordChar(nextChar)) {
+            return true;
+        }
+        return OPERATOR_CHARS.indexOf(previousChar) >= 0 && OPERATOR_CHARS.indexOf(nextChar) >= 0;
+    }
+
+    private static boolean isWordChar(char c) {
+        return Character.isLetterOrDigit(c) || c == '_' || c == '\'' || c == '"' || c == '`' || c == '\\';
+    }
+}
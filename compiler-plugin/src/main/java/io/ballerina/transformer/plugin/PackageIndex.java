@@ -0,0 +1,130 @@
+/*
+ * Copyright (c) 2022, WSO2 LLC. (http://www.wso2.com) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.transformer.plugin;
+
+import io.ballerina.compiler.api.SemanticModel;
+import io.ballerina.compiler.api.symbols.SymbolKind;
+import io.ballerina.compiler.api.symbols.TypeDefinitionSymbol;
+import io.ballerina.compiler.api.symbols.TypeSymbol;
+import io.ballerina.projects.DocumentId;
+import io.ballerina.projects.Module;
+import io.ballerina.projects.ModuleId;
+import io.ballerina.projects.Package;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Predicate;
+
+/**
+ * Index of a compiled package, which is built once per compilation so that the validator looks up the modules,
+ * documents and types of the package in constant time, instead of scanning them for each document and function.
+ * The types are indexed by whether they are supported by the generated service, so that no symbols of the
+ * compilation are retained.
+ *
+ * @since 0.1.1
+ */
+class PackageIndex {
+
+    private static final AtomicLong BUILD_COUNT = new AtomicLong();
+
+    private final ModuleId defaultModuleId;
+    private final Set<DocumentId> testDocumentIds;
+    private final int documentCount;
+    private final Map<String, Boolean> supportedTypes;
+
+    private PackageIndex(ModuleId defaultModuleId, Set<DocumentId> testDocumentIds, int documentCount,
+                         Map<String, Boolean> supportedTypes) {
+        this.defaultModuleId = defaultModuleId;
+        this.testDocumentIds = testDocumentIds;
+        this.documentCount = documentCount;
+        this.supportedTypes = supportedTypes;
+    }
+
+    /**
+     * This method returns the index of the given package.
+     *
+     * @param currentPackage Package to be indexed
+     * @param semanticModel Semantic model of the default module of the package
+     * @param isSupportedType Predicate which checks whether a type is supported by the generated service
+     * @return {@link PackageIndex} Index of the package
+     */
+    static PackageIndex from(Package currentPackage, SemanticModel semanticModel,
+                             Predicate<TypeSymbol> isSupportedType) {
+        ModuleId defaultModuleId = null;
+        Set<DocumentId> testDocumentIds = new HashSet<>();
+        int documentCount = 0;
+        for (Module module : currentPackage.modules()) {
+            if (module.isDefaultModule()) {
+                defaultModuleId = module.moduleId();
+            }
+            testDocumentIds.addAll(module.testDocumentIds());
+            documentCount += module.documentIds().size();
+        }
+        Map<String, Boolean> supportedTypes = new HashMap<>();
+        semanticModel.moduleSymbols().stream()
+                .filter(symbol -> symbol.kind() == SymbolKind.TYPE_DEFINITION)
+                .map(symbol -> (TypeDefinitionSymbol) symbol)
+                .forEach(typeDefSymbol -> typeDefSymbol.getName().ifPresent(name ->
+                        supportedTypes.put(name, isSupportedType.test(typeDefSymbol.typeDescriptor()))));
+        BUILD_COUNT.incrementAndGet();
+        return new PackageIndex(defaultModuleId, testDocumentIds, documentCount, supportedTypes);
+    }
+
+    /**
+     * This method returns the number of times a package was indexed.
+     *
+     * @return {@link Long} Number of builds of the package indexes
+     */
+    static long getBuildCount() {
+        return BUILD_COUNT.get();
+    }
+
+    boolean isDefaultModule(ModuleId moduleId) {
+        return moduleId.equals(defaultModuleId);
+    }
+
+    boolean isTestDocument(DocumentId documentId) {
+        return testDocumentIds.contains(documentId);
+    }
+
+    /**
+     * This method returns the number of documents of the package, excluding the test documents.
+     *
+     * @return {@link Integer} Number of documents of the package
+     */
+    int getDocumentCount() {
+        return documentCount;
+    }
+
+    /**
+     * This method checks whether the type definition of the default module with the given name is supported by the
+     * generated service.
+     *
+     * @param typeName Name of the type definition
+     * @return {@link Optional<Boolean>} true if the type is supported, or empty if it is not a type definition of
+     * the default module
+     */
+    Optional<Boolean> isSupportedType(String typeName) {
+        return Optional.ofNullable(supportedTypes.get(typeName));
+    }
+}
@@ -0,0 +1,106 @@
+/*
+ * Copyright (c) 2022, WSO2 LLC. (http://www.wso2.com) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.transformer.plugin;
+
+import io.ballerina.compiler.api.SemanticModel;
+import io.ballerina.compiler.api.symbols.FunctionSymbol;
+import io.ballerina.compiler.api.symbols.FunctionTypeSymbol;
+import io.ballerina.compiler.api.symbols.ParameterSymbol;
+import io.ballerina.compiler.api.symbols.Symbol;
+import io.ballerina.compiler.api.symbols.TypeDescKind;
+import io.ballerina.compiler.api.symbols.TypeSymbol;
+import io.ballerina.compiler.syntax.tree.FunctionDefinitionNode;
+import io.ballerina.compiler.syntax.tree.SyntaxKind;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Analyzer of the transformer functions which can be chained in a pipeline. The result of a transformer function can
+ * be passed to another transformer function only if the latter has a single required parameter and the return type
+ * of the former is a subtype of the type of that parameter.
+ *
+ * @since 0.1.1
+ */
+class PipelineAnalyzer {
+
+    private final SemanticModel semanticModel;
+
+    PipelineAnalyzer(SemanticModel semanticModel) {
+        this.semanticModel = semanticModel;
+    }
+
+    /**
+     * This method returns the names of the transformer functions which can receive the result of each of the given
+     * transformer functions, in the order of the given transformer functions.
+     *
+     * @param transformerFunctions List of transformer functions to be chained
+     * @return {@link Map<String, List<String>>} Names of the successors of each transformer function
+     */
+    Map<String, List<String>> getSuccessors(List<FunctionDefinitionNode> transformerFunctions) {
+        Map<String, List<String>> successors = new LinkedHashMap<>();
+        for (FunctionDefinitionNode transformerFuncNode : transformerFunctions) {
+            List<String> nextFuncNames = new ArrayList<>();
+            Optional<TypeSymbol> returnType = getFunctionType(transformerFuncNode)
+                    .flatMap(FunctionTypeSymbol::returnTypeDescriptor)
+                    .filter(type -> type.typeKind() != TypeDescKind.NIL);
+            if (returnType.isPresent()) {
+                for (FunctionDefinitionNode nextFuncNode : transformerFunctions) {
+                    Optional<TypeSymbol> paramType = getChainedParameterType(nextFuncNode);
+                    if (paramType.isPresent() && returnType.get().subtypeOf(paramType.get())) {
+                        nextFuncNames.add(nextFuncNode.functionName().text());
+                    }
+                }
+            }
+            successors.put(transformerFuncNode.functionName().text(), nextFuncNames);
+        }
+        return successors;
+    }
+
+    /**
+     * This method returns the type of the parameter which receives the result of the previous transformer function
+     * of a pipeline, if the given transformer function can be chained.
+     *
+     * @param transformerFuncNode Transformer function to be chained
+     * @return {@link Optional<TypeSymbol>} Type of the single required parameter, empty if the function cannot be
+     * chained
+     */
+    Optional<TypeSymbol> getChainedParameterType(FunctionDefinitionNode transformerFuncNode) {
+        if (transformerFuncNode.functionSignature().parameters().size() != 1 ||
+                transformerFuncNode.functionSignature().parameters().get(0).kind() != SyntaxKind.REQUIRED_PARAM) {
+            return Optional.empty();
+        }
+        return getFunctionType(transformerFuncNode)
+                .flatMap(FunctionTypeSymbol::params)
+                .filter(params -> params.size() == 1)
+                .map(params -> params.get(0))
+                .map(ParameterSymbol::typeDescriptor);
+    }
+
+    private Optional<FunctionTypeSymbol> getFunctionType(FunctionDefinitionNode transformerFuncNode) {
+        Optional<Symbol> symbol = semanticModel.symbol(transformerFuncNode);
+        if (symbol.isEmpty() || !(symbol.get() instanceof FunctionSymbol)) {
+            return Optional.empty();
+        }
+        return Optional.of(((FunctionSymbol) symbol.get()).typeDescriptor());
+    }
+}
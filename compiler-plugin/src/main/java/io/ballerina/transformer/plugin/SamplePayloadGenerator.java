@@ -0,0 +1,191 @@
+/*
+ * Copyright (c) 2022, WSO2 LLC. (http://www.wso2.com) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.transformer.plugin;
+
+import io.ballerina.compiler.api.SemanticModel;
+import io.ballerina.compiler.api.symbols.ArrayTypeSymbol;
+import io.ballerina.compiler.api.symbols.FunctionSymbol;
+import io.ballerina.compiler.api.symbols.IntersectionTypeSymbol;
+import io.ballerina.compiler.api.symbols.MapTypeSymbol;
+import io.ballerina.compiler.api.symbols.ParameterSymbol;
+import io.ballerina.compiler.api.symbols.RecordFieldSymbol;
+import io.ballerina.compiler.api.symbols.RecordTypeSymbol;
+import io.ballerina.compiler.api.symbols.Symbol;
+import io.ballerina.compiler.api.symbols.TableTypeSymbol;
+import io.ballerina.compiler.api.symbols.TupleTypeSymbol;
+import io.ballerina.compiler.api.symbols.TypeDescKind;
+import io.ballerina.compiler.api.symbols.TypeReferenceTypeSymbol;
+import io.ballerina.compiler.api.symbols.TypeSymbol;
+import io.ballerina.compiler.api.symbols.UnionTypeSymbol;
+import io.ballerina.compiler.syntax.tree.FunctionDefinitionNode;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Generator of representative JSON payloads for transformer functions, which are used to warm up the generated
+ * service. The payload of a transformer function is a JSON object with a sample value for each of its parameters.
+ *
+ * @since 0.1.1
+ */
+class SamplePayloadGenerator {
+
+    private static final int SAMPLE_ARRAY_LENGTH = 3;
+    private static final int MAX_DEPTH = 8;
+    private static final String SAMPLE_STRING = "\"sample\"";
+    private static final String SAMPLE_CHAR = "\"s\"";
+    private static final String SAMPLE_INT = "1";
+    private static final String SAMPLE_FLOAT = "1.5";
+    private static final String SAMPLE_BOOLEAN = "true";
+    private static final String SAMPLE_NULL = "null";
+    private static final String SAMPLE_KEY = "\"key\"";
+
+    private final SemanticModel semanticModel;
+
+    SamplePayloadGenerator(SemanticModel semanticModel) {
+        this.semanticModel = semanticModel;
+    }
+
+    /**
+     * This method returns a representative JSON payload for the given transformer function.
+     *
+     * @param transformerFuncNode Transformer function for which the payload to be generated
+     * @return {@link Optional<String>} Source of the JSON payload, empty if a sample value could not be generated
+     * for any of the parameters
+     */
+    Optional<String> generate(FunctionDefinitionNode transformerFuncNode) {
+        Optional<Symbol> symbol = semanticModel.symbol(transformerFuncNode);
+        if (symbol.isEmpty() || !(symbol.get() instanceof FunctionSymbol)) {
+            return Optional.empty();
+        }
+        FunctionSymbol functionSymbol = (FunctionSymbol) symbol.get();
+        List<ParameterSymbol> params = new ArrayList<>(functionSymbol.typeDescriptor().params().orElse(List.of()));
+        functionSymbol.typeDescriptor().restParam().ifPresent(params::add);
+        List<String> fields = new ArrayList<>();
+        for (ParameterSymbol param : params) {
+            Optional<String> sampleValue = generateValue(param.typeDescriptor(), 0);
+            if (param.getName().isEmpty() || sampleValue.isEmpty()) {
+                return Optional.empty();
+            }
+            fields.add(generateKey(param.getName().get()) + ": " + sampleValue.get());
+        }
+        return Optional.of("{" + String.join(", ", fields) + "}");
+    }
+
+    private Optional<String> generateValue(TypeSymbol typeSymbol, int depth) {
+        if (depth > MAX_DEPTH) {
+            return Optional.empty();
+        }
+        switch (typeSymbol.typeKind()) {
+            case STRING:
+                return Optional.of(SAMPLE_STRING);
+            case STRING_CHAR:
+                return Optional.of(SAMPLE_CHAR);
+            case INT:
+            case INT_SIGNED8:
+            case INT_SIGNED16:
+            case INT_SIGNED32:
+            case INT_UNSIGNED8:
+            case INT_UNSIGNED16:
+            case INT_UNSIGNED32:
+            case BYTE:
+                return Optional.of(SAMPLE_INT);
+            case FLOAT:
+            case DECIMAL:
+                return Optional.of(SAMPLE_FLOAT);
+            case BOOLEAN:
+                return Optional.of(SAMPLE_BOOLEAN);
+            case NIL:
+                return Optional.of(SAMPLE_NULL);
+            case JSON:
+            case ANYDATA:
+                return Optional.of("{" + SAMPLE_KEY + ": " + SAMPLE_STRING + "}");
+            case SINGLETON:
+                return Optional.of(typeSymbol.signature());
+            case TYPE_REFERENCE:
+                return generateValue(((TypeReferenceTypeSymbol) typeSymbol).typeDescriptor(), depth);
+            case INTERSECTION:
+                return generateValue(((IntersectionTypeSymbol) typeSymbol).effectiveTypeDescriptor(), depth);
+            case UNION:
+                // The first member which can be sampled represents the union, preferring values over nil
+                Optional<String> nilValue = Optional.empty();
+                for (TypeSymbol memberTypeSymbol : ((UnionTypeSymbol) typeSymbol).memberTypeDescriptors()) {
+                    Optional<String> memberValue = generateValue(memberTypeSymbol, depth + 1);
+                    if (memberValue.isPresent() && !memberValue.get().equals(SAMPLE_NULL)) {
+                        return memberValue;
+                    } else if (memberValue.isPresent()) {
+                        nilValue = memberValue;
+                    }
+                }
+                return nilValue;
+            case ARRAY:
+                ArrayTypeSymbol arrayTypeSymbol = (ArrayTypeSymbol) typeSymbol;
+                return generateList(arrayTypeSymbol.memberTypeDescriptor(),
+                        arrayTypeSymbol.size().orElse(SAMPLE_ARRAY_LENGTH), depth);
+            case TUPLE:
+                List<String> members = new ArrayList<>();
+                for (TypeSymbol memberTypeSymbol : ((TupleTypeSymbol) typeSymbol).memberTypeDescriptors()) {
+                    Optional<String> memberValue = generateValue(memberTypeSymbol, depth + 1);
+                    if (memberValue.isEmpty()) {
+                        return Optional.empty();
+                    }
+                    members.add(memberValue.get());
+                }
+                return Optional.of("[" + String.join(", ", members) + "]");
+            case MAP:
+                return generateValue(((MapTypeSymbol) typeSymbol).typeParam(), depth + 1)
+                        .map(value -> "{" + SAMPLE_KEY + ": " + value + "}");
+            case TABLE:
+                return generateList(((TableTypeSymbol) typeSymbol).rowTypeParameter(), SAMPLE_ARRAY_LENGTH, depth);
+            case RECORD:
+                return generateRecord((RecordTypeSymbol) typeSymbol, depth);
+            default:
+                return Optional.empty();
+        }
+    }
+
+    private Optional<String> generateList(TypeSymbol memberTypeSymbol, int length, int depth) {
+        return generateValue(memberTypeSymbol, depth + 1)
+                .map(value -> "[" + String.join(", ", Collections.nCopies(length, value)) + "]");
+    }
+
+    private Optional<String> generateRecord(RecordTypeSymbol recordTypeSymbol, int depth) {
+        List<String> fields = new ArrayList<>();
+        for (Map.Entry<String, RecordFieldSymbol> field : recordTypeSymbol.fieldDescriptors().entrySet()) {
+            // Optional fields are left out, as they are not needed to bind the record
+            if (field.getValue().isOptional()) {
+                continue;
+            }
+            Optional<String> fieldValue = generateValue(field.getValue().typeDescriptor(), depth + 1);
+            if (fieldValue.isEmpty()) {
+                return Optional.empty();
+            }
+            fields.add(generateKey(field.getKey()) + ": " + fieldValue.get());
+        }
+        return Optional.of("{" + String.join(", ", fields) + "}");
+    }
+
+    private String generateKey(String name) {
+        String unquotedName = name.startsWith("'") ? name.substring(1) : name;
+        return "\"" + unquotedName.replace("\\", "\\\\").replace("\"", "\\\"") + "\"";
+    }
+}
@@ -0,0 +1,282 @@
+/*
+ * Copyright (c) 2022, WSO2 LLC. (http://www.wso2.com) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.transformer.plugin;
+
+/**
+ * Templates of the Ballerina source of the transformer service, which are formatted with the names and types of the
+ * transformer functions and parsed by the service generator. The parts of the service which are built from the
+ * syntax tree of the transformer functions, such as the resource function signatures, are constructed by the service
+ * generator instead.
+ *
+ * @since 0.1.1
+ */
+final class ServiceTemplates {
+
+    static final String HEALTH_BODY = "{\n    return {status: \"UP\"};\n}";
+    static final String LISTENER_CONFIG = "final http:ListenerConfiguration listenerConfig = {\n" +
+            "    httpVersion: check httpVersion.ensureType(),\n" +
+            "    timeout,\n" +
+            "    http1Settings: {keepAlive: check keepAlive.ensureType()},\n" +
+            "    requestLimits: {maxUriLength, maxHeaderSize, maxEntityBodySize}%s\n" +
+            "};";
+    static final String COMPRESSION_CONFIG = "final http:CompressionConfig compressionConfig = " +
+            "{enable: check compression.ensureType()};";
+    static final String SERVICE_CONFIG = "{compression: compressionConfig}";
+    static final String SOCKET_CONFIG = ",\n    socketConfig: {soBackLog: backlog}";
+    static final String CACHE_KEY = "transformer:cacheKey([%s])";
+    static final String RESPONSE_CACHE = "final transformer:ResponseCache %1$sCache = new (%2$d, %3$s);";
+    static final String CACHE_LOOKUP = "    string cacheKey = %1$s;\n" +
+            "    anydata cached = %2$sCache.get(cacheKey);\n" +
+            "    if cached !is () && cached is %3$s {\n" +
+            "        return cached;\n" +
+            "    }\n";
+    static final String CACHED_RESOURCE_BODY = "{\n" +
+            CACHE_LOOKUP +
+            "    %3$s result = %4$s;\n" +
+            "    %2$sCache.put(cacheKey, result.cloneReadOnly());\n" +
+            "    return result;\n" +
+            "}";
+    static final String BULKHEAD = "final transformer:Bulkhead %1$sBulkhead = new (%2$d);";
+    static final String BULKHEAD_ACQUIRE = "    if !%1$sBulkhead.acquire() {\n" +
+            "%2$s" +
+            "        return <http:ServiceUnavailable>{headers: {\"Retry-After\": \"%3$d\"}};\n" +
+            "    }\n";
+    static final String BULKHEAD_RELEASE = "    %sBulkhead.release();\n";
+    static final String LOAD_TRACKER = "final transformer:LoadTracker %sLoad = new;";
+    static final String LOAD_BEGIN = "    decimal loadStart = %sLoad.begin();\n";
+    static final String LOAD_END = "    %sLoad.end(loadStart, result is error);\n";
+    static final String CACHE_STORE = "    if result is %2$s {\n" +
+            "        %1$sCache.put(cacheKey, result.cloneReadOnly());\n" +
+            "    }\n";
+    static final String RETURN_RESULT = "    return result;\n";
+    static final String TRANSFORMER_METRICS = "final transformer:TransformerMetrics %1$sMetrics = " +
+            "check new (\"%1$s\");";
+    static final String REQUEST_RESOURCE_RETURN_TYPE = "http:Response|http:BadRequest%s%s%s|error";
+    static final String PAYLOAD_LIMIT_RETURN_TYPE = "|http:PayloadTooLarge";
+    static final String BULKHEAD_RETURN_TYPE = "|http:ServiceUnavailable";
+    static final String DEADLINE_RETURN_TYPE = "|http:GatewayTimeout";
+    static final String DEADLINE_PAYLOAD = "    var readonlyPayload = payload.cloneReadOnly();\n";
+    static final String DEADLINE_CALL = "<%1$s|error>transformer:runWithDeadline(start %2$s, %3$s)";
+    static final String DEADLINE_FUNCTION = "%1$sfunction %2$sWithinDeadline(%3$s) returns %4$s|error {\n" +
+            "    %4$s|error result = trap %5$s;\n" +
+            "%6$s" +
+            "    return result;\n" +
+            "}";
+    static final String DEADLINE_FAILURE = "    if result is transformer:DeadlineExceededError {\n" +
+            "%s" +
+            "        return <http:GatewayTimeout>{body: result.message()};\n" +
+            "    }\n";
+    static final String TIMER_START = "    transformer:RequestTimer timer = %sMetrics.startRequest();\n";
+    static final String TIMER_PAYLOAD_SIZE = "    timer.setPayloadSize(body.length());\n";
+    static final String TIMER_END_PHASE = "    timer.endPhase(transformer:%s);\n";
+    static final String TIMER_FAIL = "        timer.fail();\n";
+    static final String READ_BODY = "    byte[] body = check request.getBinaryPayload();\n";
+    static final String READ_LIMITED_BODY = "    byte[]|error payloadBytes = transformer:readPayload(" +
+            "check request.getByteStream(), request.getHeader(\"Content-Length\"), %2$d);\n" +
+            "    if payloadBytes is transformer:PayloadTooLargeError {\n" +
+            "%1$s" +
+            "        return <http:PayloadTooLarge>{body: payloadBytes.message()};\n" +
+            "    }\n" +
+            "    byte[] body = check payloadBytes;\n";
+    static final String JSON_PAYLOAD_BINDING = "    string|error payloadText = string:fromBytes(body);\n" +
+            "    %1$s|error payload = payloadText is string ? payloadText.fromJsonStringWithType(%1$s) : " +
+            "payloadText;\n";
+    static final String DECODED_PAYLOAD_BINDING = "    anydata|error payloadValue = " +
+            "transformer:decodePayload(body, request.getContentType(), %1$s);\n" +
+            "    %1$s|error payload = payloadValue is error ? payloadValue : payloadValue.ensureType(%1$s);\n";
+    static final String STRING_PAYLOAD_BINDING = "    string|error payload = string:fromBytes(body);\n";
+    static final String BINARY_PAYLOAD_BINDING = "    byte[]|error payload = body;\n";
+    static final String BIND_FAILURE = "    if payload is error {\n" +
+            "%s" +
+            "        return <http:BadRequest>{body: payload.message()};\n" +
+            "    }\n";
+    static final String TRANSFORM = "    %1$s|error result = trap %2$s;\n";
+    static final String CACHED_TRANSFORM = "    string cacheKey = %3$s;\n" +
+            "    anydata cached = %4$sCache.get(cacheKey);\n" +
+            "    %1$s|error result;\n" +
+            "    if cached !is () && cached is %1$s {\n" +
+            "        result = cached;\n" +
+            "%5$s" +
+            "    } else {\n" +
+            "        result = trap %2$s;\n" +
+            "        if result is %1$s {\n" +
+            "            %4$sCache.put(cacheKey, result.cloneReadOnly());\n" +
+            "        }\n" +
+            "    }\n";
+    static final String TRANSFORM_FAILURE = "    if result is error {\n" +
+            "%s" +
+            "        return result;\n" +
+            "    }\n";
+    static final String JSON_RESPONSE = "    http:Response response = new;\n" +
+            "    byte[] content = result.toJsonString().toBytes();\n" +
+            "    response.setBinaryPayload(content, \"application/json\");\n";
+    static final String ENCODED_RESPONSE = "    http:Response response = new;\n" +
+            "    string|error accept = request.getHeader(\"Accept\");\n" +
+            "    transformer:EncodedPayload encoded = transformer:encodePayload(result, accept is string ? accept : " +
+            "\"\");\n" +
+            "    response.setBinaryPayload(encoded.content, encoded.contentType);\n";
+    static final String ACCEPTED_RESPONSE = "    http:Response response = new;\n" +
+            "    response.statusCode = http:STATUS_ACCEPTED;\n";
+    static final String COMPRESSION_THRESHOLD = "    if %s.length() < compressionThreshold {\n" +
+            "        response.setHeader(\"Content-Encoding\", \"identity\");\n" +
+            "    }\n";
+    static final String RETURN_RESPONSE = "    return response;\n";
+    static final String WARM_UP = "final int warmedUpIterations = warmUpTransformers();";
+    static final String WARM_UP_FUNCTION = "function warmUpTransformers() returns int {\n" +
+            "%1$s" +
+            "    int iteration = 0;\n" +
+            "    while iteration < warmUpIterations {\n" +
+            "%2$s" +
+            "        iteration += 1;\n" +
+            "    }\n" +
+            "    return iteration;\n" +
+            "}";
+    static final String WARM_UP_SAMPLE = "    json %1$sSample = %2$s;\n";
+    static final String WARM_UP_BINDING = "        %1$sPayload|error %1$sArgs = " +
+            "%1$sSample.fromJsonWithType(%1$sPayload);\n" +
+            "        if %1$sArgs is %1$sPayload {\n" +
+            "%2$s" +
+            "        }\n";
+    static final String WARM_UP_CALL = "        anydata|error %1$sResult = trap %2$s;\n" +
+            "        if %1$sResult is anydata {\n" +
+            "            _ = %1$sResult.toJsonString();\n" +
+            "        }\n";
+    static final String BATCH_RESOURCE_BODY = "{\n" +
+            "%6$s" +
+            "    %1$s[] results = [];\n" +
+            "    foreach %2$s payload in payloads {\n" +
+            "        %3$s result = trap %4$s;\n" +
+            "        if result is error {\n" +
+            "            results.push({'error: result.message()});\n" +
+            "        } else {\n" +
+            "            results.push(%5$s);\n" +
+            "        }\n" +
+            "    }\n" +
+            "%7$s" +
+            "    return results;\n" +
+            "}";
+    static final String NDJSON_RESOURCE_BODY = "{\n" +
+            "    http:Response response = new;\n" +
+            "    response.setByteStream(transformer:transformNdjson(check request.getByteStream(),\n" +
+            "        isolated function(json item) returns anydata|error {\n" +
+            "            %1$s payload = check item.cloneWithType();\n" +
+            "            return %2$s;\n" +
+            "        }), \"application/x-ndjson\");\n" +
+            "    return response;\n" +
+            "}";
+    static final String BYTE_STREAM_BINDING = "    stream<byte[], error?> payload = " +
+            "check request.getByteStream();\n";
+    static final String BYTE_ARRAY_BINDING = "    byte[] payload = check request.getBinaryPayload();\n";
+    static final String BYTE_STREAM_RESPONSE = "    http:Response response = new;\n" +
+            "    response.setByteStream(transformer:toByteStream(result), \"application/octet-stream\");\n";
+    static final String COLLECTED_BYTE_STREAM_RESPONSE = "    byte[] content = [];\n" +
+            "    check from byte[] chunk in result\n" +
+            "        do {\n" +
+            "            content.push(...chunk);\n" +
+            "        };\n" +
+            "    http:Response response = new;\n" +
+            "    response.setBinaryPayload(content, \"application/octet-stream\");\n";
+    static final String BYTE_ARRAY_RESPONSE = "    http:Response response = new;\n" +
+            "    response.setBinaryPayload(result, \"application/octet-stream\");\n";
+    static final String RESULT_STREAM_FUNCTION = "%1$sfunction %2$s(%3$s) returns stream<anydata, error?> " +
+            "=> stream %4$s %5$s;";
+    static final String LAZY_RESULTS = "    stream<anydata, error?> results = %s;\n";
+    static final String MATERIALIZED_RESULTS = "    %1$s|error result = trap %2$s;\n" +
+            "    if result is error {\n" +
+            "        return result;\n" +
+            "    }\n" +
+            "    stream<anydata, error?> results = stream from var item in result select item;\n";
+    static final String STREAMED_RESOURCE_BODY = "{\n" +
+            "%s" +
+            "    string|error accept = request.getHeader(\"Accept\");\n" +
+            "    boolean isNdjson = accept is string && accept.includes(\"application/x-ndjson\");\n" +
+            "    http:Response response = new;\n" +
+            "    response.setByteStream(transformer:streamResults(results, isNdjson),\n" +
+            "        isNdjson ? \"application/x-ndjson\" : \"application/json\");\n" +
+            "    return response;\n" +
+            "}";
+    static final String PIPELINE_SUCCESSORS = "final readonly & map<string[]> pipelineSuccessors = {%s};";
+    static final String START_PIPELINE_FUNCTION = "%1$sfunction startPipeline(string transformerName, " +
+            "json payload) returns anydata|error {\n" +
+            "    match transformerName {\n" +
+            "%2$s" +
+            "    }\n" +
+            "    return error(\"Unknown transformer function: \" + transformerName);\n" +
+            "}";
+    static final String CONTINUE_PIPELINE_FUNCTION = "%1$sfunction continuePipeline(string transformerName, " +
+            "anydata input) returns anydata|error {\n" +
+            "    match transformerName {\n" +
+            "%2$s" +
+            "    }\n" +
+            "    return error(\"Unknown transformer function: \" + transformerName);\n" +
+            "}";
+    static final String DISPATCH_STEP = "        %1$s => {\n" +
+            "%2$s" +
+            "            return %3$s;\n" +
+            "        }\n";
+    static final String DISPATCH_PAYLOAD_BINDING = "            %1$sPayload|error payloadArgs = " +
+            "payload.fromJsonWithType(%1$sPayload);\n" +
+            "            if payloadArgs is error {\n" +
+            "                return error transformer:PayloadBindingError(payloadArgs.message());\n" +
+            "            }\n";
+    static final String FAN_OUT_TRANSFORMERS = "final readonly & string[] fanOutTransformers = [%s];";
+    static final String FAN_OUT_FUNCTION = "isolated function fanOutTransform(string transformerName, " +
+            "json payload) returns anydata|error {\n" +
+            "    match transformerName {\n" +
+            "%s" +
+            "    }\n" +
+            "    return error(\"Unknown transformer function: \" + transformerName);\n" +
+            "}";
+    static final String FAN_OUT_RESOURCE_BODY = "{\n" +
+            "    string? invalidFanOut = transformer:validateFanOut(request.transformers, fanOutTransformers);\n" +
+            "    if invalidFanOut is string {\n" +
+            "        return <http:BadRequest>{body: invalidFanOut};\n" +
+            "    }\n" +
+            "    json & readonly payload = request.payload.cloneReadOnly();\n" +
+            "    map<future<anydata|error>> futures = {};\n" +
+            "    foreach string transformerName in request.transformers {\n" +
+            "        futures[transformerName] = start fanOutTransform(transformerName, payload);\n" +
+            "    }\n" +
+            "    map<anydata> results = {};\n" +
+            "    foreach [string, future<anydata|error>] [transformerName, resultFuture] in futures.entries() {\n" +
+            "        anydata|error result = wait resultFuture;\n" +
+            "        results[transformerName] = result is error ? {'error: result.message()} : result;\n" +
+            "    }\n" +
+            "    return results;\n" +
+            "}";
+    static final String PIPELINE_INPUT_BINDING = "            %1$s inputArg = check input.ensureType();\n";
+    static final String PIPELINE_RESOURCE_BODY = "{\n" +
+            "    string? invalidPipeline = transformer:validatePipeline(request.transformers, pipelineSuccessors);\n" +
+            "    if invalidPipeline is string {\n" +
+            "        return <http:BadRequest>{body: invalidPipeline};\n" +
+            "    }\n" +
+            "    anydata|error result = startPipeline(request.transformers[0], request.payload);\n" +
+            "    if result is transformer:PayloadBindingError {\n" +
+            "        return <http:BadRequest>{body: result.message()};\n" +
+            "    }\n" +
+            "    anydata value = check result;\n" +
+            "    foreach string transformerName in request.transformers.slice(1) {\n" +
+            "        value = check continuePipeline(transformerName, value);\n" +
+            "    }\n" +
+            "    return value;\n" +
+            "}";
+
+    private ServiceTemplates() {
+    }
+}
@@ -0,0 +1,316 @@
+/*
+ * Copyright (c) 2022, WSO2 LLC. (http://www.wso2.com) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.transformer.plugin;
+
+import io.ballerina.compiler.syntax.tree.AbstractNodeFactory;
+import io.ballerina.compiler.syntax.tree.ConstantDeclarationNode;
+import io.ballerina.compiler.syntax.tree.DefaultableParameterNode;
+import io.ballerina.compiler.syntax.tree.EnumDeclarationNode;
+import io.ballerina.compiler.syntax.tree.EnumMemberNode;
+import io.ballerina.compiler.syntax.tree.FunctionDefinitionNode;
+import io.ballerina.compiler.syntax.tree.ImportDeclarationNode;
+import io.ballerina.compiler.syntax.tree.ImportPrefixNode;
+import io.ballerina.compiler.syntax.tree.ModuleMemberDeclarationNode;
+import io.ballerina.compiler.syntax.tree.ModulePartNode;
+import io.ballerina.compiler.syntax.tree.Node;
+import io.ballerina.compiler.syntax.tree.NonTerminalNode;
+import io.ballerina.compiler.syntax.tree.ParameterNode;
+import io.ballerina.compiler.syntax.tree.QualifiedNameReferenceNode;
+import io.ballerina.compiler.syntax.tree.RequiredParameterNode;
+import io.ballerina.compiler.syntax.tree.RestParameterNode;
+import io.ballerina.compiler.syntax.tree.ReturnTypeDescriptorNode;
+import io.ballerina.compiler.syntax.tree.SimpleNameReferenceNode;
+import io.ballerina.compiler.syntax.tree.SyntaxKind;
+import io.ballerina.compiler.syntax.tree.SyntaxTree;
+import io.ballerina.compiler.syntax.tree.Token;
+import io.ballerina.compiler.syntax.tree.TypeDefinitionNode;
+import io.ballerina.projects.Document;
+import io.ballerina.projects.DocumentId;
+import io.ballerina.projects.Module;
+import io.ballerina.tools.text.TextDocuments;
+import org.ballerinalang.formatter.core.Formatter;
+import org.ballerinalang.formatter.core.FormatterException;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Generator of a typed client of the transformer service, which has a remote method for each transformer function.
+ * The transport is provided by the transformer library, which pools keep-alive connections, upgrades them to HTTP/2
+ * and retries failed requests with an exponential back off, and optionally coalesces concurrent calls of a
+ * transformer function into requests to its batch resource.
+ * <p>
+ * The client is generated into a module other than the default module, so that importing it does not start the
+ * listener of the service. Hence the client module does not import the default module, and the type definitions,
+ * enums and constants of the default module referred to by the transformer functions are copied into it instead.
+ *
+ * @since 0.1.1
+ */
+class TransformerClientGenerator {
+
+    private static final String CLIENT_MODULE = "import ballerina/http;\n" +
+            "import ballerinax/transformer.runtime as transformer;\n" +
+            "%4$s" +
+            "\n" +
+            "# Client of the transformer service of this package.\n" +
+            "public isolated client class Client {\n" +
+            "    private final http:Client httpClient;\n" +
+            "%1$s" +
+            "\n" +
+            "    # Initializes the client.\n" +
+            "    #\n" +
+            "    # + url - URL of the transformer service\n" +
+            "    # + config - Configurations of the client\n" +
+            "    # + return - An error if the client cannot be initialized\n" +
+            "    public isolated function init(string url, *transformer:ClientConfiguration config) " +
+            "returns error? {\n" +
+            "        self.httpClient = check transformer:createHttpClient(url, config);\n" +
+            "%2$s" +
+            "    }\n" +
+            "%3$s" +
+            "}\n" +
+            "%5$s";
+    private static final String COALESCER_FIELD = "    private final transformer:BatchCoalescer? %sCoalescer;\n";
+    private static final String COALESCER_INIT = "        self.%1$sCoalescer = config.coalesce ? " +
+            "new transformer:BatchCoalescer(self.httpClient, \"/%1$s/batch\", config.maxBatchSize, " +
+            "config.maxBatchDelay) : ();\n";
+    private static final String REMOTE_METHOD = "\n" +
+            "    # Calls the %1$s transformer function of the service.\n" +
+            "    remote isolated function %1$s(%2$s) returns %3$s {\n" +
+            "%4$s" +
+            "    }\n";
+    private static final String PAYLOAD = "        map<anydata> payload = {%1$s};\n";
+    private static final String COALESCED_CALL = "        transformer:BatchCoalescer? coalescer = " +
+            "self.%1$sCoalescer;\n" +
+            "        if coalescer is transformer:BatchCoalescer {\n" +
+            "            json result = check coalescer.transform(payload.toJson().cloneReadOnly());\n" +
+            "            return %2$s;\n" +
+            "        }\n";
+    private static final String CALL = "        return self.httpClient->post(\"/%1$s\", %2$s);\n";
+    private static final String NIL_CALL = "        http:Response response = check self.httpClient->post(" +
+            "\"/%1$s\", %2$s);\n" +
+            "        if response.statusCode != http:STATUS_ACCEPTED {\n" +
+            "            return error(check response.getTextPayload());\n" +
+            "        }\n";
+    private static final String COPIED_DECLARATION = "\n%s\n";
+    // Prefixes of the modules which are always imported by the client module
+    private static final Set<String> CLIENT_IMPORT_PREFIXES = Set.of("http", "transformer");
+
+    private final TransformerConfig config;
+    private final boolean isFormatEnabled;
+
+    TransformerClientGenerator(TransformerConfig config, boolean isFormatEnabled) {
+        this.config = config;
+        this.isFormatEnabled = isFormatEnabled;
+    }
+
+    /**
+     * This method returns the generated code of the client of the service generated for the given transformer
+     * functions.
+     *
+     * @param transformerFunctions List of transformer functions of which the remote methods to be generated
+     * @param defaultModule Default module of the package, which declares the transformer functions
+     * @return {@link String} Generated code of the client
+     */
+    String generate(List<FunctionDefinitionNode> transformerFunctions, Module defaultModule) {
+        StringBuilder fields = new StringBuilder();
+        StringBuilder initStatements = new StringBuilder();
+        StringBuilder remoteMethods = new StringBuilder();
+        for (FunctionDefinitionNode transformerFuncNode : transformerFunctions) {
+            String transformerFuncName = transformerFuncNode.functionName().text();
+            boolean hasParams = transformerFuncNode.functionSignature().parameters().size() > 0;
+            if (hasParams) {
+                fields.append(String.format(COALESCER_FIELD, transformerFuncName));
+                initStatements.append(String.format(COALESCER_INIT, transformerFuncName));
+            }
+            remoteMethods.append(generateRemoteMethod(transformerFuncNode));
+        }
+        StringBuilder imports = new StringBuilder();
+        StringBuilder declarations = new StringBuilder();
+        copyReferencedDeclarations(transformerFunctions, defaultModule, imports, declarations);
+        String source = String.format(CLIENT_MODULE, fields, initStatements, remoteMethods, imports, declarations);
+        // The templates are already well-formed, hence formatting only indents the code
+        if (!isFormatEnabled) {
+            return source;
+        }
+        try {
+            return Formatter.format(SyntaxTree.from(TextDocuments.from(source))).toSourceCode();
+        } catch (FormatterException e) {
+            return source;
+        }
+    }
+
+    private String generateRemoteMethod(FunctionDefinitionNode transformerFuncNode) {
+        String transformerFuncName = transformerFuncNode.functionName().text();
+        List<ParameterNode> params = transformerFuncNode.functionSignature().parameters().stream()
+                .collect(Collectors.toList());
+        Optional<String> returnType = transformerFuncNode.functionSignature().returnTypeDesc()
+                .map(ReturnTypeDescriptorNode::type)
+                .filter(type -> !type.kind().equals(SyntaxKind.NIL_TYPE_DESC))
+                .map(type -> type.toSourceCode().trim());
+        String paramSource = params.stream()
+                .map(param -> param.toSourceCode().trim())
+                .collect(Collectors.joining(", "));
+
+        StringBuilder body = new StringBuilder();
+        String message = "()";
+        if (!params.isEmpty()) {
+            String fields = params.stream()
+                    .map(this::getParamName)
+                    .flatMap(Optional::stream)
+                    .collect(Collectors.joining(", "));
+            body.append(String.format(PAYLOAD, fields));
+            body.append(String.format(COALESCED_CALL, transformerFuncName,
+                    returnType.isPresent() ? "result.cloneWithType()" : "()"));
+            // The main resource of a directly bound transformer function receives the argument itself
+            message = TransformerServiceGenerator.getDirectlyBoundParameter(transformerFuncNode, config)
+                    .flatMap(RequiredParameterNode::paramName)
+                    .map(Token::text)
+                    .orElse("payload");
+        }
+        body.append(String.format(returnType.isPresent() ? CALL : NIL_CALL, transformerFuncName, message));
+        return String.format(REMOTE_METHOD, transformerFuncName, paramSource,
+                returnType.map(type -> type + "|error").orElse("error?"), body);
+    }
+
+    /**
+     * This method copies the type definitions, enums and constants of the default module which are referred to by the
+     * signatures of the given transformer functions, directly or through other copied declarations, along with the
+     * imports of the modules they refer to. The copied declarations are made public, as they are exposed by the
+     * remote methods of the client.
+     *
+     * @param transformerFunctions List of transformer functions of which the remote methods to be generated
+     * @param defaultModule Default module of the package
+     * @param imports Builder to which the copied imports are appended
+     * @param declarations Builder to which the copied declarations are appended
+     */
+    private void copyReferencedDeclarations(List<FunctionDefinitionNode> transformerFunctions, Module defaultModule,
+                                            StringBuilder imports, StringBuilder declarations) {
+        Map<String, ModuleMemberDeclarationNode> declarationNodes = new LinkedHashMap<>();
+        Map<String, ImportDeclarationNode> importNodes = new LinkedHashMap<>();
+        for (DocumentId documentId : defaultModule.documentIds()) {
+            Document document = defaultModule.document(documentId);
+            ModulePartNode modulePartNode = document.syntaxTree().rootNode();
+            for (ImportDeclarationNode importNode : modulePartNode.imports()) {
+                importNodes.putIfAbsent(getImportPrefix(importNode), importNode);
+            }
+            for (ModuleMemberDeclarationNode member : modulePartNode.members()) {
+                getDeclaredNames(member).forEach(name -> declarationNodes.putIfAbsent(name, member));
+            }
+        }
+
+        Deque<Node> pendingNodes = new ArrayDeque<>();
+        for (FunctionDefinitionNode transformerFuncNode : transformerFunctions) {
+            transformerFuncNode.functionSignature().parameters().forEach(pendingNodes::add);
+            transformerFuncNode.functionSignature().returnTypeDesc().ifPresent(pendingNodes::add);
+        }
+        Set<ModuleMemberDeclarationNode> copiedDeclarations = new LinkedHashSet<>();
+        Set<String> importPrefixes = new LinkedHashSet<>();
+        while (!pendingNodes.isEmpty()) {
+            Node node = pendingNodes.pop();
+            if (node.kind() == SyntaxKind.SIMPLE_NAME_REFERENCE) {
+                ModuleMemberDeclarationNode declaration =
+                        declarationNodes.get(((SimpleNameReferenceNode) node).name().text());
+                if (declaration != null && copiedDeclarations.add(declaration)) {
+                    pendingNodes.push(declaration);
+                }
+            } else if (node.kind() == SyntaxKind.QUALIFIED_NAME_REFERENCE) {
+                importPrefixes.add(((QualifiedNameReferenceNode) node).modulePrefix().text());
+            } else if (node instanceof NonTerminalNode) {
+                ((NonTerminalNode) node).children().forEach(pendingNodes::push);
+            }
+        }
+
+        importPrefixes.stream()
+                .filter(prefix -> !CLIENT_IMPORT_PREFIXES.contains(prefix))
+                .map(importNodes::get)
+                .filter(importNode -> importNode != null)
+                .forEach(importNode -> imports.append(getSourceWithoutMinutiae(importNode)).append("\n"));
+        copiedDeclarations.forEach(declaration -> declarations.append(String.format(COPIED_DECLARATION,
+                getSourceWithoutMinutiae(makePublic(declaration)))));
+    }
+
+    private String getSourceWithoutMinutiae(Node node) {
+        // The leading minutiae may have the comments of the source file, such as its license header
+        int startOffset = node.textRange().startOffset() - node.textRangeWithMinutiae().startOffset();
+        return node.toSourceCode().substring(startOffset, startOffset + node.textRange().length());
+    }
+
+    private String getImportPrefix(ImportDeclarationNode importNode) {
+        return importNode.prefix()
+                .map(ImportPrefixNode::prefix)
+                .map(Token::text)
+                .orElseGet(() -> importNode.moduleName().get(importNode.moduleName().size() - 1).text());
+    }
+
+    private List<String> getDeclaredNames(ModuleMemberDeclarationNode member) {
+        if (member.kind() == SyntaxKind.TYPE_DEFINITION) {
+            return List.of(((TypeDefinitionNode) member).typeName().text());
+        } else if (member.kind() == SyntaxKind.CONST_DECLARATION) {
+            return List.of(((ConstantDeclarationNode) member).variableName().text());
+        } else if (member.kind() == SyntaxKind.ENUM_DECLARATION) {
+            // The members of an enum are constants, which can be referred to by themselves
+            EnumDeclarationNode enumNode = (EnumDeclarationNode) member;
+            List<String> names = new ArrayList<>();
+            names.add(enumNode.identifier().text());
+            enumNode.enumMemberList().stream()
+                    .filter(enumMember -> enumMember.kind() == SyntaxKind.ENUM_MEMBER)
+                    .map(enumMember -> ((EnumMemberNode) enumMember).identifier().text())
+                    .forEach(names::add);
+            return names;
+        }
+        return List.of();
+    }
+
+    private Node makePublic(ModuleMemberDeclarationNode declaration) {
+        Token publicKeyword = AbstractNodeFactory.createToken(SyntaxKind.PUBLIC_KEYWORD,
+                AbstractNodeFactory.createEmptyMinutiaeList(),
+                AbstractNodeFactory.createMinutiaeList(AbstractNodeFactory.createWhitespaceMinutiae(" ")));
+        if (declaration.kind() == SyntaxKind.TYPE_DEFINITION) {
+            TypeDefinitionNode typeDefNode = (TypeDefinitionNode) declaration;
+            return typeDefNode.visibilityQualifier().isPresent() ? typeDefNode :
+                    typeDefNode.modify().withVisibilityQualifier(publicKeyword).apply();
+        } else if (declaration.kind() == SyntaxKind.CONST_DECLARATION) {
+            ConstantDeclarationNode constNode = (ConstantDeclarationNode) declaration;
+            return constNode.visibilityQualifier().isPresent() ? constNode :
+                    constNode.modify().withVisibilityQualifier(publicKeyword).apply();
+        }
+        EnumDeclarationNode enumNode = (EnumDeclarationNode) declaration;
+        return enumNode.qualifier().isPresent() ? enumNode : enumNode.modify().withQualifier(publicKeyword).apply();
+    }
+
+    private Optional<String> getParamName(ParameterNode param) {
+        if (param.kind().equals(SyntaxKind.REQUIRED_PARAM)) {
+            return ((RequiredParameterNode) param).paramName().map(Token::text);
+        } else if (param.kind().equals(SyntaxKind.DEFAULTABLE_PARAM)) {
+            return ((DefaultableParameterNode) param).paramName().map(Token::text);
+        } else if (param.kind().equals(SyntaxKind.REST_PARAM)) {
+            return ((RestParameterNode) param).paramName().map(Token::text);
+        }
+        return Optional.empty();
+    }
+}
@@ -18,16 +18,11 @@
 
 package io.ballerina.transformer.plugin;
 
-import io.ballerina.compiler.syntax.tree.FunctionDefinitionNode;
 import io.ballerina.compiler.syntax.tree.SyntaxKind;
 import io.ballerina.projects.plugins.CodeGenerator;
 import io.ballerina.projects.plugins.CodeGeneratorContext;
 
-import java.util.ArrayList;
-import java.util.Collections;
 import java.util.List;
-import java.util.concurrent.atomic.AtomicBoolean;
-import java.util.concurrent.atomic.AtomicInteger;
 
 /**
  * Transformer module Code Analyzer and Generator.
@@ -35,15 +30,10 @@ import java.util.concurrent.atomic.AtomicInteger;
  * @since 0.1.0
  */
 public class TransformerCodeAnalyzingGenerator extends CodeGenerator {
-    private final AtomicInteger visitedDefaultModulePart = new AtomicInteger(0);
-    private final AtomicBoolean foundTransformerFunc = new AtomicBoolean(false);
-    private final List<FunctionDefinitionNode> transformerFunctions = Collections.synchronizedList(new ArrayList<>());
 
     @Override
     public void init(CodeGeneratorContext codeGeneratorContext) {
-        codeGeneratorContext.addSyntaxNodeAnalysisTask(
-                new TransformerCodeValidator(visitedDefaultModulePart, foundTransformerFunc, transformerFunctions),
-                List.of(SyntaxKind.MODULE_PART));
-        codeGeneratorContext.addSourceGeneratorTask(new TransformerServiceGenerator(transformerFunctions));
+        codeGeneratorContext.addSyntaxNodeAnalysisTask(new TransformerCodeValidator(), List.of(SyntaxKind.MODULE_PART));
+        codeGeneratorContext.addSourceGeneratorTask(new TransformerServiceGenerator());
     }
 }
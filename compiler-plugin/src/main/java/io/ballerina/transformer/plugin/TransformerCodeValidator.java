@@ -18,6 +18,7 @@
 
 package io.ballerina.transformer.plugin;
 
+import io.ballerina.compiler.api.SemanticModel;
 import io.ballerina.compiler.api.symbols.ArrayTypeSymbol;
 import io.ballerina.compiler.api.symbols.MapTypeSymbol;
 import io.ballerina.compiler.api.symbols.TableTypeSymbol;
@@ -28,6 +29,7 @@ import io.ballerina.compiler.syntax.tree.ArrayTypeDescriptorNode;
 import io.ballerina.compiler.syntax.tree.DefaultableParameterNode;
 import io.ballerina.compiler.syntax.tree.FunctionDefinitionNode;
 import io.ballerina.compiler.syntax.tree.MapTypeDescriptorNode;
+import io.ballerina.compiler.syntax.tree.ModuleMemberDeclarationNode;
 import io.ballerina.compiler.syntax.tree.ModulePartNode;
 import io.ballerina.compiler.syntax.tree.Node;
 import io.ballerina.compiler.syntax.tree.NodeLocation;
@@ -35,22 +37,26 @@ import io.ballerina.compiler.syntax.tree.ParameterNode;
 import io.ballerina.compiler.syntax.tree.RequiredParameterNode;
 import io.ballerina.compiler.syntax.tree.RestParameterNode;
 import io.ballerina.compiler.syntax.tree.ReturnTypeDescriptorNode;
+import io.ballerina.compiler.syntax.tree.SimpleNameReferenceNode;
 import io.ballerina.compiler.syntax.tree.SyntaxKind;
 import io.ballerina.compiler.syntax.tree.TableTypeDescriptorNode;
 import io.ballerina.compiler.syntax.tree.TypeParameterNode;
 import io.ballerina.projects.DocumentId;
 import io.ballerina.projects.Module;
 import io.ballerina.projects.ModuleId;
+import io.ballerina.projects.Package;
 import io.ballerina.projects.plugins.AnalysisTask;
 import io.ballerina.projects.plugins.SyntaxNodeAnalysisContext;
 import io.ballerina.tools.diagnostics.Diagnostic;
 import io.ballerina.tools.diagnostics.DiagnosticFactory;
 import io.ballerina.tools.diagnostics.DiagnosticInfo;
+import io.ballerina.tools.diagnostics.Location;
 import io.ballerina.transformer.plugin.diagnostic.DiagnosticMessage;
 
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Optional;
 import java.util.concurrent.atomic.AtomicBoolean;
-import java.util.concurrent.atomic.AtomicInteger;
 
 /**
  * Transformer module Code Validator.
@@ -60,10 +66,6 @@ import java.util.concurrent.atomic.AtomicInteger;
 public class TransformerCodeValidator implements AnalysisTask<SyntaxNodeAnalysisContext> {
 
     private static final String MAIN_KEYWORD = "main";
-    private final AtomicInteger visitedDefaultModulePart;
-    private final AtomicBoolean foundTransformerFunc;
-    private final List<FunctionDefinitionNode> transformerFunctions;
-
 
     //TODO: Try to figure out a way to store these in a seperate DataType, and move these to a Const file.
     private final List<SyntaxKind> httpSupportedTypes = List.of(
@@ -88,119 +90,113 @@ public class TransformerCodeValidator implements AnalysisTask<SyntaxNodeAnalysis
             TypeDescKind.RECORD
     );
 
-    private boolean diagnosticForCompilationErrorReported = false;
-
-    TransformerCodeValidator(AtomicInteger visitedDefaultModulePart, AtomicBoolean foundTransformerFunc,
-                             List<FunctionDefinitionNode> transformerFunctions) {
-        this.visitedDefaultModulePart = visitedDefaultModulePart;
-        this.foundTransformerFunc = foundTransformerFunc;
-        this.transformerFunctions = transformerFunctions;
-    }
-
     @Override
     public void perform(SyntaxNodeAnalysisContext syntaxNodeAnalysisContext) {
         ModulePartNode modulePartNode = (ModulePartNode) syntaxNodeAnalysisContext.node();
         DocumentId documentId = syntaxNodeAnalysisContext.documentId();
         ModuleId moduleId = syntaxNodeAnalysisContext.moduleId();
 
+        CompilationState state = CompilationState.of(syntaxNodeAnalysisContext.compilation());
+        PackageIndex packageIndex = state.getPackageIndex(() -> createPackageIndex(syntaxNodeAnalysisContext));
+
         // Exclude Test related files from transformer validation
-        for (DocumentId testDocId : syntaxNodeAnalysisContext.currentPackage().module(moduleId).testDocumentIds()) {
-            if (documentId.equals(testDocId)) {
-                return;
-            }
+        if (packageIndex.isTestDocument(documentId)) {
+            return;
         }
 
         // Skip Code Analysis and Generation if the compilation got errors
-         if (syntaxNodeAnalysisContext.compilation().diagnosticResult().errors().size() > 0) {
-             if (!diagnosticForCompilationErrorReported) {
-                 reportDiagnostics(syntaxNodeAnalysisContext, DiagnosticMessage.ERROR_109,
-                         syntaxNodeAnalysisContext.node().location());
-                 diagnosticForCompilationErrorReported = true;
-             }
-             return;
-         }
-
-        // Analyze each node within each ModulePart nodes
-        modulePartNode.members().forEach(member -> {
-            SyntaxKind nodeKind = member.kind();
-            NodeLocation memberLocation = member.location();
-
-            switch (nodeKind) {
-                case FUNCTION_DEFINITION:
-                    FunctionDefinitionNode functionDefNode = (FunctionDefinitionNode) member;
-                    if (functionDefNode.functionName().text().equals(MAIN_KEYWORD)) {
-                        reportDiagnostics(syntaxNodeAnalysisContext, DiagnosticMessage.ERROR_100, memberLocation);
-                    }
-                    if (functionDefNode.qualifierList().stream().anyMatch(qualifier ->
-                            qualifier.kind() == SyntaxKind.PUBLIC_KEYWORD)
-                            && functionDefNode.functionBody().kind() != SyntaxKind.EXPRESSION_FUNCTION_BODY) {
-                        reportDiagnostics(syntaxNodeAnalysisContext, DiagnosticMessage.ERROR_101, memberLocation);
-                    }
-                    functionDefNode.metadata().ifPresent(metadata -> {
-                        if (!metadata.annotations().isEmpty()) {
-                            reportDiagnostics(syntaxNodeAnalysisContext, DiagnosticMessage.ERROR_106, memberLocation);
-                        }
-                    });
-                    if (isDefaultModule(syntaxNodeAnalysisContext.currentPackage().modules(), moduleId)) {
-                        if (isTransformerFunc(functionDefNode)) {
-                            foundTransformerFunc.set(true);
-                            transformerFunctions.add(functionDefNode);
-                            validateServiceGenerableFunction(functionDefNode, syntaxNodeAnalysisContext);
-                            if (!isIsolated(functionDefNode)) {
-                                reportDiagnostics(syntaxNodeAnalysisContext, DiagnosticMessage.HINT100,
-                                        memberLocation, functionDefNode.functionName());
-                            }
-                        }
-                    }
-                    break;
-                case LISTENER_DECLARATION:
-                    reportDiagnostics(syntaxNodeAnalysisContext, DiagnosticMessage.ERROR_102, memberLocation);
-                    break;
-                case CLASS_DEFINITION:
-                    reportDiagnostics(syntaxNodeAnalysisContext, DiagnosticMessage.ERROR_103, memberLocation);
-                    break;
-                case SERVICE_DECLARATION:
-                    reportDiagnostics(syntaxNodeAnalysisContext, DiagnosticMessage.ERROR_104, memberLocation);
-                    break;
-                case TYPE_DEFINITION:
-                case MODULE_VAR_DECL:
-                case CONST_DECLARATION:
-                case ENUM_DECLARATION:
-                case MODULE_XML_NAMESPACE_DECLARATION:
-                    break;
-                default:
-                    reportDiagnostics(syntaxNodeAnalysisContext, DiagnosticMessage.ERROR_110, memberLocation);
-                    break;
+        if (syntaxNodeAnalysisContext.compilation().diagnosticResult().errors().size() > 0) {
+            if (state.markCompilationErrorReported()) {
+                syntaxNodeAnalysisContext.reportDiagnostic(createDiagnostic(DiagnosticMessage.ERROR_109,
+                        syntaxNodeAnalysisContext.node().location()));
             }
-        });
+            return;
+        }
 
-        // Check if all ModulePart nodes within default package is visited to report diagnostics
-        if (isDefaultModule(syntaxNodeAnalysisContext.currentPackage().modules(), moduleId)) {
-            if (syntaxNodeAnalysisContext.currentPackage().module(moduleId).documentIds().size()
-                    == visitedDefaultModulePart.incrementAndGet()
-                    && !foundTransformerFunc.get()) {
-                reportDiagnostics(syntaxNodeAnalysisContext, DiagnosticMessage.ERROR_105,
-                        syntaxNodeAnalysisContext.node().location());
+        // Each ModulePart node is analyzed independently, as the documents can be analyzed concurrently
+        boolean isDefaultModule = packageIndex.isDefaultModule(moduleId);
+        List<Diagnostic> diagnostics = new ArrayList<>();
+        modulePartNode.members().forEach(member -> analyzeMember(member, isDefaultModule, state, packageIndex,
+                diagnostics, syntaxNodeAnalysisContext));
+        Module module = syntaxNodeAnalysisContext.currentPackage().module(moduleId);
+        String documentKey = module.moduleName() + "/" + module.document(documentId).name();
+        int analyzedModuleParts = state.addModulePart(documentKey, diagnostics,
+                isDefaultModule ? modulePartNode.location() : null);
+
+        // Report the diagnostics of all ModulePart nodes once the last of them is analyzed
+        if (analyzedModuleParts == packageIndex.getDocumentCount()) {
+            state.getModulePartDiagnostics().forEach(syntaxNodeAnalysisContext::reportDiagnostic);
+            if (!state.hasTransformerFunctions()) {
+                state.getDefaultModuleLocation().ifPresent(location -> syntaxNodeAnalysisContext.reportDiagnostic(
+                        createDiagnostic(DiagnosticMessage.ERROR_105, location)));
             }
         }
     }
 
-    private void reportDiagnostics(SyntaxNodeAnalysisContext syntaxNodeAnalysisContext,
-                                   DiagnosticMessage diagnosticMessage, NodeLocation location, Object... args) {
-        DiagnosticInfo diagnosticInfo = new DiagnosticInfo(diagnosticMessage.getCode(),
-                diagnosticMessage.getMessageFormat(), diagnosticMessage.getSeverity());
-        Diagnostic diagnostic =
-                DiagnosticFactory.createDiagnostic(diagnosticInfo, location, args);
-        syntaxNodeAnalysisContext.reportDiagnostic(diagnostic);
+    private PackageIndex createPackageIndex(SyntaxNodeAnalysisContext syntaxNodeAnalysisContext) {
+        Package currentPackage = syntaxNodeAnalysisContext.currentPackage();
+        SemanticModel semanticModel = syntaxNodeAnalysisContext.compilation()
+                .getSemanticModel(currentPackage.getDefaultModule().moduleId());
+        return PackageIndex.from(currentPackage, semanticModel, this::isSupportedTypeReference);
     }
 
-    private boolean isDefaultModule(Iterable<Module> modules, ModuleId moduleId) {
-        for (Module module : modules) {
-            if (module.isDefaultModule() && module.moduleId() == moduleId) {
-                return true;
-            }
+    private void analyzeMember(ModuleMemberDeclarationNode member, boolean isDefaultModule, CompilationState state,
+                               PackageIndex packageIndex, List<Diagnostic> diagnostics,
+                               SyntaxNodeAnalysisContext syntaxNodeAnalysisContext) {
+        SyntaxKind nodeKind = member.kind();
+        NodeLocation memberLocation = member.location();
+
+        switch (nodeKind) {
+            case FUNCTION_DEFINITION:
+                FunctionDefinitionNode functionDefNode = (FunctionDefinitionNode) member;
+                if (functionDefNode.functionName().text().equals(MAIN_KEYWORD)) {
+                    diagnostics.add(createDiagnostic(DiagnosticMessage.ERROR_100, memberLocation));
+                }
+                if (functionDefNode.qualifierList().stream().anyMatch(qualifier ->
+                        qualifier.kind() == SyntaxKind.PUBLIC_KEYWORD)
+                        && functionDefNode.functionBody().kind() != SyntaxKind.EXPRESSION_FUNCTION_BODY) {
+                    diagnostics.add(createDiagnostic(DiagnosticMessage.ERROR_101, memberLocation));
+                }
+                functionDefNode.metadata().ifPresent(metadata -> {
+                    if (!metadata.annotations().isEmpty()) {
+                        diagnostics.add(createDiagnostic(DiagnosticMessage.ERROR_106, memberLocation));
+                    }
+                });
+                if (isDefaultModule && isTransformerFunc(functionDefNode)) {
+                    state.addTransformerFunction(functionDefNode);
+                    validateServiceGenerableFunction(functionDefNode, packageIndex, diagnostics,
+                            syntaxNodeAnalysisContext);
+                    if (!isIsolated(functionDefNode)) {
+                        diagnostics.add(createDiagnostic(DiagnosticMessage.HINT100, memberLocation,
+                                functionDefNode.functionName()));
+                    }
+                }
+                break;
+            case LISTENER_DECLARATION:
+                diagnostics.add(createDiagnostic(DiagnosticMessage.ERROR_102, memberLocation));
+                break;
+            case CLASS_DEFINITION:
+                diagnostics.add(createDiagnostic(DiagnosticMessage.ERROR_103, memberLocation));
+                break;
+            case SERVICE_DECLARATION:
+                diagnostics.add(createDiagnostic(DiagnosticMessage.ERROR_104, memberLocation));
+                break;
+            case TYPE_DEFINITION:
+            case MODULE_VAR_DECL:
+            case CONST_DECLARATION:
+            case ENUM_DECLARATION:
+            case MODULE_XML_NAMESPACE_DECLARATION:
+                break;
+            default:
+                diagnostics.add(createDiagnostic(DiagnosticMessage.ERROR_110, memberLocation));
+                break;
         }
-        return false;
+    }
+
+    private Diagnostic createDiagnostic(DiagnosticMessage diagnosticMessage, Location location, Object... args) {
+        DiagnosticInfo diagnosticInfo = new DiagnosticInfo(diagnosticMessage.getCode(),
+                diagnosticMessage.getMessageFormat(), diagnosticMessage.getSeverity());
+        return DiagnosticFactory.createDiagnostic(diagnosticInfo, location, args);
     }
 
     private boolean isTransformerFunc(FunctionDefinitionNode funcDefNode) {
@@ -215,33 +211,44 @@ public class TransformerCodeValidator implements AnalysisTask<SyntaxNodeAnalysis
                 qualifier.kind() == SyntaxKind.ISOLATED_KEYWORD);
     }
 
-    private void validateServiceGenerableFunction(FunctionDefinitionNode funcDefNode,
+    private void validateServiceGenerableFunction(FunctionDefinitionNode funcDefNode, PackageIndex packageIndex,
+                                                  List<Diagnostic> diagnostics,
                                                   SyntaxNodeAnalysisContext syntaxNodeAnalysisContext) {
-        if (!isParamsSupported(funcDefNode, syntaxNodeAnalysisContext)) {
-            reportDiagnostics(syntaxNodeAnalysisContext, DiagnosticMessage.ERROR_107,
-                    funcDefNode.location(), funcDefNode.functionName().text());
-        } else if (!isReturnTypeSupported(funcDefNode, syntaxNodeAnalysisContext)) {
-            reportDiagnostics(syntaxNodeAnalysisContext, DiagnosticMessage.ERROR_108,
-                    funcDefNode.location(), funcDefNode.functionName().text());
+        if (!isParamsSupported(funcDefNode, packageIndex, syntaxNodeAnalysisContext)) {
+            diagnostics.add(createDiagnostic(DiagnosticMessage.ERROR_107, funcDefNode.location(),
+                    funcDefNode.functionName().text()));
+        } else if (!isReturnTypeSupported(funcDefNode, packageIndex, syntaxNodeAnalysisContext)) {
+            diagnostics.add(createDiagnostic(DiagnosticMessage.ERROR_108, funcDefNode.location(),
+                    funcDefNode.functionName().text()));
         }
     }
 
-    private boolean isParamsSupported(FunctionDefinitionNode funcDefNode,
+    private boolean isParamsSupported(FunctionDefinitionNode funcDefNode, PackageIndex packageIndex,
                                       SyntaxNodeAnalysisContext syntaxNodeAnalysisContext) {
-        for (ParameterNode param : funcDefNode.functionSignature().parameters()) {
+        ByteStreamAnalyzer byteStreamAnalyzer = new ByteStreamAnalyzer(syntaxNodeAnalysisContext.semanticModel());
+        for (int i = 0; i < funcDefNode.functionSignature().parameters().size(); i++) {
+            ParameterNode param = funcDefNode.functionSignature().parameters().get(i);
             if (param.kind().equals(SyntaxKind.REQUIRED_PARAM)) {
                 RequiredParameterNode requiredParamNode = (RequiredParameterNode) param;
-                if (!isNodeTypeHTTPSupported(requiredParamNode.typeName(), syntaxNodeAnalysisContext)) {
+                if (byteStreamAnalyzer.isByteStreamParameter(funcDefNode, i)) {
+                    // The request body can be bound to a byte stream only if it is the sole argument
+                    if (funcDefNode.functionSignature().parameters().size() != 1 ||
+                            !byteStreamAnalyzer.acceptsRequestByteStream(funcDefNode, i)) {
+                        return false;
+                    }
+                } else if (!isNodeTypeHTTPSupported(requiredParamNode.typeName(), packageIndex,
+                        syntaxNodeAnalysisContext)) {
                     return false;
                 }
             } else if (param.kind().equals(SyntaxKind.DEFAULTABLE_PARAM)) {
                 DefaultableParameterNode defaultableParamNode = (DefaultableParameterNode) param;
-                if (!isNodeTypeHTTPSupported(defaultableParamNode.typeName(), syntaxNodeAnalysisContext)) {
+                if (!isNodeTypeHTTPSupported(defaultableParamNode.typeName(), packageIndex,
+                        syntaxNodeAnalysisContext)) {
                     return false;
                 }
             } else if (param.kind().equals(SyntaxKind.REST_PARAM)) {
                 RestParameterNode restParamNode = (RestParameterNode) param;
-                if (!isNodeTypeHTTPSupported(restParamNode.typeName(), syntaxNodeAnalysisContext)) {
+                if (!isNodeTypeHTTPSupported(restParamNode.typeName(), packageIndex, syntaxNodeAnalysisContext)) {
                     return false;
                 }
             } else {
@@ -251,14 +258,16 @@ public class TransformerCodeValidator implements AnalysisTask<SyntaxNodeAnalysis
         return true;
     }
 
-    private boolean isReturnTypeSupported(FunctionDefinitionNode funcDefNode,
+    private boolean isReturnTypeSupported(FunctionDefinitionNode funcDefNode, PackageIndex packageIndex,
                                           SyntaxNodeAnalysisContext syntaxNodeAnalysisContext) {
         // TODO: handle union type desc for return types. ie: error?, (int|error), (int|string), (RecName|error)
         AtomicBoolean foundSupportedType = new AtomicBoolean(false);
         AtomicBoolean foundUnsupportedType = new AtomicBoolean(false);
         if (funcDefNode.functionSignature().returnTypeDesc().isPresent()) {
             ReturnTypeDescriptorNode returnTypeDescNode = funcDefNode.functionSignature().returnTypeDesc().get();
-            if (isNodeTypeHTTPSupported(returnTypeDescNode.type(), syntaxNodeAnalysisContext)) {
+            if (isNodeTypeHTTPSupported(returnTypeDescNode.type(), packageIndex, syntaxNodeAnalysisContext)
+                    || new ByteStreamAnalyzer(syntaxNodeAnalysisContext.semanticModel())
+                    .returnsByteStream(funcDefNode)) {
                 foundSupportedType.set(true);
             } else {
                 foundUnsupportedType.set(true);
@@ -269,7 +278,8 @@ public class TransformerCodeValidator implements AnalysisTask<SyntaxNodeAnalysis
         return foundSupportedType.get() && !foundUnsupportedType.get();
     }
 
-    private boolean isNodeTypeHTTPSupported(Node node, SyntaxNodeAnalysisContext syntaxNodeAnalysisContext) {
+    private boolean isNodeTypeHTTPSupported(Node node, PackageIndex packageIndex,
+                                            SyntaxNodeAnalysisContext syntaxNodeAnalysisContext) {
         switch (node.kind()) {
             case ARRAY_TYPE_DESC:
                 return httpSupportedTypes.contains(((ArrayTypeDescriptorNode) node).memberTypeDesc().kind());
@@ -285,6 +295,11 @@ public class TransformerCodeValidator implements AnalysisTask<SyntaxNodeAnalysis
                 }
                 return false;
             case SIMPLE_NAME_REFERENCE:
+                Optional<Boolean> isSupportedType = packageIndex.isSupportedType(
+                        ((SimpleNameReferenceNode) node).name().text());
+                if (isSupportedType.isPresent()) {
+                    return isSupportedType.get();
+                }
                 if (syntaxNodeAnalysisContext.semanticModel().symbol(node).isPresent()) {
                     TypeSymbol typeSymbol = ((TypeReferenceTypeSymbol) syntaxNodeAnalysisContext.semanticModel()
                             .symbol(node).get()).typeDescriptor();
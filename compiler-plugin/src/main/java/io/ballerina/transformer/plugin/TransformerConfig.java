@@ -0,0 +1,267 @@
+/*
+ * Copyright (c) 2022, WSO2 LLC. (http://www.wso2.com) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.transformer.plugin;
+
+import io.ballerina.projects.BallerinaToml;
+import io.ballerina.projects.Package;
+import io.ballerina.toml.api.Toml;
+import io.ballerina.toml.semantic.ast.TomlBooleanValueNode;
+import io.ballerina.toml.semantic.ast.TomlDoubleValueNodeNode;
+import io.ballerina.toml.semantic.ast.TomlLongValueNode;
+import io.ballerina.toml.semantic.ast.TomlStringValueNode;
+import io.ballerina.toml.semantic.ast.TomlValueNode;
+import io.ballerina.tools.diagnostics.Diagnostic;
+import io.ballerina.tools.diagnostics.DiagnosticFactory;
+import io.ballerina.tools.diagnostics.DiagnosticInfo;
+import io.ballerina.transformer.plugin.diagnostic.DiagnosticMessage;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * Transformer package configurations given in the transformer table of the Ballerina.toml.
+ * <pre>
+ * [transformer]
+ * port = 9090
+ * httpVersion = "2.0"
+ *
+ * [transformer.functions.transform]
+ * cache = true
+ * </pre>
+ * Configurations of a function given in the functions table override the package level configurations.
+ *
+ * @since 0.1.1
+ */
+class TransformerConfig {
+
+    private static final String TRANSFORMER_TABLE = "transformer";
+    private static final String FUNCTIONS_TABLE = "functions";
+
+    private final Toml table;
+    private final TransformerConfig parent;
+    private final Map<String, Diagnostic> diagnostics;
+    private final Set<String> unsupportedKeys;
+
+    private TransformerConfig(Toml table, TransformerConfig parent, Map<String, Diagnostic> diagnostics,
+                              Set<String> unsupportedKeys) {
+        this.table = table;
+        this.parent = parent;
+        this.diagnostics = diagnostics;
+        this.unsupportedKeys = unsupportedKeys;
+    }
+
+    /**
+     * This method returns the transformer configurations of the given package.
+     *
+     * @param currentPackage Package of which the configurations to be read
+     * @return {@link TransformerConfig} Transformer configurations of the package
+     */
+    static TransformerConfig from(Package currentPackage) {
+        Toml transformerTable = currentPackage.ballerinaToml()
+                .map(BallerinaToml::tomlDocument)
+                .flatMap(tomlDocument -> tomlDocument.toml().getTable(TRANSFORMER_TABLE))
+                .orElse(null);
+        return new TransformerConfig(transformerTable, null, new LinkedHashMap<>(), Set.of());
+    }
+
+    /**
+     * This method returns the same configurations, except that the given configurations are treated as not given.
+     * A warning is reported for each of them which is given in the Ballerina.toml, once it is read.
+     *
+     * @param keys Keys of the configurations which are not supported
+     * @return {@link TransformerConfig} Transformer configurations without the unsupported configurations
+     */
+    TransformerConfig withUnsupportedKeys(Set<String> keys) {
+        return new TransformerConfig(table, null, diagnostics, keys);
+    }
+
+    /**
+     * This method returns the configurations of the given transformer function, which fall back to the package
+     * level configurations.
+     *
+     * @param functionName Name of the transformer function
+     * @return {@link TransformerConfig} Transformer configurations of the function
+     */
+    TransformerConfig forFunction(String functionName) {
+        Toml functionTable = table == null ? null :
+                table.getTable(FUNCTIONS_TABLE + "." + functionName).orElse(null);
+        return new TransformerConfig(functionTable, this, diagnostics, unsupportedKeys);
+    }
+
+    boolean contains(String key) {
+        if (unsupportedKeys.contains(key)) {
+            reportUnsupportedValue(key);
+            return false;
+        }
+        return (table != null && table.get(key).isPresent()) || (parent != null && parent.contains(key));
+    }
+
+    long getInt(String key, long defaultValue) {
+        return getValue(key, TomlLongValueNode.class).map(TomlLongValueNode::getValue).orElse(defaultValue);
+    }
+
+    boolean getBoolean(String key, boolean defaultValue) {
+        return getValue(key, TomlBooleanValueNode.class).map(TomlBooleanValueNode::getValue).orElse(defaultValue);
+    }
+
+    String getString(String key, String defaultValue) {
+        return getValue(key, TomlStringValueNode.class).map(TomlStringValueNode::getValue).orElse(defaultValue);
+    }
+
+    /**
+     * This method returns a decimal configuration, which can be given either as an integer or a float.
+     *
+     * @param key Key of the configuration
+     * @param defaultValue Value to be returned if the configuration is not given
+     * @return {@link BigDecimal} Value of the configuration
+     */
+    BigDecimal getDecimal(String key, BigDecimal defaultValue) {
+        return getValue(key, TomlValueNode.class).flatMap(value -> {
+            if (value instanceof TomlLongValueNode) {
+                return Optional.of(BigDecimal.valueOf(((TomlLongValueNode) value).getValue()));
+            } else if (value instanceof TomlDoubleValueNodeNode) {
+                return Optional.of(BigDecimal.valueOf(((TomlDoubleValueNodeNode) value).getValue()));
+            }
+            reportInvalidValue(key, value);
+            return Optional.empty();
+        }).orElse(defaultValue);
+    }
+
+    /**
+     * This method returns an integer configuration which enables a feature and has no default value. A warning is
+     * reported and the configuration is treated as not given unless it is a positive integer.
+     *
+     * @param key Key of the configuration
+     * @return {@link Optional<Long>} Value of the configuration, if it is a positive integer
+     */
+    Optional<Long> getPositiveInt(String key) {
+        return getValue(key, TomlValueNode.class).flatMap(value -> {
+            if (value instanceof TomlLongValueNode && ((TomlLongValueNode) value).getValue() > 0) {
+                return Optional.of(((TomlLongValueNode) value).getValue());
+            }
+            report(DiagnosticMessage.WARNING_102, key, value);
+            return Optional.empty();
+        });
+    }
+
+    /**
+     * This method returns a decimal configuration which enables a feature and has no default value. A warning is
+     * reported and the configuration is treated as not given unless it is a positive integer or float.
+     *
+     * @param key Key of the configuration
+     * @return {@link Optional<BigDecimal>} Value of the configuration, if it is positive
+     */
+    Optional<BigDecimal> getPositiveDecimal(String key) {
+        return getValue(key, TomlValueNode.class).flatMap(value -> {
+            BigDecimal decimalValue = null;
+            if (value instanceof TomlLongValueNode) {
+                decimalValue = BigDecimal.valueOf(((TomlLongValueNode) value).getValue());
+            } else if (value instanceof TomlDoubleValueNodeNode) {
+                decimalValue = BigDecimal.valueOf(((TomlDoubleValueNodeNode) value).getValue());
+            }
+            if (decimalValue != null && decimalValue.signum() > 0) {
+                return Optional.of(decimalValue);
+            }
+            report(DiagnosticMessage.WARNING_102, key, value);
+            return Optional.empty();
+        });
+    }
+
+    /**
+     * This method returns a configuration which names a module of the package. A warning is reported and the
+     * configuration is treated as not given unless it is the name of one of the given modules.
+     *
+     * @param key Key of the configuration
+     * @param moduleNames Names of the modules which can be given, without the name of the package
+     * @return {@link Optional<String>} Value of the configuration, if it names one of the given modules
+     */
+    Optional<String> getModuleName(String key, Set<String> moduleNames) {
+        return getValue(key, TomlValueNode.class).flatMap(value -> {
+            if (value instanceof TomlStringValueNode &&
+                    moduleNames.contains(((TomlStringValueNode) value).getValue())) {
+                return Optional.of(((TomlStringValueNode) value).getValue());
+            }
+            report(DiagnosticMessage.WARNING_103, key, value);
+            return Optional.empty();
+        });
+    }
+
+    /**
+     * This method reports the given warning for a configuration which is no longer supported, if it is given.
+     *
+     * @param key Key of the configuration
+     * @param diagnosticMessage Warning which explains why the configuration is no longer supported
+     */
+    void reportRemovedKey(String key, DiagnosticMessage diagnosticMessage) {
+        getValue(key, TomlValueNode.class).ifPresent(value -> report(diagnosticMessage, key, value));
+    }
+
+    /**
+     * This method returns the diagnostics reported for the invalid configurations read so far.
+     *
+     * @return {@link List<Diagnostic>} Diagnostics for the invalid configurations
+     */
+    List<Diagnostic> getDiagnostics() {
+        return new ArrayList<>(diagnostics.values());
+    }
+
+    private <T extends TomlValueNode> Optional<T> getValue(String key, Class<T> valueType) {
+        if (unsupportedKeys.contains(key)) {
+            reportUnsupportedValue(key);
+            return Optional.empty();
+        }
+        if (table != null) {
+            Optional<TomlValueNode> value = table.get(key);
+            if (value.isPresent()) {
+                if (valueType.isInstance(value.get())) {
+                    return Optional.of(valueType.cast(value.get()));
+                }
+                reportInvalidValue(key, value.get());
+                return Optional.empty();
+            }
+        }
+        return parent == null ? Optional.empty() : parent.getValue(key, valueType);
+    }
+
+    private void reportUnsupportedValue(String key) {
+        if (table != null) {
+            table.get(key).ifPresent(value -> report(DiagnosticMessage.WARNING_101, key, value));
+        }
+        if (parent != null) {
+            parent.reportUnsupportedValue(key);
+        }
+    }
+
+    private void reportInvalidValue(String key, TomlValueNode value) {
+        report(DiagnosticMessage.WARNING_100, key, value);
+    }
+
+    private void report(DiagnosticMessage diagnosticMessage, String key, TomlValueNode value) {
+        DiagnosticInfo diagnosticInfo = new DiagnosticInfo(diagnosticMessage.getCode(),
+                diagnosticMessage.getMessageFormat(), diagnosticMessage.getSeverity());
+        // Configurations are read once per transformer function, hence report each value only once
+        diagnostics.putIfAbsent(key + value.location().lineRange(),
+                DiagnosticFactory.createDiagnostic(diagnosticInfo, value.location(), key));
+    }
+}
@@ -18,14 +18,15 @@
 
 package io.ballerina.transformer.plugin;
 
+import io.ballerina.compiler.api.SemanticModel;
 import io.ballerina.compiler.syntax.tree.AbstractNodeFactory;
 import io.ballerina.compiler.syntax.tree.AnnotationNode;
 import io.ballerina.compiler.syntax.tree.ArrayDimensionNode;
-import io.ballerina.compiler.syntax.tree.BasicLiteralNode;
 import io.ballerina.compiler.syntax.tree.BinaryExpressionNode;
 import io.ballerina.compiler.syntax.tree.BindingPatternNode;
 import io.ballerina.compiler.syntax.tree.DefaultableParameterNode;
 import io.ballerina.compiler.syntax.tree.ExplicitNewExpressionNode;
+import io.ballerina.compiler.syntax.tree.ExpressionFunctionBodyNode;
 import io.ballerina.compiler.syntax.tree.ExpressionNode;
 import io.ballerina.compiler.syntax.tree.FieldAccessExpressionNode;
 import io.ballerina.compiler.syntax.tree.FunctionArgumentNode;
@@ -36,19 +37,22 @@ import io.ballerina.compiler.syntax.tree.FunctionSignatureNode;
 import io.ballerina.compiler.syntax.tree.IdentifierToken;
 import io.ballerina.compiler.syntax.tree.ImportDeclarationNode;
 import io.ballerina.compiler.syntax.tree.ImportOrgNameNode;
+import io.ballerina.compiler.syntax.tree.ImportPrefixNode;
 import io.ballerina.compiler.syntax.tree.ListConstructorExpressionNode;
-import io.ballerina.compiler.syntax.tree.LiteralValueToken;
-import io.ballerina.compiler.syntax.tree.MinutiaeList;
+import io.ballerina.compiler.syntax.tree.MappingConstructorExpressionNode;
+import io.ballerina.compiler.syntax.tree.MetadataNode;
 import io.ballerina.compiler.syntax.tree.ModuleMemberDeclarationNode;
 import io.ballerina.compiler.syntax.tree.ModulePartNode;
 import io.ballerina.compiler.syntax.tree.ModuleVariableDeclarationNode;
 import io.ballerina.compiler.syntax.tree.Node;
 import io.ballerina.compiler.syntax.tree.NodeFactory;
 import io.ballerina.compiler.syntax.tree.NodeList;
+import io.ballerina.compiler.syntax.tree.NodeParser;
 import io.ballerina.compiler.syntax.tree.ParameterNode;
 import io.ballerina.compiler.syntax.tree.ParenthesizedArgList;
 import io.ballerina.compiler.syntax.tree.PositionalArgumentNode;
 import io.ballerina.compiler.syntax.tree.QualifiedNameReferenceNode;
+import io.ballerina.compiler.syntax.tree.QueryExpressionNode;
 import io.ballerina.compiler.syntax.tree.RecordFieldNode;
 import io.ballerina.compiler.syntax.tree.RecordTypeDescriptorNode;
 import io.ballerina.compiler.syntax.tree.RequiredParameterNode;
@@ -66,15 +70,26 @@ import io.ballerina.compiler.syntax.tree.TypeDefinitionNode;
 import io.ballerina.compiler.syntax.tree.TypeDescriptorNode;
 import io.ballerina.compiler.syntax.tree.TypedBindingPatternNode;
 import io.ballerina.compiler.syntax.tree.UnionTypeDescriptorNode;
+import io.ballerina.projects.Module;
+import io.ballerina.projects.Package;
 import io.ballerina.projects.plugins.GeneratorTask;
 import io.ballerina.projects.plugins.SourceGeneratorContext;
+import io.ballerina.tools.diagnostics.Diagnostic;
 import io.ballerina.tools.text.TextDocument;
 import io.ballerina.tools.text.TextDocuments;
+import io.ballerina.transformer.plugin.diagnostic.DiagnosticMessage;
 import org.ballerinalang.formatter.core.Formatter;
 import org.ballerinalang.formatter.core.FormatterException;
 
+import java.math.BigDecimal;
 import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
 
 /**
  * Transformer module Service Generator.
@@ -85,45 +100,267 @@ public class TransformerServiceGenerator implements GeneratorTask<SourceGenerato
 
     private static final String PAYLOAD_KEYWORD = "Payload";
     private static final String PAYLOAD_TOKEN = "payload";
+    private static final String BALLERINA_ORG = "ballerina";
+    private static final String BALLERINAX_ORG = "ballerinax";
     private static final String HTTP_KEYWORD = "http";
+    private static final String TRANSFORMER_KEYWORD = "transformer";
+    // Submodule of the transformer library which provides the runtime support of the generated code
+    private static final String RUNTIME_KEYWORD = "runtime";
+    private static final String REQUEST_KEYWORD = "Request";
+    private static final String RESPONSE_KEYWORD = "Response";
+    private static final String REQUEST_TOKEN = "request";
     private static final String LISTENER_KEYWORD = "Listener";
     private static final String PORT_KEYWORD = "port";
+    private static final String HTTP_VERSION_KEYWORD = "httpVersion";
+    private static final String KEEP_ALIVE_KEYWORD = "keepAlive";
+    private static final String TIMEOUT_KEYWORD = "timeout";
+    private static final String MAX_URI_LENGTH_KEYWORD = "maxUriLength";
+    private static final String MAX_HEADER_SIZE_KEYWORD = "maxHeaderSize";
+    private static final String MAX_ENTITY_BODY_SIZE_KEYWORD = "maxEntityBodySize";
+    private static final String BACKLOG_KEYWORD = "backlog";
+    private static final String CACHE_KEYWORD = "cache";
+    private static final String CACHE_CAPACITY_KEYWORD = "cacheCapacity";
+    private static final String CACHE_MAX_AGE_KEYWORD = "cacheMaxAge";
+    private static final String CACHE_KEYWORD_SUFFIX = "Cache";
+    private static final String CACHE_STATS_PATH = "_cache";
+    private static final String CACHE_STATS_TYPE = "map<transformer:ResponseCacheStats>";
+    private static final String STATS_KEYWORD = "stats";
+    private static final String STATS_PATH = "_stats";
+    private static final String STATS_TYPE = "map<transformer:TransformerStats>";
+    private static final String HEALTH_PATH = "_health";
+    private static final String HEALTH_TYPE = "record {|string status;|}";
+    private static final String LOAD_KEYWORD_SUFFIX = "Load";
+    private static final String GET_KEYWORD = "get";
+    private static final String METRICS_KEYWORD = "metrics";
+    private static final String DIRECT_BINDING_KEYWORD = "directBinding";
+    private static final String CBOR_KEYWORD = "cbor";
+    private static final String MAX_CONCURRENT_KEYWORD = "maxConcurrent";
+    private static final String RETRY_AFTER_KEYWORD = "retryAfter";
+    // Configurations of the wait queue of the bulkheads, which are no longer supported
+    private static final List<String> BULKHEAD_QUEUE_KEYWORDS = List.of("maxQueued", "maxQueueWait");
+    private static final String SERVICE_UNAVAILABLE_KEYWORD = "ServiceUnavailable";
+    private static final String DEADLINE_KEYWORD = "deadline";
+    private static final String CLIENT_KEYWORD = "client";
+    private static final String MAX_PAYLOAD_SIZE_KEYWORD = "maxPayloadSize";
+    private static final String STREAM_RESULTS_KEYWORD = "streamResults";
+    private static final String STREAMED_KEYWORD = "streamed";
+    private static final String RESULT_STREAM_SUFFIX = "ResultStream";
+    private static final String NATIVE_IMAGE_KEYWORD = "nativeImage";
+    private static final String FORMAT_KEYWORD = "format";
+    private static final String PIPELINE_KEYWORD = "pipeline";
+    private static final String FAN_OUT_KEYWORD = "fanOut";
+    // Configurations of the features which are provided by the transformer library
+    private static final Set<String> LIBRARY_KEYWORDS = Set.of(CACHE_KEYWORD, METRICS_KEYWORD, CBOR_KEYWORD,
+            MAX_CONCURRENT_KEYWORD, DEADLINE_KEYWORD, MAX_PAYLOAD_SIZE_KEYWORD, CLIENT_KEYWORD,
+            STREAM_RESULTS_KEYWORD, STATS_KEYWORD, PIPELINE_KEYWORD, FAN_OUT_KEYWORD);
+    private static final String BIND_PHASE = "BIND";
+    private static final String TRANSFORM_PHASE = "TRANSFORM";
+    private static final String RESPOND_PHASE = "RESPOND";
+    private static final String BYTE_ARRAY_TYPE = "byte[]";
+    private static final String LISTENER_CONFIG_KEYWORD = "listenerConfig";
+    private static final String COMPRESSION_KEYWORD = "compression";
+    private static final String SERVICE_CONFIG_KEYWORD = "ServiceConfig";
+    private static final String WARM_UP_ITERATIONS_KEYWORD = "warmUpIterations";
+    private static final String WARM_UP_ARGS_SUFFIX = "Args";
+    private static final String COMPRESSION_THRESHOLD_KEYWORD = "compressionThreshold";
+    private static final long DEFAULT_PORT = 8080;
+    private static final String DEFAULT_HTTP_VERSION = "1.1";
+    private static final String DEFAULT_KEEP_ALIVE = "AUTO";
+    private static final BigDecimal DEFAULT_TIMEOUT = BigDecimal.valueOf(60);
+    private static final long DEFAULT_MAX_URI_LENGTH = 4096;
+    private static final long DEFAULT_MAX_HEADER_SIZE = 8192;
+    private static final long DEFAULT_MAX_ENTITY_BODY_SIZE = -1;
+    private static final long DEFAULT_BACKLOG = 100;
+    private static final String DEFAULT_COMPRESSION = "AUTO";
+    private static final long DEFAULT_WARM_UP_ITERATIONS = 0;
+    private static final long DEFAULT_RETRY_AFTER = 1;
+    private static final long DEFAULT_CACHE_CAPACITY = 1024;
+    private static final int DEFAULT_FORMAT_LIMIT = 100;
+    private static final BigDecimal DEFAULT_CACHE_MAX_AGE = BigDecimal.valueOf(300);
     private static final String POST_KEYWORD = "post";
-    private final List<FunctionDefinitionNode> transformerFunctions;
-
-    TransformerServiceGenerator(List<FunctionDefinitionNode> transformerFunctions) {
-        this.transformerFunctions = transformerFunctions;
-    }
-
+    private static final String BATCH_KEYWORD = "batch";
+    private static final String BATCH_RESULT_KEYWORD = "BatchResult";
+    private static final String NDJSON_KEYWORD = "ndjson";
+    private static final String PAYLOADS_TOKEN = "payloads";
+    private static final String RESULT_TOKEN = "result";
+    private static final String ERROR_TOKEN = "'error";
+    private static final String DEADLINE_FUNCTION_SUFFIX = "WithinDeadline";
+    private static final String READONLY_PAYLOAD_TOKEN = "readonlyPayload";
+    private static final String LOAD_START_TOKEN = "loadStart";
+    private static final String FAN_OUT_PATH = "_fanout";
+    private static final String FAN_OUT_REQUEST_TYPE = "transformer:FanOutRequest";
+    private static final String FAN_OUT_RESOURCE_RETURN_TYPE = "map<anydata>|http:BadRequest";
+    private static final String PIPELINE_PATH = "_pipeline";
+    private static final String PIPELINE_REQUEST_TYPE = "transformer:PipelineRequest";
+    private static final String PIPELINE_RESOURCE_RETURN_TYPE = "anydata|http:BadRequest|error";
     @Override
     public void generate(SourceGeneratorContext sourceGeneratorContext) {
-        // TODO: Change the Listener Port to be configurable in Ballerina.toml
-        String balServiceCode = generateCode(transformerFunctions);
+        Package currentPackage = sourceGeneratorContext.currentPackage();
+        List<FunctionDefinitionNode> transformerFunctions = CompilationState.remove(
+                sourceGeneratorContext.compilation()).getTransformerFunctions(currentPackage.getDefaultModule());
+        TransformerConfig config = TransformerConfig.from(currentPackage);
+        if (isNativeImage(config)) {
+            config = config.withUnsupportedKeys(LIBRARY_KEYWORDS);
+        }
+        Optional<Module> clientModule = getClientModule(currentPackage, config);
+        Optional<String> fingerprint = GeneratedSourceCache.fingerprint(currentPackage, transformerFunctions);
+        Optional<GeneratedSourceCache.Entry> cachedEntry = fingerprint.flatMap(currentFingerprint ->
+                GeneratedSourceCache.get(currentPackage, currentFingerprint));
+        if (cachedEntry.isPresent()) {
+            cachedEntry.get().getSources().forEach((prefix, source) ->
+                    addSourceFile(sourceGeneratorContext, prefix, source, clientModule));
+            cachedEntry.get().getDiagnostics().forEach(sourceGeneratorContext::reportDiagnostic);
+            return;
+        }
+
+        SemanticModel semanticModel = sourceGeneratorContext.compilation()
+                .getSemanticModel(currentPackage.getDefaultModule().moduleId());
+        Map<String, String> sources = new LinkedHashMap<>();
+        String balServiceCode = generateCode(transformerFunctions, config, semanticModel);
         TextDocument textDocument = TextDocuments.from(balServiceCode);
         sourceGeneratorContext.addSourceFile(textDocument, "service");
+        sources.put("service", balServiceCode);
+        if (clientModule.isPresent()) {
+            // Byte stream transformer functions are not exposed by the JSON based client
+            ByteStreamAnalyzer byteStreamAnalyzer = new ByteStreamAnalyzer(semanticModel);
+            String balClientCode = new TransformerClientGenerator(config,
+                    isFormatEnabled(transformerFunctions, config)).generate(transformerFunctions.stream()
+                    .filter(transformerFunc -> !byteStreamAnalyzer.isByteStreamTransformer(transformerFunc))
+                    .collect(Collectors.toList()), currentPackage.getDefaultModule());
+            addSourceFile(sourceGeneratorContext, CLIENT_KEYWORD, balClientCode, clientModule);
+            sources.put(CLIENT_KEYWORD, balClientCode);
+        }
+        List<Diagnostic> diagnostics = config.getDiagnostics();
+        diagnostics.forEach(sourceGeneratorContext::reportDiagnostic);
+        if (balServiceCode != null && fingerprint.isPresent()) {
+            GeneratedSourceCache.put(currentPackage, new GeneratedSourceCache.Entry(fingerprint.get(), sources,
+                    diagnostics));
+        }
+    }
+
+    /**
+     * This method returns the module into which the client of the service to be generated, if the client is enabled.
+     * The client is kept out of the default module, as importing the default module starts the listener of the
+     * service.
+     *
+     * @param currentPackage Package of which the service to be generated
+     * @param config Transformer configurations of the package
+     * @return {@link Optional<Module>} Module of the client, or empty if the client is not enabled
+     */
+    private Optional<Module> getClientModule(Package currentPackage, TransformerConfig config) {
+        Map<String, Module> modules = new HashMap<>();
+        for (Module module : currentPackage.modules()) {
+            if (!module.isDefaultModule()) {
+                modules.put(module.moduleName().moduleNamePart(), module);
+            }
+        }
+        return config.getModuleName(CLIENT_KEYWORD, modules.keySet()).map(modules::get);
+    }
+
+    private void addSourceFile(SourceGeneratorContext sourceGeneratorContext, String prefix, String source,
+                               Optional<Module> clientModule) {
+        if (prefix.equals(CLIENT_KEYWORD) && clientModule.isPresent()) {
+            sourceGeneratorContext.addSourceFile(TextDocuments.from(source), prefix, clientModule.get().moduleId());
+        } else {
+            sourceGeneratorContext.addSourceFile(TextDocuments.from(source), prefix);
+        }
     }
 
     /**
      * This method returns generated code for the given transformer functions.
      *
+     * @param transformerFunctions List of transformer functions for which the service to be generated
+     * @param config Transformer configurations of the package
+     * @param semanticModel Semantic model of the transformer package
      * @return {@link String} Generated code for the given transformer functions
      */
-    private String generateCode(List<FunctionDefinitionNode> transformerFunctions) {
+    private String generateCode(List<FunctionDefinitionNode> transformerFunctions, TransformerConfig config,
+                                SemanticModel semanticModel) {
         try {
-            NodeList<ImportDeclarationNode> imports = generateImports();
+            boolean isNativeImage = isNativeImage(config);
+            // Byte stream arguments and results cannot be represented as JSON, hence such transformer functions are
+            // exposed only by their binary resource functions
+            ByteStreamAnalyzer byteStreamAnalyzer = new ByteStreamAnalyzer(semanticModel);
+            List<FunctionDefinitionNode> valueFunctions = transformerFunctions.stream()
+                    .filter(transformerFunc -> !byteStreamAnalyzer.isByteStreamTransformer(transformerFunc))
+                    .collect(Collectors.toList());
+            boolean isByteStreamReturned = transformerFunctions.stream()
+                    .anyMatch(byteStreamAnalyzer::returnsByteStream);
+            // The pipeline resource is generated only on demand, as it pulls in the transformer library
+            PipelineAnalyzer pipelineAnalyzer = new PipelineAnalyzer(semanticModel);
+            Map<String, List<String>> pipelineSuccessors = config.getBoolean(PIPELINE_KEYWORD, false) ?
+                    pipelineAnalyzer.getSuccessors(valueFunctions) : Map.of();
+            boolean isPipelineSupported = pipelineSuccessors.values().stream().anyMatch(names -> !names.isEmpty());
+            // Only isolated transformer functions are safe to be run on concurrent strands
+            List<FunctionDefinitionNode> fanOutFunctions = valueFunctions.stream()
+                    .filter(this::isIsolated)
+                    .collect(Collectors.toList());
+            boolean isFanOutSupported = config.getBoolean(FAN_OUT_KEYWORD, false) && fanOutFunctions.size() > 1;
+            NodeList<ImportDeclarationNode> imports = generateImports(valueFunctions, config,
+                    isPipelineSupported || isFanOutSupported || (isByteStreamReturned && !isNativeImage));
             List<TypeDefinitionNode> typeDefNodes = new ArrayList<>();
             transformerFunctions.forEach(transformerFunc -> {
                 if (transformerFunc.functionSignature().parameters().size() > 0) {
+                    if (!valueFunctions.contains(transformerFunc)) {
+                        // The arguments of a byte stream transformer function are bound from JSON only if it
+                        // returns a byte stream and does not take a byte stream or a byte array
+                        if (!isBinaryBound(transformerFunc, byteStreamAnalyzer)) {
+                            typeDefNodes.add(generatePayloadRecord(transformerFunc));
+                        }
+                        return;
+                    }
                     typeDefNodes.add(generatePayloadRecord(transformerFunc));
+                    typeDefNodes.add(generateBatchResultRecord(transformerFunc));
                 }
             });
             List<ModuleMemberDeclarationNode> moduleMembers = new ArrayList<>();
-            moduleMembers.add(generateConfigurable());
-            moduleMembers.add(generateService(transformerFunctions));
+            moduleMembers.addAll(generateListenerConfigurables(config));
+            moduleMembers.add(generateListenerConfig(config));
+            moduleMembers.add(NodeParser.parseModuleMemberDeclaration(ServiceTemplates.COMPRESSION_CONFIG));
+            valueFunctions.stream()
+                    .filter(transformerFunc -> isCacheEnabled(transformerFunc, config))
+                    .forEach(transformerFunc -> moduleMembers.add(generateResponseCache(transformerFunc, config)));
+            valueFunctions.stream()
+                    .filter(transformerFunc -> isBulkheadEnabled(transformerFunc, config))
+                    .forEach(transformerFunc -> moduleMembers.add(generateBulkhead(transformerFunc, config)));
+            valueFunctions.forEach(transformerFunc -> BULKHEAD_QUEUE_KEYWORDS.forEach(key -> config
+                    .forFunction(transformerFunc.functionName().text())
+                    .reportRemovedKey(key, DiagnosticMessage.WARNING_104)));
+            valueFunctions.stream()
+                    .filter(transformerFunc -> isMetricsEnabled(transformerFunc, config))
+                    .forEach(transformerFunc -> moduleMembers.add(generateTransformerMetrics(transformerFunc)));
+            valueFunctions.stream()
+                    .filter(transformerFunc -> isStatsEnabled(transformerFunc, config))
+                    .forEach(transformerFunc -> moduleMembers.add(NodeParser.parseModuleMemberDeclaration(
+                            String.format(ServiceTemplates.LOAD_TRACKER, transformerFunc.functionName().text()))));
+            valueFunctions.stream()
+                    .filter(transformerFunc -> isDeadlineCompletionRequired(transformerFunc, config))
+                    .forEach(transformerFunc -> moduleMembers.add(generateDeadlineFunction(transformerFunc, config)));
+            // A native image is compiled ahead of time, hence warming up only delays the first response
+            if (!isNativeImage) {
+                moduleMembers.addAll(generateWarmUp(valueFunctions, config,
+                        new SamplePayloadGenerator(semanticModel)));
+            }
+            valueFunctions.stream()
+                    .filter(transformerFunc -> isResultStreamingEnabled(transformerFunc, config))
+                    .map(this::generateResultStreamFunction)
+                    .flatMap(Optional::stream)
+                    .forEach(moduleMembers::add);
+            if (isPipelineSupported) {
+                moduleMembers.addAll(generatePipeline(valueFunctions, pipelineSuccessors, pipelineAnalyzer));
+            }
+            if (isFanOutSupported) {
+                moduleMembers.addAll(generateFanOut(fanOutFunctions));
+            }
+            moduleMembers.add(generateService(transformerFunctions, config, isPipelineSupported, isFanOutSupported,
+                    byteStreamAnalyzer));
             moduleMembers.addAll(typeDefNodes);
             NodeList<ModuleMemberDeclarationNode> moduleMemberNodes = AbstractNodeFactory.createNodeList(moduleMembers);
             Token eofToken = AbstractNodeFactory.createIdentifierToken("");
             ModulePartNode modulePartNode = NodeFactory.createModulePartNode(imports, moduleMemberNodes, eofToken);
+            if (!isFormatEnabled(transformerFunctions, config)) {
+                return GeneratedSourcePrinter.print(modulePartNode);
+            }
             return Formatter.format(modulePartNode.syntaxTree()).toSourceCode();
         } catch (FormatterException e) {
             return null;
@@ -133,62 +370,222 @@ public class TransformerServiceGenerator implements GeneratorTask<SourceGenerato
     /**
      * This method returns a list of ImportDeclarationNodes.
      *
+     * @param transformerFunctions List of transformer functions for which the service to be generated
+     * @param config Transformer configurations of the package
+     * @param isLibraryRequired Whether the generated code uses the transformer library regardless of the
+     *                          configurations of the transformer functions
      * @return {@link NodeList<ImportDeclarationNode>} Generated list of ImportDeclarationNodes
      */
-    private NodeList<ImportDeclarationNode> generateImports() {
+    private NodeList<ImportDeclarationNode> generateImports(List<FunctionDefinitionNode> transformerFunctions,
+                                                            TransformerConfig config, boolean isLibraryRequired) {
+        List<ImportDeclarationNode> importNodes = new ArrayList<>();
+        importNodes.add(generateImport(BALLERINA_ORG, HTTP_KEYWORD));
+        if (isLibraryRequired || transformerFunctions.stream().anyMatch(transformerFunc ->
+                isNdjsonSupported(transformerFunc, config) || isResultStreamingEnabled(transformerFunc, config)
+                || isCacheEnabled(transformerFunc, config) || isMetricsEnabled(transformerFunc, config)
+                || isCborEnabled(transformerFunc, config) || isBulkheadEnabled(transformerFunc, config)
+                || isDeadlineEnabled(transformerFunc, config) || isPayloadLimitEnabled(transformerFunc, config)
+                || isStatsEnabled(transformerFunc, config))) {
+            // The runtime support is imported with the prefix of the library, which the templates refer to
+            importNodes.add(generateImport(BALLERINAX_ORG, List.of(TRANSFORMER_KEYWORD, RUNTIME_KEYWORD),
+                    TRANSFORMER_KEYWORD));
+        }
+        return AbstractNodeFactory.createNodeList(importNodes);
+    }
+
+    /**
+     * This method returns an ImportDeclarationNode for the given module.
+     *
+     * @param orgName Organization name of the module to be imported
+     * @param moduleName Name of the module to be imported
+     * @return {@link ImportDeclarationNode} Generated ImportDeclarationNode
+     */
+    private ImportDeclarationNode generateImport(String orgName, String moduleName) {
+        return generateImport(orgName, List.of(moduleName), null);
+    }
+
+    /**
+     * This method returns an ImportDeclarationNode for the given submodule, with the given prefix.
+     *
+     * @param orgName Organization name of the module to be imported
+     * @param moduleNameParts Dot-separated parts of the name of the module to be imported
+     * @param prefix Prefix of the imported module, or null to use the last part of its name
+     * @return {@link ImportDeclarationNode} Generated ImportDeclarationNode
+     */
+    private ImportDeclarationNode generateImport(String orgName, List<String> moduleNameParts, String prefix) {
         Token importKeyword = AbstractNodeFactory.createToken(SyntaxKind.IMPORT_KEYWORD);
-        Token orgNameToken = AbstractNodeFactory.createIdentifierToken("ballerina");
+        Token orgNameToken = AbstractNodeFactory.createIdentifierToken(orgName);
         Token slashToken = AbstractNodeFactory.createToken(SyntaxKind.SLASH_TOKEN);
         ImportOrgNameNode orgNameNode = NodeFactory.createImportOrgNameNode(orgNameToken, slashToken);
-        IdentifierToken httpKeyword = AbstractNodeFactory.createIdentifierToken(HTTP_KEYWORD);
-        SeparatedNodeList<IdentifierToken> moduleName =
-                AbstractNodeFactory.createSeparatedNodeList(List.of(httpKeyword));
+        List<Node> moduleNameTokens = new ArrayList<>();
+        for (String moduleNamePart : moduleNameParts) {
+            if (!moduleNameTokens.isEmpty()) {
+                moduleNameTokens.add(AbstractNodeFactory.createToken(SyntaxKind.DOT_TOKEN));
+            }
+            moduleNameTokens.add(AbstractNodeFactory.createIdentifierToken(moduleNamePart));
+        }
+        SeparatedNodeList<IdentifierToken> moduleNameNodes =
+                AbstractNodeFactory.createSeparatedNodeList(moduleNameTokens);
+        ImportPrefixNode prefixNode = prefix == null ? null
+                : NodeFactory.createImportPrefixNode(AbstractNodeFactory.createToken(SyntaxKind.AS_KEYWORD),
+                        AbstractNodeFactory.createIdentifierToken(prefix));
         Token semicolonToken = AbstractNodeFactory.createToken(SyntaxKind.SEMICOLON_TOKEN);
-        ImportDeclarationNode httpImport =
-                NodeFactory.createImportDeclarationNode(importKeyword, orgNameNode, moduleName, null,
-                        semicolonToken);
-        return AbstractNodeFactory.createNodeList(List.of(httpImport));
+        return NodeFactory.createImportDeclarationNode(importKeyword, orgNameNode, moduleNameNodes, prefixNode,
+                semicolonToken);
+    }
+
+    /**
+     * This method returns the configurables which define the port and the configurations of the HTTP listener. The
+     * values given in the transformer table of the Ballerina.toml are used as the default values of these
+     * configurables, so that they can still be overridden at the deployment.
+     *
+     * @param config Transformer configurations of the package
+     * @return {@link List<ModuleMemberDeclarationNode>} Generated configurable declaration nodes
+     */
+    private List<ModuleMemberDeclarationNode> generateListenerConfigurables(TransformerConfig config) {
+        List<ModuleMemberDeclarationNode> configurables = new ArrayList<>();
+        configurables.add(generateConfigurable(SyntaxKind.INT_KEYWORD, PORT_KEYWORD,
+                String.valueOf(config.getInt(PORT_KEYWORD, DEFAULT_PORT))));
+        configurables.add(generateConfigurable(SyntaxKind.STRING_KEYWORD, HTTP_VERSION_KEYWORD,
+                generateStringLiteral(config.getString(HTTP_VERSION_KEYWORD, DEFAULT_HTTP_VERSION))));
+        configurables.add(generateConfigurable(SyntaxKind.STRING_KEYWORD, KEEP_ALIVE_KEYWORD,
+                generateStringLiteral(config.getString(KEEP_ALIVE_KEYWORD, DEFAULT_KEEP_ALIVE))));
+        configurables.add(generateConfigurable(SyntaxKind.DECIMAL_KEYWORD, TIMEOUT_KEYWORD,
+                config.getDecimal(TIMEOUT_KEYWORD, DEFAULT_TIMEOUT).toPlainString()));
+        configurables.add(generateConfigurable(SyntaxKind.INT_KEYWORD, MAX_URI_LENGTH_KEYWORD,
+                String.valueOf(config.getInt(MAX_URI_LENGTH_KEYWORD, DEFAULT_MAX_URI_LENGTH))));
+        configurables.add(generateConfigurable(SyntaxKind.INT_KEYWORD, MAX_HEADER_SIZE_KEYWORD,
+                String.valueOf(config.getInt(MAX_HEADER_SIZE_KEYWORD, DEFAULT_MAX_HEADER_SIZE))));
+        configurables.add(generateConfigurable(SyntaxKind.INT_KEYWORD, MAX_ENTITY_BODY_SIZE_KEYWORD,
+                String.valueOf(config.getInt(MAX_ENTITY_BODY_SIZE_KEYWORD, DEFAULT_MAX_ENTITY_BODY_SIZE))));
+        if (config.contains(BACKLOG_KEYWORD)) {
+            configurables.add(generateConfigurable(SyntaxKind.INT_KEYWORD, BACKLOG_KEYWORD,
+                    String.valueOf(config.getInt(BACKLOG_KEYWORD, DEFAULT_BACKLOG))));
+        }
+        configurables.add(generateConfigurable(SyntaxKind.STRING_KEYWORD, COMPRESSION_KEYWORD,
+                generateStringLiteral(config.getString(COMPRESSION_KEYWORD, DEFAULT_COMPRESSION))));
+        if (isCompressionThresholdEnabled(config)) {
+            configurables.add(generateConfigurable(SyntaxKind.INT_KEYWORD, COMPRESSION_THRESHOLD_KEYWORD,
+                    String.valueOf(config.getPositiveInt(COMPRESSION_THRESHOLD_KEYWORD).orElseThrow())));
+        }
+        return configurables;
     }
 
     /**
-     * This method returns ModuleVariableDeclarationNode which defines the configurable port number.
+     * This method returns ModuleVariableDeclarationNode which defines a configurable variable.
      *
-     * @return {@link ModuleVariableDeclarationNode}
-     * Generated ModuleVariableDeclarationNode for configuring port number
+     * @param typeKind Kind of the builtin type of the configurable variable
+     * @param variableName Name of the configurable variable
+     * @param defaultValue Source of the default value of the configurable variable
+     * @return {@link ModuleVariableDeclarationNode} Generated ModuleVariableDeclarationNode
      */
-    private ModuleVariableDeclarationNode generateConfigurable() {
+    private ModuleVariableDeclarationNode generateConfigurable(SyntaxKind typeKind, String variableName,
+                                                               String defaultValue) {
         Token configToken = NodeFactory.createToken(SyntaxKind.CONFIGURABLE_KEYWORD);
         List<Token> qualifiers = new ArrayList<>();
         qualifiers.add(configToken);
 
         NodeList<Token> qualifierNodes = AbstractNodeFactory.createNodeList(qualifiers);
-        Token typeName = AbstractNodeFactory.createToken(SyntaxKind.INT_KEYWORD);
-        IdentifierToken fieldName = AbstractNodeFactory.createIdentifierToken(PORT_KEYWORD);
-        SimpleNameReferenceNode variableName = NodeFactory.createSimpleNameReferenceNode(fieldName);
+        Token typeName = AbstractNodeFactory.createToken(typeKind);
+        IdentifierToken fieldName = AbstractNodeFactory.createIdentifierToken(variableName);
+        SimpleNameReferenceNode variableNameNode = NodeFactory.createSimpleNameReferenceNode(fieldName);
         TypeDescriptorNode typeDescNode = NodeFactory.createBuiltinSimpleNameReferenceNode(typeName.kind(), typeName);
-        BindingPatternNode bindingPatternNode = NodeFactory.createFieldBindingPatternVarnameNode(variableName);
+        BindingPatternNode bindingPatternNode = NodeFactory.createFieldBindingPatternVarnameNode(variableNameNode);
         TypedBindingPatternNode typedBindingPatternNode =
                 NodeFactory.createTypedBindingPatternNode(typeDescNode, bindingPatternNode);
         Token equalsToken = AbstractNodeFactory.createToken(SyntaxKind.EQUAL_TOKEN);
-        MinutiaeList minList = AbstractNodeFactory.createEmptyMinutiaeList();
-        // TODO: move port number to a const.
-        LiteralValueToken valToken =
-                NodeFactory.createLiteralValueToken(SyntaxKind.DECIMAL_INTEGER_LITERAL_TOKEN, "8080",
-                        minList, minList);
-        BasicLiteralNode basicLiteralNode = NodeFactory.createBasicLiteralNode(SyntaxKind.NUMERIC_LITERAL, valToken);
+        ExpressionNode defaultValueNode = NodeParser.parseExpression(defaultValue);
         Token semicolonToken = AbstractNodeFactory.createToken(SyntaxKind.SEMICOLON_TOKEN);
         return NodeFactory.createModuleVariableDeclarationNode(null, null, qualifierNodes,
-                typedBindingPatternNode, equalsToken, basicLiteralNode, semicolonToken);
+                typedBindingPatternNode, equalsToken, defaultValueNode, semicolonToken);
+    }
+
+    /**
+     * This method returns the module level variable declaration of the HTTP listener configuration, which is built
+     * from the listener configurables.
+     *
+     * @param config Transformer configurations of the package
+     * @return {@link ModuleMemberDeclarationNode} Generated listener configuration declaration node
+     */
+    private ModuleMemberDeclarationNode generateListenerConfig(TransformerConfig config) {
+        // The socket configuration is not supported by all the HTTP module versions, hence it is added only if
+        // the backlog is configured explicitly.
+        String socketConfig = config.contains(BACKLOG_KEYWORD) ? ServiceTemplates.SOCKET_CONFIG : "";
+        return NodeParser.parseModuleMemberDeclaration(String.format(ServiceTemplates.LISTENER_CONFIG, socketConfig));
+    }
+
+    /**
+     * This method returns the source of a string literal with the given value.
+     *
+     * @param value Value of the string literal
+     * @return {@link String} Source of the string literal
+     */
+    private String generateStringLiteral(String value) {
+        return "\"" + value.replace("\\", "\\\\").replace("\"", "\\\"") + "\"";
+    }
+
+    /**
+     * This method returns the module level declarations which warm up the transformer functions before the listener
+     * starts accepting requests. Each transformer function is invoked with a representative payload bound from JSON
+     * and its result is serialized back to JSON, as many times as the warmUpIterations configurable variable.
+     *
+     * @param transformerFunctions List of transformer functions to be warmed up
+     * @param config Transformer configurations of the package
+     * @param samplePayloadGenerator Generator of the representative payloads of the transformer functions
+     * @return {@link List<ModuleMemberDeclarationNode>} Generated warm up declaration nodes
+     */
+    private List<ModuleMemberDeclarationNode> generateWarmUp(List<FunctionDefinitionNode> transformerFunctions,
+                                                             TransformerConfig config,
+                                                             SamplePayloadGenerator samplePayloadGenerator) {
+        StringBuilder samples = new StringBuilder();
+        StringBuilder calls = new StringBuilder();
+        for (FunctionDefinitionNode transformerFuncNode : transformerFunctions) {
+            String transformerFuncName = transformerFuncNode.functionName().text();
+            if (transformerFuncNode.functionSignature().parameters().size() == 0) {
+                calls.append(String.format(ServiceTemplates.WARM_UP_CALL, transformerFuncName,
+                        generateTransformerCall(transformerFuncNode, PAYLOAD_TOKEN).toSourceCode()));
+                continue;
+            }
+            // Transformer functions with parameters of which a sample value cannot be generated are not warmed up
+            Optional<String> samplePayload = samplePayloadGenerator.generate(transformerFuncNode);
+            if (samplePayload.isPresent()) {
+                samples.append(String.format(ServiceTemplates.WARM_UP_SAMPLE, transformerFuncName,
+                        samplePayload.get()));
+                String transformerCall = generateTransformerCall(transformerFuncNode,
+                        transformerFuncName + WARM_UP_ARGS_SUFFIX).toSourceCode();
+                calls.append(String.format(ServiceTemplates.WARM_UP_BINDING, transformerFuncName,
+                        String.format(ServiceTemplates.WARM_UP_CALL, transformerFuncName, transformerCall)));
+            }
+        }
+        List<ModuleMemberDeclarationNode> warmUpNodes = new ArrayList<>();
+        warmUpNodes.add(generateConfigurable(SyntaxKind.INT_KEYWORD, WARM_UP_ITERATIONS_KEYWORD,
+                String.valueOf(config.getPositiveInt(WARM_UP_ITERATIONS_KEYWORD).orElse(DEFAULT_WARM_UP_ITERATIONS))));
+        warmUpNodes.add(NodeParser.parseModuleMemberDeclaration(ServiceTemplates.WARM_UP));
+        warmUpNodes.add(NodeParser.parseModuleMemberDeclaration(
+                String.format(ServiceTemplates.WARM_UP_FUNCTION, samples, calls)));
+        return warmUpNodes;
     }
 
     /**
      * This method returns ServiceDeclarationNode for the transformer function nodes.
      *
      * @param transformerFunctions List of transformer functions for which resource functions to be generated
+     * @param config Transformer configurations of the package
+     * @param isPipelineSupported Whether the pipeline resource function is to be generated
+     * @param isFanOutSupported Whether the fan-out resource function is to be generated
+     * @param byteStreamAnalyzer Analyzer of the byte stream transformer functions
      * @return {@link ServiceDeclarationNode} Generated ServiceDeclarationNode
      */
-    private ServiceDeclarationNode generateService(List<FunctionDefinitionNode> transformerFunctions) {
+    private ServiceDeclarationNode generateService(List<FunctionDefinitionNode> transformerFunctions,
+                                                   TransformerConfig config, boolean isPipelineSupported,
+                                                   boolean isFanOutSupported, ByteStreamAnalyzer byteStreamAnalyzer) {
+        // The HTTP runtime dispatches requests concurrently only to isolated services, which is possible only when
+        // every transformer function called within the service is isolated.
         NodeList<Token> qualifierNodes = AbstractNodeFactory.createEmptyNodeList();
+        if (!transformerFunctions.isEmpty() && transformerFunctions.stream().allMatch(this::isIsolated)) {
+            qualifierNodes = AbstractNodeFactory.createNodeList(
+                    AbstractNodeFactory.createToken(SyntaxKind.ISOLATED_KEYWORD));
+        }
         Token serviceKeyword = AbstractNodeFactory.createToken(SyntaxKind.SERVICE_KEYWORD);
 
         Token resourcePath = NodeFactory.createToken(SyntaxKind.SLASH_TOKEN);
@@ -209,8 +606,13 @@ public class TransformerServiceGenerator implements GeneratorTask<SourceGenerato
                 NodeFactory.createSimpleNameReferenceNode(positionalArgNameToken);
         PositionalArgumentNode newHTTPListenerExprArgNode =
                 NodeFactory.createPositionalArgumentNode(positionalArgExprNode);
+        Token commaToken = AbstractNodeFactory.createToken(SyntaxKind.COMMA_TOKEN);
+        SimpleNameReferenceNode listenerConfigExprNode = NodeFactory.createSimpleNameReferenceNode(
+                AbstractNodeFactory.createIdentifierToken(LISTENER_CONFIG_KEYWORD));
+        PositionalArgumentNode listenerConfigArgNode = NodeFactory.createPositionalArgumentNode(listenerConfigExprNode);
         SeparatedNodeList<FunctionArgumentNode> newHTTPListenerExprArgNodes =
-                AbstractNodeFactory.createSeparatedNodeList(newHTTPListenerExprArgNode);
+                AbstractNodeFactory.createSeparatedNodeList(newHTTPListenerExprArgNode, commaToken,
+                        listenerConfigArgNode);
         Token clParenToken = AbstractNodeFactory.createToken(SyntaxKind.CLOSE_PAREN_TOKEN);
         ParenthesizedArgList newHTTPListenerExprArgs =
                 NodeFactory.createParenthesizedArgList(opParenToken, newHTTPListenerExprArgNodes, clParenToken);
@@ -222,9 +624,17 @@ public class TransformerServiceGenerator implements GeneratorTask<SourceGenerato
         Token opBraceToken = AbstractNodeFactory.createToken(SyntaxKind.OPEN_BRACE_TOKEN);
         Token clBraceToken = AbstractNodeFactory.createToken(SyntaxKind.CLOSE_BRACE_TOKEN);
         Token semicolonToken = NodeFactory.createToken(SyntaxKind.SEMICOLON_TOKEN);
-        NodeList<Node> members = generateResourceFunctions(transformerFunctions);
+        NodeList<Node> members = generateResourceFunctions(transformerFunctions, config, isPipelineSupported,
+                isFanOutSupported, byteStreamAnalyzer);
+
+        Token atToken = AbstractNodeFactory.createToken(SyntaxKind.AT_TOKEN);
+        AnnotationNode serviceConfigNode = NodeFactory.createAnnotationNode(atToken,
+                generateHttpTypeName(SERVICE_CONFIG_KEYWORD),
+                (MappingConstructorExpressionNode) NodeParser.parseExpression(ServiceTemplates.SERVICE_CONFIG));
+        MetadataNode metadataNode = NodeFactory.createMetadataNode(null,
+                AbstractNodeFactory.createNodeList(serviceConfigNode));
 
-        return NodeFactory.createServiceDeclarationNode(null, qualifierNodes, serviceKeyword,
+        return NodeFactory.createServiceDeclarationNode(metadataNode, qualifierNodes, serviceKeyword,
                 null, absoluteResourcePathNodes, onKeyword, expressionNodes, opBraceToken, members,
                 clBraceToken);
     }
@@ -233,164 +643,1393 @@ public class TransformerServiceGenerator implements GeneratorTask<SourceGenerato
      * This method returns a list of resource function nodes for the transformer function.
      *
      * @param transformerFunctions List of transformer functions for which resource functions to be generated
+     * @param config Transformer configurations of the package
+     * @param isPipelineSupported Whether the pipeline resource function is to be generated
+     * @param isFanOutSupported Whether the fan-out resource function is to be generated
+     * @param byteStreamAnalyzer Analyzer of the byte stream transformer functions
      * @return {@link NodeList<Node>} Generated Resource function nodes
      */
-    private NodeList<Node> generateResourceFunctions(List<FunctionDefinitionNode> transformerFunctions) {
-        IdentifierToken modulePrefix = AbstractNodeFactory.createIdentifierToken(HTTP_KEYWORD);
-        Token colonToken = AbstractNodeFactory.createToken(SyntaxKind.COLON_TOKEN);
-        Token opParenToken = AbstractNodeFactory.createToken(SyntaxKind.OPEN_PAREN_TOKEN);
-        Token clParenToken = AbstractNodeFactory.createToken(SyntaxKind.CLOSE_PAREN_TOKEN);
-        Token opBraceToken = AbstractNodeFactory.createToken(SyntaxKind.OPEN_BRACE_TOKEN);
-        Token clBraceToken = AbstractNodeFactory.createToken(SyntaxKind.CLOSE_BRACE_TOKEN);
+    private NodeList<Node> generateResourceFunctions(List<FunctionDefinitionNode> transformerFunctions,
+                                                     TransformerConfig config, boolean isPipelineSupported,
+                                                     boolean isFanOutSupported,
+                                                     ByteStreamAnalyzer byteStreamAnalyzer) {
         List<Node> funcMembers = new ArrayList<>();
+        List<FunctionDefinitionNode> valueFunctions = new ArrayList<>();
         for (FunctionDefinitionNode transformerFuncNode : transformerFunctions) {
-            List<Token> functionQualifiers = new ArrayList<>();
-            Token resourceKeyword = AbstractNodeFactory.createToken(SyntaxKind.RESOURCE_KEYWORD);
-            functionQualifiers.add(resourceKeyword);
-            NodeList<Token> functionQualifierNodes = AbstractNodeFactory.createNodeList(functionQualifiers);
-            Token functionKeyword = AbstractNodeFactory.createToken(SyntaxKind.FUNCTION_KEYWORD);
-            IdentifierToken functionName = AbstractNodeFactory.createIdentifierToken(POST_KEYWORD);
-            List<Node> relativeResourcePaths = new ArrayList<>();
-            IdentifierToken relativeResourcePathToken =
-                    AbstractNodeFactory.createIdentifierToken(transformerFuncNode.functionName().text());
-            relativeResourcePaths.add(relativeResourcePathToken);
-            NodeList<Node> relativeResourcePathNodes = AbstractNodeFactory.createNodeList(relativeResourcePaths);
-
-            Token atToken = AbstractNodeFactory.createToken(SyntaxKind.AT_TOKEN);
-            IdentifierToken annotationToken = AbstractNodeFactory.createIdentifierToken(PAYLOAD_KEYWORD);
-            QualifiedNameReferenceNode annotationReferenceNode =
-                    NodeFactory.createQualifiedNameReferenceNode(modulePrefix, colonToken, annotationToken);
-            AnnotationNode annotationNode = NodeFactory.createAnnotationNode(atToken, annotationReferenceNode, null);
-            NodeList<AnnotationNode> annotationNodes = AbstractNodeFactory.createNodeList(annotationNode);
-
-            SeparatedNodeList<ParameterNode> parameterNodes = AbstractNodeFactory.createSeparatedNodeList();
+            if (byteStreamAnalyzer.isByteStreamTransformer(transformerFuncNode)) {
+                funcMembers.add(generateBinaryResourceFunction(transformerFuncNode, config, byteStreamAnalyzer));
+                continue;
+            }
+            // Binary resource functions are neither cached nor tracked
+            valueFunctions.add(transformerFuncNode);
+            if (isRequestResourceRequired(transformerFuncNode, config)) {
+                funcMembers.add(generateRequestResourceFunction(transformerFuncNode, config));
+            } else {
+                funcMembers.add(generateResourceFunction(transformerFuncNode, config));
+            }
             if (transformerFuncNode.functionSignature().parameters().size() > 0) {
-                IdentifierToken typeName = AbstractNodeFactory
-                        .createIdentifierToken(transformerFuncNode.functionName().text() + PAYLOAD_KEYWORD);
-                SimpleNameReferenceNode typeNameNode = NodeFactory.createSimpleNameReferenceNode(typeName);
-                IdentifierToken paramName = AbstractNodeFactory.createIdentifierToken(PAYLOAD_TOKEN);
-                RequiredParameterNode requiredParamNode =
-                        NodeFactory.createRequiredParameterNode(annotationNodes, typeNameNode, paramName);
-                parameterNodes = AbstractNodeFactory.createSeparatedNodeList(requiredParamNode);
+                funcMembers.add(generateBatchResourceFunction(transformerFuncNode, config));
             }
-
-            Token returnsKeyword = AbstractNodeFactory.createToken(SyntaxKind.RETURNS_KEYWORD);
-            NodeList<AnnotationNode> returnTypeAnnotations = AbstractNodeFactory.createEmptyNodeList();
-
-            boolean isReturnTypeDescNodePresent =
-                    transformerFuncNode.functionSignature().returnTypeDesc().isPresent() &&
-                            !transformerFuncNode.functionSignature().returnTypeDesc().get().type()
-                                    .kind().equals(SyntaxKind.NIL_TYPE_DESC);
-            TypeDescriptorNode leftTypeNameNode = isReturnTypeDescNodePresent ?
-                    (TypeDescriptorNode) transformerFuncNode.functionSignature().returnTypeDesc().get().type() :
-                    NodeFactory.createNilTypeDescriptorNode(opParenToken, clParenToken);
-            Token pipeToken = AbstractNodeFactory.createToken(SyntaxKind.PIPE_TOKEN);
-            Token rightTypeName = AbstractNodeFactory.createToken(SyntaxKind.ERROR_KEYWORD);
-            SimpleNameReferenceNode rightTypeNameNode = NodeFactory.createSimpleNameReferenceNode(rightTypeName);
-            UnionTypeDescriptorNode unionTypeDescNode =
-                    NodeFactory.createUnionTypeDescriptorNode(leftTypeNameNode, pipeToken, rightTypeNameNode);
-            ReturnTypeDescriptorNode returnTypeDescNode =
-                    NodeFactory.createReturnTypeDescriptorNode(returnsKeyword, returnTypeAnnotations,
-                            unionTypeDescNode);
-            FunctionSignatureNode funcSignatureNode =
-                    NodeFactory.createFunctionSignatureNode(opParenToken, parameterNodes, clParenToken,
-                            returnTypeDescNode);
-
-            IdentifierToken funcNameToken =
-                    AbstractNodeFactory.createIdentifierToken(transformerFuncNode.functionName().text());
-            SimpleNameReferenceNode funcNameNode = NodeFactory.createSimpleNameReferenceNode(funcNameToken);
-
-            List<Node> funcArgNodes = new ArrayList<>();
-            transformerFuncNode.functionSignature().parameters().forEach(param -> {
-                IdentifierToken expressionName = NodeFactory.createIdentifierToken("payload");
-                SimpleNameReferenceNode methodExpressionNode =
-                        NodeFactory.createSimpleNameReferenceNode(expressionName);
-                Token dotToken = AbstractNodeFactory.createToken(SyntaxKind.DOT_TOKEN);
-                Token elvisToken = AbstractNodeFactory.createToken(SyntaxKind.ELVIS_TOKEN);
-                if (param.kind().equals(SyntaxKind.REQUIRED_PARAM)) {
-                    RequiredParameterNode requiredParamNode = (RequiredParameterNode) param;
-                    Token defaultFieldName = AbstractNodeFactory.createIdentifierToken("defaultName");
-                    IdentifierToken fieldName = AbstractNodeFactory
-                            .createIdentifierToken(requiredParamNode.paramName().orElse(defaultFieldName).text());
-                    SimpleNameReferenceNode fieldNameRefNode = NodeFactory.createSimpleNameReferenceNode(fieldName);
-                    FieldAccessExpressionNode fieldAccessExprNode =
-                            NodeFactory.createFieldAccessExpressionNode(methodExpressionNode, dotToken,
-                                    fieldNameRefNode);
-                    PositionalArgumentNode positionalArgNode =
-                            NodeFactory.createPositionalArgumentNode(fieldAccessExprNode);
-                    funcArgNodes.add(positionalArgNode);
-                } else if (param.kind().equals(SyntaxKind.DEFAULTABLE_PARAM)) {
-                    DefaultableParameterNode requiredParamNode = (DefaultableParameterNode) param;
-                    Token defaultFieldName = AbstractNodeFactory.createIdentifierToken("defaultName");
-                    IdentifierToken fieldName = AbstractNodeFactory
-                            .createIdentifierToken(requiredParamNode.paramName().orElse(defaultFieldName).text());
-                    SimpleNameReferenceNode fieldNameRefNode = NodeFactory.createSimpleNameReferenceNode(fieldName);
-                    FieldAccessExpressionNode fieldAccessExprNode =
-                            NodeFactory.createFieldAccessExpressionNode(methodExpressionNode,
-                                    dotToken, fieldNameRefNode);
-                    BinaryExpressionNode binExprNode =
-                            NodeFactory.createBinaryExpressionNode(SyntaxKind.BINARY_EXPRESSION,
-                                    fieldAccessExprNode, elvisToken, requiredParamNode.expression());
-                    PositionalArgumentNode positionalArgNode =
-                            NodeFactory.createPositionalArgumentNode(binExprNode);
-                    funcArgNodes.add(positionalArgNode);
-                } else if (param.kind().equals(SyntaxKind.REST_PARAM)) {
-                    Token ellipsisToken = AbstractNodeFactory.createToken(SyntaxKind.ELLIPSIS_TOKEN);
-                    RestParameterNode restParamNode = (RestParameterNode) param;
-                    Token defaultFieldName = AbstractNodeFactory.createIdentifierToken("defaultName");
-                    IdentifierToken fieldName = AbstractNodeFactory
-                            .createIdentifierToken(restParamNode.paramName().orElse(defaultFieldName).text());
-                    SimpleNameReferenceNode fieldNameRefNode = NodeFactory.createSimpleNameReferenceNode(fieldName);
-                    FieldAccessExpressionNode fieldAccessExprNode =
-                            NodeFactory.createFieldAccessExpressionNode(methodExpressionNode,
-                                    dotToken, fieldNameRefNode);
-                    Token openSBracketToken = AbstractNodeFactory.createToken(SyntaxKind.OPEN_BRACKET_TOKEN);
-                    Token closeSBracketToken = AbstractNodeFactory.createToken(SyntaxKind.CLOSE_BRACKET_TOKEN);
-                    SeparatedNodeList<Node> rhsNodeExpressions = NodeFactory.createSeparatedNodeList();
-                    ListConstructorExpressionNode rhsNode = NodeFactory.createListConstructorExpressionNode(
-                            openSBracketToken, rhsNodeExpressions, closeSBracketToken);
-                    BinaryExpressionNode binExprNode =
-                            NodeFactory.createBinaryExpressionNode(SyntaxKind.BINARY_EXPRESSION,
-                                    fieldAccessExprNode, elvisToken, rhsNode);
-                    RestArgumentNode restArgNode = NodeFactory.createRestArgumentNode(ellipsisToken, binExprNode);
-                    funcArgNodes.add(restArgNode);
-                }
-            });
-
-            Node[] newNodes = new Node[funcArgNodes.size()];
-            if (funcArgNodes.size() > 0) {
-                newNodes = new Node[funcArgNodes.size() * 2 - 1];
+            if (isNdjsonSupported(transformerFuncNode, config)) {
+                funcMembers.add(generateNdjsonResourceFunction(transformerFuncNode));
+            }
+            if (isResultStreamingEnabled(transformerFuncNode, config)) {
+                funcMembers.add(generateStreamedResourceFunction(transformerFuncNode));
             }
+        }
+        List<String> cachedFuncNames = valueFunctions.stream()
+                .filter(transformerFuncNode -> isCacheEnabled(transformerFuncNode, config))
+                .map(transformerFuncNode -> transformerFuncNode.functionName().text())
+                .collect(Collectors.toList());
+        if (!cachedFuncNames.isEmpty()) {
+            funcMembers.add(generateCacheStatsResourceFunction(cachedFuncNames));
+        }
+        List<FunctionDefinitionNode> trackedFunctions = valueFunctions.stream()
+                .filter(transformerFuncNode -> isStatsEnabled(transformerFuncNode, config))
+                .collect(Collectors.toList());
+        if (!trackedFunctions.isEmpty()) {
+            funcMembers.add(generateStatsResourceFunction(trackedFunctions, config));
+        }
+        funcMembers.add(generateGetResourceFunction(HEALTH_PATH, HEALTH_TYPE, ServiceTemplates.HEALTH_BODY));
+        if (isPipelineSupported) {
+            funcMembers.add(generatePipelineResourceFunction(transformerFunctions));
+        }
+        if (isFanOutSupported) {
+            funcMembers.add(generateFanOutResourceFunction());
+        }
+        return AbstractNodeFactory.createNodeList(funcMembers);
+    }
 
-            for (int index = 0; index < funcArgNodes.size(); index++) {
-                Node node = funcArgNodes.get(index);
-                newNodes[2 * index] = node;
+    /**
+     * This method returns the resource function node which exposes the given transformer function.
+     *
+     * @param transformerFuncNode Transformer function for which the resource function to be generated
+     * @param config Transformer configurations of the package
+     * @return {@link FunctionDefinitionNode} Generated Resource function node
+     */
+    private FunctionDefinitionNode generateResourceFunction(FunctionDefinitionNode transformerFuncNode,
+                                                            TransformerConfig config) {
+        Token opParenToken = AbstractNodeFactory.createToken(SyntaxKind.OPEN_PAREN_TOKEN);
+        Token clParenToken = AbstractNodeFactory.createToken(SyntaxKind.CLOSE_PAREN_TOKEN);
+        Token opBraceToken = AbstractNodeFactory.createToken(SyntaxKind.OPEN_BRACE_TOKEN);
+        Token clBraceToken = AbstractNodeFactory.createToken(SyntaxKind.CLOSE_BRACE_TOKEN);
+        NodeList<Token> functionQualifierNodes = generateResourceQualifiers(transformerFuncNode);
+        Token functionKeyword = AbstractNodeFactory.createToken(SyntaxKind.FUNCTION_KEYWORD);
+        IdentifierToken functionName = AbstractNodeFactory.createIdentifierToken(POST_KEYWORD);
+        List<Node> relativeResourcePaths = new ArrayList<>();
+        IdentifierToken relativeResourcePathToken =
+                AbstractNodeFactory.createIdentifierToken(transformerFuncNode.functionName().text());
+        relativeResourcePaths.add(relativeResourcePathToken);
+        NodeList<Node> relativeResourcePathNodes = AbstractNodeFactory.createNodeList(relativeResourcePaths);
 
-                if (index == funcArgNodes.size() - 1) {
-                    break;
-                }
+        SeparatedNodeList<ParameterNode> parameterNodes = AbstractNodeFactory.createSeparatedNodeList();
+        Optional<RequiredParameterNode> directlyBoundParam = getDirectlyBoundParameter(transformerFuncNode, config);
+        if (directlyBoundParam.isPresent()) {
+            parameterNodes = AbstractNodeFactory.createSeparatedNodeList(
+                    generatePayloadParameter(directlyBoundParam.get().typeName(), PAYLOAD_TOKEN));
+        } else if (transformerFuncNode.functionSignature().parameters().size() > 0) {
+            IdentifierToken typeName = AbstractNodeFactory
+                    .createIdentifierToken(transformerFuncNode.functionName().text() + PAYLOAD_KEYWORD);
+            SimpleNameReferenceNode typeNameNode = NodeFactory.createSimpleNameReferenceNode(typeName);
+            parameterNodes = AbstractNodeFactory.createSeparatedNodeList(
+                    generatePayloadParameter(typeNameNode, PAYLOAD_TOKEN));
+        }
 
-                Token separator = NodeFactory.createToken(SyntaxKind.COMMA_TOKEN);
-                newNodes[(2 * index) + 1] = separator;
-            }
+        Token returnsKeyword = AbstractNodeFactory.createToken(SyntaxKind.RETURNS_KEYWORD);
+        NodeList<AnnotationNode> returnTypeAnnotations = AbstractNodeFactory.createEmptyNodeList();
 
-            SeparatedNodeList<FunctionArgumentNode> argumentNodes = NodeFactory.createSeparatedNodeList(newNodes);
+        boolean isReturnTypeDescNodePresent =
+                transformerFuncNode.functionSignature().returnTypeDesc().isPresent() &&
+                        !transformerFuncNode.functionSignature().returnTypeDesc().get().type()
+                                .kind().equals(SyntaxKind.NIL_TYPE_DESC);
+        TypeDescriptorNode leftTypeNameNode = isReturnTypeDescNodePresent ?
+                (TypeDescriptorNode) transformerFuncNode.functionSignature().returnTypeDesc().get().type() :
+                NodeFactory.createNilTypeDescriptorNode(opParenToken, clParenToken);
+        Token pipeToken = AbstractNodeFactory.createToken(SyntaxKind.PIPE_TOKEN);
+        Token rightTypeName = AbstractNodeFactory.createToken(SyntaxKind.ERROR_KEYWORD);
+        SimpleNameReferenceNode rightTypeNameNode = NodeFactory.createSimpleNameReferenceNode(rightTypeName);
+        UnionTypeDescriptorNode unionTypeDescNode =
+                NodeFactory.createUnionTypeDescriptorNode(leftTypeNameNode, pipeToken, rightTypeNameNode);
+        boolean isBulkheadEnabled = isBulkheadEnabled(transformerFuncNode, config);
+        if (isBulkheadEnabled) {
+            unionTypeDescNode = NodeFactory.createUnionTypeDescriptorNode(unionTypeDescNode,
+                    AbstractNodeFactory.createToken(SyntaxKind.PIPE_TOKEN),
+                    generateHttpTypeName(SERVICE_UNAVAILABLE_KEYWORD));
+        }
+        ReturnTypeDescriptorNode returnTypeDescNode =
+                NodeFactory.createReturnTypeDescriptorNode(returnsKeyword, returnTypeAnnotations,
+                        unionTypeDescNode);
+        FunctionSignatureNode funcSignatureNode =
+                NodeFactory.createFunctionSignatureNode(opParenToken, parameterNodes, clParenToken,
+                        returnTypeDescNode);
 
-            FunctionCallExpressionNode expressionNode = NodeFactory.createFunctionCallExpressionNode(funcNameNode,
-                    opParenToken, argumentNodes, clParenToken);
+        ExpressionNode expressionNode = generateResourceTransformerCall(transformerFuncNode, config);
+        FunctionBodyNode funcBodyNode;
+        boolean isStatsEnabled = isStatsEnabled(transformerFuncNode, config);
+        if (isBulkheadEnabled || isStatsEnabled) {
+            String transformerFuncName = transformerFuncNode.functionName().text();
+            String resultType = leftTypeNameNode.toSourceCode().trim();
+            boolean isCacheEnabled = isCacheEnabled(transformerFuncNode, config);
+            StringBuilder funcBody = new StringBuilder("{\n");
+            if (isCacheEnabled) {
+                funcBody.append(String.format(ServiceTemplates.CACHE_LOOKUP,
+                        generateCacheKey(transformerFuncNode, config), transformerFuncName, resultType));
+            }
+            if (isBulkheadEnabled) {
+                funcBody.append(generateBulkheadAcquire(transformerFuncNode, config, ""));
+            }
+            if (isStatsEnabled) {
+                funcBody.append(String.format(ServiceTemplates.LOAD_BEGIN, transformerFuncName));
+            }
+            funcBody.append(String.format(ServiceTemplates.TRANSFORM, resultType, expressionNode.toSourceCode()));
+            if (isStatsEnabled) {
+                funcBody.append(String.format(ServiceTemplates.LOAD_END, transformerFuncName));
+            }
+            if (isBulkheadEnabled) {
+                funcBody.append(String.format(ServiceTemplates.BULKHEAD_RELEASE, transformerFuncName));
+            }
+            if (isCacheEnabled) {
+                funcBody.append(String.format(ServiceTemplates.CACHE_STORE, transformerFuncName, resultType));
+            }
+            funcBody.append(ServiceTemplates.RETURN_RESULT).append("}");
+            funcBodyNode = NodeParser.parseFunctionBodyBlock(funcBody.toString());
+        } else if (isCacheEnabled(transformerFuncNode, config)) {
+            funcBodyNode = NodeParser.parseFunctionBodyBlock(String.format(ServiceTemplates.CACHED_RESOURCE_BODY,
+                    generateCacheKey(transformerFuncNode, config), transformerFuncNode.functionName().text(),
+                    leftTypeNameNode.toSourceCode().trim(), expressionNode.toSourceCode()));
+        } else {
             Token semicolonToken = NodeFactory.createToken(SyntaxKind.SEMICOLON_TOKEN);
             Token returnKeyword = AbstractNodeFactory.createToken(SyntaxKind.RETURN_KEYWORD);
             ReturnStatementNode returnStatementNode = NodeFactory.createReturnStatementNode(returnKeyword,
                     expressionNode, semicolonToken);
             NodeList<StatementNode> statements = AbstractNodeFactory.createNodeList(returnStatementNode);
-            FunctionBodyNode funcBodyNode = NodeFactory.createFunctionBodyBlockNode(opBraceToken, null,
-                    statements, clBraceToken);
-            FunctionDefinitionNode funcDefNode =
-                    NodeFactory.createFunctionDefinitionNode(null, null, functionQualifierNodes, functionKeyword,
-                            functionName, relativeResourcePathNodes, funcSignatureNode, funcBodyNode);
-            funcMembers.add(funcDefNode);
+            funcBodyNode = NodeFactory.createFunctionBodyBlockNode(opBraceToken, null, statements, clBraceToken);
         }
-        return AbstractNodeFactory.createNodeList(funcMembers);
+        return NodeFactory.createFunctionDefinitionNode(null, null, functionQualifierNodes, functionKeyword,
+                functionName, relativeResourcePathNodes, funcSignatureNode, funcBodyNode);
+    }
+
+    /**
+     * This method returns the resource function node for the given transformer function, which reads the payload
+     * from the request itself instead of letting the http module bind it. This allows the resource function to
+     * decode CBOR payloads and encode the result as accepted by the client, to skip the compression of small
+     * results, to reject oversized payloads before reading them in full, to respond with the 504 status code once
+     * the deadline of the transformer function is exceeded, and to record the request count, error count, payload
+     * size and the latency of binding the payload, executing the transformer function and serializing the result.
+     *
+     * @param transformerFuncNode Transformer function for which the resource function to be generated
+     * @param config Transformer configurations of the package
+     * @return {@link FunctionDefinitionNode} Generated Resource function node
+     */
+    private FunctionDefinitionNode generateRequestResourceFunction(FunctionDefinitionNode transformerFuncNode,
+                                                                   TransformerConfig config) {
+        Token opParenToken = AbstractNodeFactory.createToken(SyntaxKind.OPEN_PAREN_TOKEN);
+        Token clParenToken = AbstractNodeFactory.createToken(SyntaxKind.CLOSE_PAREN_TOKEN);
+        NodeList<Token> functionQualifierNodes = generateResourceQualifiers(transformerFuncNode);
+        Token functionKeyword = AbstractNodeFactory.createToken(SyntaxKind.FUNCTION_KEYWORD);
+        IdentifierToken functionName = AbstractNodeFactory.createIdentifierToken(POST_KEYWORD);
+        String transformerFuncName = transformerFuncNode.functionName().text();
+        NodeList<Node> relativeResourcePathNodes = AbstractNodeFactory.createNodeList(
+                AbstractNodeFactory.createIdentifierToken(transformerFuncName));
+
+        boolean hasParams = transformerFuncNode.functionSignature().parameters().size() > 0;
+        boolean isMetricsEnabled = isMetricsEnabled(transformerFuncNode, config);
+        boolean isCborEnabled = isCborEnabled(transformerFuncNode, config);
+        Optional<String> returnTypeSource = getReturnTypeSource(transformerFuncNode);
+        SeparatedNodeList<ParameterNode> parameterNodes = AbstractNodeFactory.createSeparatedNodeList();
+        if (hasParams || (isCborEnabled && returnTypeSource.isPresent())) {
+            RequiredParameterNode requestParamNode = NodeFactory.createRequiredParameterNode(
+                    AbstractNodeFactory.createEmptyNodeList(), generateHttpTypeName(REQUEST_KEYWORD),
+                    AbstractNodeFactory.createIdentifierToken(REQUEST_TOKEN));
+            parameterNodes = AbstractNodeFactory.createSeparatedNodeList(requestParamNode);
+        }
+        Token returnsKeyword = AbstractNodeFactory.createToken(SyntaxKind.RETURNS_KEYWORD);
+        boolean isBulkheadEnabled = isBulkheadEnabled(transformerFuncNode, config);
+        boolean isDeadlineEnabled = isDeadlineEnabled(transformerFuncNode, config);
+        boolean isPayloadLimitEnabled = isPayloadLimitEnabled(transformerFuncNode, config);
+        String returnType = String.format(ServiceTemplates.REQUEST_RESOURCE_RETURN_TYPE,
+                isPayloadLimitEnabled ? ServiceTemplates.PAYLOAD_LIMIT_RETURN_TYPE : "",
+                isBulkheadEnabled ? ServiceTemplates.BULKHEAD_RETURN_TYPE : "",
+                isDeadlineEnabled ? ServiceTemplates.DEADLINE_RETURN_TYPE : "");
+        ReturnTypeDescriptorNode returnTypeDescNode = NodeFactory.createReturnTypeDescriptorNode(returnsKeyword,
+                AbstractNodeFactory.createEmptyNodeList(), NodeParser.parseTypeDescriptor(returnType));
+        FunctionSignatureNode funcSignatureNode = NodeFactory.createFunctionSignatureNode(opParenToken,
+                parameterNodes, clParenToken, returnTypeDescNode);
+
+        String resultType = returnTypeSource.orElse("()");
+        String transformerCall = generateResourceTransformerCall(transformerFuncNode, config).toSourceCode();
+        boolean isStatsEnabled = isStatsEnabled(transformerFuncNode, config);
+        // The permit and the load of a transformer function bounded by a deadline are released by the strand which
+        // runs it, as it keeps running after the deadline is exceeded
+        boolean isCompletionDeferred = isDeadlineCompletionRequired(transformerFuncNode, config);
+        String completion = (isStatsEnabled ? String.format(ServiceTemplates.LOAD_END, transformerFuncName) : "") +
+                (isBulkheadEnabled ? String.format(ServiceTemplates.BULKHEAD_RELEASE, transformerFuncName) : "");
+        if (isDeadlineEnabled) {
+            // Only isolated expressions can be passed to a function started on another strand, hence the transformer
+            // function receives an immutable copy of the payload
+            String readonlyCall = hasParams ? generateResourceTransformerCall(transformerFuncNode, config,
+                    READONLY_PAYLOAD_TOKEN).toSourceCode() : transformerCall;
+            if (isCompletionDeferred) {
+                List<String> args = new ArrayList<>();
+                if (hasParams) {
+                    args.add(READONLY_PAYLOAD_TOKEN);
+                }
+                if (isStatsEnabled) {
+                    args.add(LOAD_START_TOKEN);
+                }
+                readonlyCall = transformerFuncName + DEADLINE_FUNCTION_SUFFIX + "(" + String.join(", ", args) + ")";
+            }
+            transformerCall = String.format(ServiceTemplates.DEADLINE_CALL, resultType, readonlyCall,
+                    config.forFunction(transformerFuncName).getPositiveDecimal(DEADLINE_KEYWORD).orElseThrow()
+                            .toPlainString());
+        }
+        String timerFail = isMetricsEnabled ? ServiceTemplates.TIMER_FAIL : "";
+        StringBuilder funcBody = new StringBuilder("{\n");
+        if (isMetricsEnabled) {
+            funcBody.append(String.format(ServiceTemplates.TIMER_START, transformerFuncName));
+        }
+        if (isPayloadLimitEnabled) {
+            funcBody.append(String.format(ServiceTemplates.READ_LIMITED_BODY, timerFail,
+                    config.forFunction(transformerFuncName).getPositiveInt(MAX_PAYLOAD_SIZE_KEYWORD).orElseThrow()));
+        } else if (hasParams) {
+            funcBody.append(ServiceTemplates.READ_BODY);
+        }
+        if (hasParams) {
+            if (isMetricsEnabled) {
+                funcBody.append(ServiceTemplates.TIMER_PAYLOAD_SIZE);
+            }
+            funcBody.append(generatePayloadBinding(transformerFuncNode, config));
+            if (isMetricsEnabled) {
+                funcBody.append(String.format(ServiceTemplates.TIMER_END_PHASE, BIND_PHASE));
+            }
+            funcBody.append(String.format(ServiceTemplates.BIND_FAILURE, timerFail));
+        }
+        if (isBulkheadEnabled) {
+            funcBody.append(generateBulkheadAcquire(transformerFuncNode, config, timerFail));
+        }
+        if (isDeadlineEnabled && hasParams) {
+            funcBody.append(ServiceTemplates.DEADLINE_PAYLOAD);
+        }
+        if (isStatsEnabled) {
+            funcBody.append(String.format(ServiceTemplates.LOAD_BEGIN, transformerFuncName));
+        }
+        if (isCacheEnabled(transformerFuncNode, config)) {
+            // A cached result does not start the transformer function, hence its completion is not deferred
+            funcBody.append(String.format(ServiceTemplates.CACHED_TRANSFORM, resultType, transformerCall,
+                    generateCacheKey(transformerFuncNode, config), transformerFuncName,
+                    isCompletionDeferred ? completion.lines().map(line -> "    " + line + "\n")
+                            .collect(Collectors.joining()) : ""));
+        } else {
+            funcBody.append(String.format(ServiceTemplates.TRANSFORM, resultType, transformerCall));
+        }
+        if (!isCompletionDeferred) {
+            funcBody.append(completion);
+        }
+        if (isMetricsEnabled) {
+            funcBody.append(String.format(ServiceTemplates.TIMER_END_PHASE, TRANSFORM_PHASE));
+        }
+        if (isDeadlineEnabled) {
+            funcBody.append(String.format(ServiceTemplates.DEADLINE_FAILURE, timerFail));
+        }
+        funcBody.append(String.format(ServiceTemplates.TRANSFORM_FAILURE, timerFail));
+        if (returnTypeSource.isEmpty()) {
+            funcBody.append(ServiceTemplates.ACCEPTED_RESPONSE);
+        } else {
+            funcBody.append(isCborEnabled ? ServiceTemplates.ENCODED_RESPONSE : ServiceTemplates.JSON_RESPONSE);
+            if (isCompressionThresholdEnabled(config)) {
+                funcBody.append(String.format(ServiceTemplates.COMPRESSION_THRESHOLD,
+                        isCborEnabled ? "encoded.content" : "content"));
+            }
+        }
+        if (isMetricsEnabled) {
+            funcBody.append(String.format(ServiceTemplates.TIMER_END_PHASE, RESPOND_PHASE));
+        }
+        funcBody.append(ServiceTemplates.RETURN_RESPONSE).append("}");
+        FunctionBodyNode funcBodyNode = NodeParser.parseFunctionBodyBlock(funcBody.toString());
+        return NodeFactory.createFunctionDefinitionNode(null, null, functionQualifierNodes, functionKeyword,
+                functionName, relativeResourcePathNodes, funcSignatureNode, funcBodyNode);
+    }
+
+    /**
+     * This method returns the batch resource function node for the given transformer function. The batch resource
+     * accepts an array of payloads and applies the transformer function to each of them, reporting the failures
+     * per payload instead of failing the whole request.
+     *
+     * @param transformerFuncNode Transformer function for which the batch resource function to be generated
+     * @param config Transformer configurations of the package
+     * @return {@link FunctionDefinitionNode} Generated batch Resource function node
+     */
+    private FunctionDefinitionNode generateBatchResourceFunction(FunctionDefinitionNode transformerFuncNode,
+                                                                 TransformerConfig config) {
+        String transformerFuncName = transformerFuncNode.functionName().text();
+        Token opParenToken = AbstractNodeFactory.createToken(SyntaxKind.OPEN_PAREN_TOKEN);
+        Token clParenToken = AbstractNodeFactory.createToken(SyntaxKind.CLOSE_PAREN_TOKEN);
+        NodeList<Token> functionQualifierNodes = generateResourceQualifiers(transformerFuncNode);
+        Token functionKeyword = AbstractNodeFactory.createToken(SyntaxKind.FUNCTION_KEYWORD);
+        IdentifierToken functionName = AbstractNodeFactory.createIdentifierToken(POST_KEYWORD);
+        NodeList<Node> relativeResourcePathNodes = AbstractNodeFactory.createNodeList(
+                AbstractNodeFactory.createIdentifierToken(transformerFuncName),
+                AbstractNodeFactory.createToken(SyntaxKind.SLASH_TOKEN),
+                AbstractNodeFactory.createIdentifierToken(BATCH_KEYWORD));
+
+        SeparatedNodeList<ParameterNode> parameterNodes = AbstractNodeFactory.createSeparatedNodeList(
+                generatePayloadParameter(generateArrayTypeDescriptor(transformerFuncName + PAYLOAD_KEYWORD),
+                        PAYLOADS_TOKEN));
+        Token returnsKeyword = AbstractNodeFactory.createToken(SyntaxKind.RETURNS_KEYWORD);
+        boolean isBulkheadEnabled = isBulkheadEnabled(transformerFuncNode, config);
+        TypeDescriptorNode returnTypeNode = generateArrayTypeDescriptor(transformerFuncName + BATCH_RESULT_KEYWORD);
+        if (isBulkheadEnabled) {
+            returnTypeNode = NodeFactory.createUnionTypeDescriptorNode(returnTypeNode,
+                    AbstractNodeFactory.createToken(SyntaxKind.PIPE_TOKEN),
+                    generateHttpTypeName(SERVICE_UNAVAILABLE_KEYWORD));
+        }
+        ReturnTypeDescriptorNode returnTypeDescNode = NodeFactory.createReturnTypeDescriptorNode(returnsKeyword,
+                AbstractNodeFactory.createEmptyNodeList(), returnTypeNode);
+        FunctionSignatureNode funcSignatureNode =
+                NodeFactory.createFunctionSignatureNode(opParenToken, parameterNodes, clParenToken,
+                        returnTypeDescNode);
+
+        String resultType = getReturnTypeSource(transformerFuncNode).map(type -> type + "|error").orElse("error?");
+        String successResult = getReturnTypeSource(transformerFuncNode).isPresent() ? "{result}" : "{}";
+        FunctionBodyNode funcBodyNode = NodeParser.parseFunctionBodyBlock(
+                String.format(ServiceTemplates.BATCH_RESOURCE_BODY,
+                        transformerFuncName + BATCH_RESULT_KEYWORD, transformerFuncName + PAYLOAD_KEYWORD, resultType,
+                        generateTransformerCall(transformerFuncNode, PAYLOAD_TOKEN).toSourceCode(), successResult,
+                        isBulkheadEnabled ? generateBulkheadAcquire(transformerFuncNode, config, "") : "",
+                        isBulkheadEnabled ?
+                                String.format(ServiceTemplates.BULKHEAD_RELEASE, transformerFuncName) : ""));
+        return NodeFactory.createFunctionDefinitionNode(null, null, functionQualifierNodes, functionKeyword,
+                functionName, relativeResourcePathNodes, funcSignatureNode, funcBodyNode);
+    }
+
+    /**
+     * This method returns the streaming resource function node for the given transformer function. The resource
+     * reads newline-delimited JSON payloads from the request byte stream and writes the results back as
+     * newline-delimited JSON while they are produced, so that the memory usage does not grow with the input size.
+     *
+     * @param transformerFuncNode Transformer function for which the streaming resource function to be generated
+     * @return {@link FunctionDefinitionNode} Generated streaming Resource function node
+     */
+    private FunctionDefinitionNode generateNdjsonResourceFunction(FunctionDefinitionNode transformerFuncNode) {
+        String transformerFuncName = transformerFuncNode.functionName().text();
+        Token opParenToken = AbstractNodeFactory.createToken(SyntaxKind.OPEN_PAREN_TOKEN);
+        Token clParenToken = AbstractNodeFactory.createToken(SyntaxKind.CLOSE_PAREN_TOKEN);
+        NodeList<Token> functionQualifierNodes = generateResourceQualifiers(transformerFuncNode);
+        Token functionKeyword = AbstractNodeFactory.createToken(SyntaxKind.FUNCTION_KEYWORD);
+        IdentifierToken functionName = AbstractNodeFactory.createIdentifierToken(POST_KEYWORD);
+        NodeList<Node> relativeResourcePathNodes = AbstractNodeFactory.createNodeList(
+                AbstractNodeFactory.createIdentifierToken(transformerFuncName),
+                AbstractNodeFactory.createToken(SyntaxKind.SLASH_TOKEN),
+                AbstractNodeFactory.createIdentifierToken(NDJSON_KEYWORD));
+
+        RequiredParameterNode requestParamNode = NodeFactory.createRequiredParameterNode(
+                AbstractNodeFactory.createEmptyNodeList(), generateHttpTypeName(REQUEST_KEYWORD),
+                AbstractNodeFactory.createIdentifierToken(REQUEST_TOKEN));
+        SeparatedNodeList<ParameterNode> parameterNodes = AbstractNodeFactory.createSeparatedNodeList(
+                requestParamNode);
+        Token returnsKeyword = AbstractNodeFactory.createToken(SyntaxKind.RETURNS_KEYWORD);
+        Token pipeToken = AbstractNodeFactory.createToken(SyntaxKind.PIPE_TOKEN);
+        Token errorTypeName = AbstractNodeFactory.createToken(SyntaxKind.ERROR_KEYWORD);
+        UnionTypeDescriptorNode unionTypeDescNode = NodeFactory.createUnionTypeDescriptorNode(
+                generateHttpTypeName(RESPONSE_KEYWORD), pipeToken,
+                NodeFactory.createSimpleNameReferenceNode(errorTypeName));
+        ReturnTypeDescriptorNode returnTypeDescNode = NodeFactory.createReturnTypeDescriptorNode(returnsKeyword,
+                AbstractNodeFactory.createEmptyNodeList(), unionTypeDescNode);
+        FunctionSignatureNode funcSignatureNode =
+                NodeFactory.createFunctionSignatureNode(opParenToken, parameterNodes, clParenToken,
+                        returnTypeDescNode);
+
+        FunctionBodyNode funcBodyNode = NodeParser.parseFunctionBodyBlock(
+                String.format(ServiceTemplates.NDJSON_RESOURCE_BODY, transformerFuncName + PAYLOAD_KEYWORD,
+                        generateTransformerCall(transformerFuncNode, PAYLOAD_TOKEN).toSourceCode()));
+        return NodeFactory.createFunctionDefinitionNode(null, null, functionQualifierNodes, functionKeyword,
+                functionName, relativeResourcePathNodes, funcSignatureNode, funcBodyNode);
+    }
+
+    /**
+     * This method returns the streamed resource function node for the given transformer function. The resource
+     * writes the members of the array or the table returned by the transformer function as a chunked JSON array, or
+     * as newline-delimited JSON if the request accepts it, so that the serialized result is never held in memory.
+     * The members are produced lazily as well if the transformer function is bodied by a query expression.
+     *
+     * @param transformerFuncNode Transformer function for which the streamed resource function to be generated
+     * @return {@link FunctionDefinitionNode} Generated streamed Resource function node
+     */
+    private FunctionDefinitionNode generateStreamedResourceFunction(FunctionDefinitionNode transformerFuncNode) {
+        String transformerFuncName = transformerFuncNode.functionName().text();
+        NodeList<Token> functionQualifierNodes = generateResourceQualifiers(transformerFuncNode);
+        Token functionKeyword = AbstractNodeFactory.createToken(SyntaxKind.FUNCTION_KEYWORD);
+        IdentifierToken functionName = AbstractNodeFactory.createIdentifierToken(POST_KEYWORD);
+        NodeList<Node> relativeResourcePathNodes = AbstractNodeFactory.createNodeList(
+                AbstractNodeFactory.createIdentifierToken(transformerFuncName),
+                AbstractNodeFactory.createToken(SyntaxKind.SLASH_TOKEN),
+                AbstractNodeFactory.createIdentifierToken(STREAMED_KEYWORD));
+
+        FunctionSignatureNode funcSignatureNode = generateResponseSignature(transformerFuncNode,
+                transformerFuncNode.functionSignature().parameters().size() > 0);
+
+        FunctionCallExpressionNode transformerCall = generateTransformerCall(transformerFuncNode, PAYLOAD_TOKEN);
+        String results;
+        if (getResultQuery(transformerFuncNode).isPresent()) {
+            SimpleNameReferenceNode resultStreamFuncName = NodeFactory.createSimpleNameReferenceNode(
+                    AbstractNodeFactory.createIdentifierToken(transformerFuncName + RESULT_STREAM_SUFFIX));
+            results = String.format(ServiceTemplates.LAZY_RESULTS,
+                    transformerCall.modify().withFunctionName(resultStreamFuncName).apply().toSourceCode());
+        } else {
+            results = String.format(ServiceTemplates.MATERIALIZED_RESULTS,
+                    getReturnTypeSource(transformerFuncNode).orElse(""), transformerCall.toSourceCode());
+        }
+        FunctionBodyNode funcBodyNode = NodeParser.parseFunctionBodyBlock(
+                String.format(ServiceTemplates.STREAMED_RESOURCE_BODY, results));
+        return NodeFactory.createFunctionDefinitionNode(null, null, functionQualifierNodes, functionKeyword,
+                functionName, relativeResourcePathNodes, funcSignatureNode, funcBodyNode);
+    }
+
+    /**
+     * This method returns the resource function node for the given byte stream transformer function. The request
+     * body is passed to the transformer function as a byte stream, or as a byte array if that is the type of its
+     * sole parameter, instead of being bound from JSON. A byte stream result is written back as the response body
+     * while it is produced.
+     *
+     * @param transformerFuncNode Byte stream transformer function for which the resource function to be generated
+     * @param config Transformer configurations of the package
+     * @param byteStreamAnalyzer Analyzer of the byte stream transformer functions
+     * @return {@link FunctionDefinitionNode} Generated binary Resource function node
+     */
+    private FunctionDefinitionNode generateBinaryResourceFunction(FunctionDefinitionNode transformerFuncNode,
+                                                                  TransformerConfig config,
+                                                                  ByteStreamAnalyzer byteStreamAnalyzer) {
+        String transformerFuncName = transformerFuncNode.functionName().text();
+        NodeList<Token> functionQualifierNodes = generateResourceQualifiers(transformerFuncNode);
+        Token functionKeyword = AbstractNodeFactory.createToken(SyntaxKind.FUNCTION_KEYWORD);
+        IdentifierToken functionName = AbstractNodeFactory.createIdentifierToken(POST_KEYWORD);
+        NodeList<Node> relativeResourcePathNodes = AbstractNodeFactory.createNodeList(
+                AbstractNodeFactory.createIdentifierToken(transformerFuncName));
+
+        boolean isBinaryBound = isBinaryBound(transformerFuncNode, byteStreamAnalyzer);
+        FunctionSignatureNode funcSignatureNode = generateResponseSignature(transformerFuncNode,
+                !isBinaryBound && transformerFuncNode.functionSignature().parameters().size() > 0);
+
+        StringBuilder funcBody = new StringBuilder("{\n");
+        String transformerCall = generateTransformerCall(transformerFuncNode, PAYLOAD_TOKEN).toSourceCode();
+        if (isBinaryBound) {
+            funcBody.append(byteStreamAnalyzer.isByteStreamParameter(transformerFuncNode, 0) ?
+                    ServiceTemplates.BYTE_STREAM_BINDING : ServiceTemplates.BYTE_ARRAY_BINDING);
+            transformerCall = transformerFuncName + "(" + PAYLOAD_TOKEN + ")";
+        }
+        Optional<Node> returnType = transformerFuncNode.functionSignature().returnTypeDesc()
+                .map(ReturnTypeDescriptorNode::type)
+                .filter(type -> !type.kind().equals(SyntaxKind.NIL_TYPE_DESC));
+        funcBody.append(String.format(ServiceTemplates.TRANSFORM,
+                returnType.map(type -> type.toSourceCode().trim()).orElse("()"), transformerCall));
+        funcBody.append(String.format(ServiceTemplates.TRANSFORM_FAILURE, ""));
+        if (returnType.isEmpty()) {
+            funcBody.append(ServiceTemplates.ACCEPTED_RESPONSE);
+        } else if (byteStreamAnalyzer.returnsByteStream(transformerFuncNode)) {
+            // The native image profile does not depend on the transformer library which adapts the byte stream
+            funcBody.append(isNativeImage(config) ? ServiceTemplates.COLLECTED_BYTE_STREAM_RESPONSE :
+                    ServiceTemplates.BYTE_STREAM_RESPONSE);
+        } else if (returnType.get().toSourceCode().trim().equals(BYTE_ARRAY_TYPE)) {
+            funcBody.append(ServiceTemplates.BYTE_ARRAY_RESPONSE);
+        } else {
+            funcBody.append(ServiceTemplates.JSON_RESPONSE);
+        }
+        funcBody.append(ServiceTemplates.RETURN_RESPONSE).append("}");
+        FunctionBodyNode funcBodyNode = NodeParser.parseFunctionBodyBlock(funcBody.toString());
+        return NodeFactory.createFunctionDefinitionNode(null, null, functionQualifierNodes, functionKeyword,
+                functionName, relativeResourcePathNodes, funcSignatureNode, funcBodyNode);
+    }
+
+    /**
+     * This method returns the signature of a resource function which builds the response itself, and therefore
+     * receives the request and returns the response.
+     *
+     * @param transformerFuncNode Transformer function which is called within the resource function
+     * @param isPayloadBound Whether the arguments of the transformer function to be bound from the JSON payload
+     * @return {@link FunctionSignatureNode} Generated function signature node
+     */
+    private FunctionSignatureNode generateResponseSignature(FunctionDefinitionNode transformerFuncNode,
+                                                            boolean isPayloadBound) {
+        Token opParenToken = AbstractNodeFactory.createToken(SyntaxKind.OPEN_PAREN_TOKEN);
+        Token clParenToken = AbstractNodeFactory.createToken(SyntaxKind.CLOSE_PAREN_TOKEN);
+        RequiredParameterNode requestParamNode = NodeFactory.createRequiredParameterNode(
+                AbstractNodeFactory.createEmptyNodeList(), generateHttpTypeName(REQUEST_KEYWORD),
+                AbstractNodeFactory.createIdentifierToken(REQUEST_TOKEN));
+        SeparatedNodeList<ParameterNode> parameterNodes = AbstractNodeFactory.createSeparatedNodeList(
+                requestParamNode);
+        if (isPayloadBound) {
+            SimpleNameReferenceNode typeNameNode = NodeFactory.createSimpleNameReferenceNode(
+                    AbstractNodeFactory.createIdentifierToken(transformerFuncNode.functionName().text()
+                            + PAYLOAD_KEYWORD));
+            parameterNodes = AbstractNodeFactory.createSeparatedNodeList(requestParamNode,
+                    AbstractNodeFactory.createToken(SyntaxKind.COMMA_TOKEN),
+                    generatePayloadParameter(typeNameNode, PAYLOAD_TOKEN));
+        }
+        Token returnsKeyword = AbstractNodeFactory.createToken(SyntaxKind.RETURNS_KEYWORD);
+        UnionTypeDescriptorNode unionTypeDescNode = NodeFactory.createUnionTypeDescriptorNode(
+                generateHttpTypeName(RESPONSE_KEYWORD), AbstractNodeFactory.createToken(SyntaxKind.PIPE_TOKEN),
+                NodeFactory.createSimpleNameReferenceNode(AbstractNodeFactory.createToken(SyntaxKind.ERROR_KEYWORD)));
+        ReturnTypeDescriptorNode returnTypeDescNode = NodeFactory.createReturnTypeDescriptorNode(returnsKeyword,
+                AbstractNodeFactory.createEmptyNodeList(), unionTypeDescNode);
+        return NodeFactory.createFunctionSignatureNode(opParenToken, parameterNodes, clParenToken,
+                returnTypeDescNode);
+    }
+
+    /**
+     * This method checks whether the request body is passed to the given byte stream transformer function as it
+     * is, which is when the sole parameter of the function is a byte stream or a byte array.
+     *
+     * @param transformerFuncNode Byte stream transformer function to be checked
+     * @param byteStreamAnalyzer Analyzer of the byte stream transformer functions
+     * @return {@link Boolean} true if the request body is passed to the transformer function as it is
+     */
+    private boolean isBinaryBound(FunctionDefinitionNode transformerFuncNode, ByteStreamAnalyzer byteStreamAnalyzer) {
+        SeparatedNodeList<ParameterNode> params = transformerFuncNode.functionSignature().parameters();
+        if (params.size() != 1 || params.get(0).kind() != SyntaxKind.REQUIRED_PARAM) {
+            return false;
+        }
+        Node paramType = ((RequiredParameterNode) params.get(0)).typeName();
+        return byteStreamAnalyzer.isByteStreamParameter(transformerFuncNode, 0)
+                || paramType.toSourceCode().trim().equals(BYTE_ARRAY_TYPE);
+    }
+
+    /**
+     * This method returns a function which evaluates the query expression body of the given transformer function as
+     * a stream, so that the streamed resource function produces the members of the result one at a time.
+     *
+     * @param transformerFuncNode Transformer function of which the results to be streamed
+     * @return {@link Optional<ModuleMemberDeclarationNode>} Generated function node, or empty if the transformer
+     * function is not bodied by a query expression which can be evaluated as a stream
+     */
+    private Optional<ModuleMemberDeclarationNode> generateResultStreamFunction(
+            FunctionDefinitionNode transformerFuncNode) {
+        return getResultQuery(transformerFuncNode).map(queryExprNode -> {
+            String params = transformerFuncNode.functionSignature().parameters().stream()
+                    .map(param -> param.toSourceCode().trim())
+                    .collect(Collectors.joining(", "));
+            return NodeParser.parseModuleMemberDeclaration(String.format(ServiceTemplates.RESULT_STREAM_FUNCTION,
+                    isIsolated(transformerFuncNode) ? "isolated " : "",
+                    transformerFuncNode.functionName().text() + RESULT_STREAM_SUFFIX, params,
+                    queryExprNode.queryPipeline().toSourceCode().trim(),
+                    queryExprNode.selectClause().toSourceCode().trim()));
+        });
+    }
+
+    /**
+     * This method returns the query expression which bodies the given transformer function, if it can be evaluated
+     * as a stream. The on conflict clause is meaningful only when a table is constructed, hence such queries are
+     * always evaluated as a whole.
+     *
+     * @param transformerFuncNode Transformer function to be checked
+     * @return {@link Optional<QueryExpressionNode>} Query expression of the body, or empty if there is no such query
+     */
+    private Optional<QueryExpressionNode> getResultQuery(FunctionDefinitionNode transformerFuncNode) {
+        if (transformerFuncNode.functionBody().kind() != SyntaxKind.EXPRESSION_FUNCTION_BODY) {
+            return Optional.empty();
+        }
+        ExpressionNode expression = ((ExpressionFunctionBodyNode) transformerFuncNode.functionBody()).expression();
+        if (expression.kind() != SyntaxKind.QUERY_EXPRESSION) {
+            return Optional.empty();
+        }
+        QueryExpressionNode queryExprNode = (QueryExpressionNode) expression;
+        return queryExprNode.onConflictClause().isPresent() ? Optional.empty() : Optional.of(queryExprNode);
+    }
+
+    /**
+     * This method checks whether the results of the given transformer function should be streamed, which is enabled
+     * using the streamResults configuration of the function or the package. Only the results of transformer
+     * functions which return an array or a table can be streamed.
+     *
+     * @param transformerFuncNode Transformer function to be checked
+     * @param config Transformer configurations of the package
+     * @return {@link Boolean} true if a streamed resource function should be generated for the transformer function
+     */
+    private boolean isResultStreamingEnabled(FunctionDefinitionNode transformerFuncNode, TransformerConfig config) {
+        boolean isStreamable = transformerFuncNode.functionSignature().returnTypeDesc()
+                .map(ReturnTypeDescriptorNode::type)
+                .filter(type -> type.kind() == SyntaxKind.ARRAY_TYPE_DESC || type.kind() == SyntaxKind.TABLE_TYPE_DESC)
+                .isPresent();
+        return isStreamable && config.forFunction(transformerFuncNode.functionName().text())
+                .getBoolean(STREAM_RESULTS_KEYWORD, false);
+    }
+
+    /**
+     * This method checks whether a streaming resource function can be generated for the given transformer function.
+     * The transformer function gets called from an isolated function for each streamed payload, therefore it has to
+     * be isolated.
+     *
+     * @param transformerFuncNode Transformer function to be checked
+     * @param config Transformer configurations of the package
+     * @return {@link Boolean} true if a streaming resource function can be generated for the transformer function
+     */
+    private boolean isNdjsonSupported(FunctionDefinitionNode transformerFuncNode, TransformerConfig config) {
+        return transformerFuncNode.functionSignature().parameters().size() > 0 && isIsolated(transformerFuncNode)
+                && !isNativeImage(config);
+    }
+
+    /**
+     * This method checks whether the service should be generated for the native image profile, which is enabled
+     * using the nativeImage configuration of the package. The service of the profile depends only on the HTTP
+     * module, therefore the features provided by the transformer library are not generated and the transformer
+     * functions are not warmed up.
+     *
+     * @param config Transformer configurations of the package
+     * @return {@link Boolean} true if the service should be generated for the native image profile
+     */
+    private boolean isNativeImage(TransformerConfig config) {
+        return config.getBoolean(NATIVE_IMAGE_KEYWORD, false);
+    }
+
+    /**
+     * This method checks whether the generated code should be formatted, which is enabled using the format
+     * configuration of the package. Formatting is the most expensive step of the generation for large packages,
+     * hence by default it is enabled only for packages with up to {@value DEFAULT_FORMAT_LIMIT} transformer
+     * functions.
+     *
+     * @param transformerFunctions List of transformer functions of the package
+     * @param config Transformer configurations of the package
+     * @return {@link Boolean} true if the generated code should be formatted
+     */
+    private boolean isFormatEnabled(List<FunctionDefinitionNode> transformerFunctions, TransformerConfig config) {
+        return config.getBoolean(FORMAT_KEYWORD, transformerFunctions.size() <= DEFAULT_FORMAT_LIMIT);
+    }
+
+    /**
+     * This method returns a type name node which refers to the given type of the HTTP module.
+     *
+     * @param typeName Name of the type within the HTTP module
+     * @return {@link QualifiedNameReferenceNode} Generated qualified type name node
+     */
+    private QualifiedNameReferenceNode generateHttpTypeName(String typeName) {
+        IdentifierToken modulePrefix = AbstractNodeFactory.createIdentifierToken(HTTP_KEYWORD);
+        Token colonToken = AbstractNodeFactory.createToken(SyntaxKind.COLON_TOKEN);
+        IdentifierToken typeNameToken = AbstractNodeFactory.createIdentifierToken(typeName);
+        return NodeFactory.createQualifiedNameReferenceNode(modulePrefix, colonToken, typeNameToken);
+    }
+
+    /**
+     * This method returns the sole parameter of the given transformer function if the request payload should be
+     * bound to it directly, instead of to a payload record wrapping the arguments. Direct binding is enabled using
+     * the directBinding configuration of the function or the package, and only for functions with a single
+     * required parameter.
+     *
+     * @param transformerFuncNode Transformer function to be checked
+     * @param config Transformer configurations of the package
+     * @return {@link Optional<RequiredParameterNode>} Parameter to which the request payload to be bound
+     */
+    static Optional<RequiredParameterNode> getDirectlyBoundParameter(FunctionDefinitionNode transformerFuncNode,
+                                                                     TransformerConfig config) {
+        SeparatedNodeList<ParameterNode> params = transformerFuncNode.functionSignature().parameters();
+        if (params.size() != 1 || !params.get(0).kind().equals(SyntaxKind.REQUIRED_PARAM) ||
+                !config.forFunction(transformerFuncNode.functionName().text())
+                        .getBoolean(DIRECT_BINDING_KEYWORD, false)) {
+            return Optional.empty();
+        }
+        return Optional.of((RequiredParameterNode) params.get(0));
+    }
+
+    /**
+     * This method returns the call of the given transformer function with the arguments of the request payload of
+     * the main resource function.
+     *
+     * @param transformerFuncNode Transformer function to be called
+     * @param config Transformer configurations of the package
+     * @return {@link ExpressionNode} Generated transformer function call
+     */
+    private ExpressionNode generateResourceTransformerCall(FunctionDefinitionNode transformerFuncNode,
+                                                           TransformerConfig config) {
+        return generateResourceTransformerCall(transformerFuncNode, config, PAYLOAD_TOKEN);
+    }
+
+    private ExpressionNode generateResourceTransformerCall(FunctionDefinitionNode transformerFuncNode,
+                                                           TransformerConfig config, String payloadName) {
+        if (getDirectlyBoundParameter(transformerFuncNode, config).isPresent()) {
+            return NodeParser.parseExpression(transformerFuncNode.functionName().text() + "(" + payloadName + ")");
+        }
+        return generateTransformerCall(transformerFuncNode, payloadName);
+    }
+
+    /**
+     * This method returns the statements which bind the request body to the payload within a resource function
+     * which reads the request itself. Similar to the http module, a directly bound string or byte[] parameter
+     * receives the request body as it is, while any other payload is read as JSON, or as CBOR if it is enabled and
+     * the request has the CBOR content type.
+     *
+     * @param transformerFuncNode Transformer function of which the payload to be bound
+     * @param config Transformer configurations of the package
+     * @return {@link String} Source of the payload binding statements
+     */
+    private String generatePayloadBinding(FunctionDefinitionNode transformerFuncNode, TransformerConfig config) {
+        String payloadBinding = isCborEnabled(transformerFuncNode, config) ? ServiceTemplates.DECODED_PAYLOAD_BINDING :
+                ServiceTemplates.JSON_PAYLOAD_BINDING;
+        Optional<RequiredParameterNode> directlyBoundParam = getDirectlyBoundParameter(transformerFuncNode, config);
+        if (directlyBoundParam.isEmpty()) {
+            return String.format(payloadBinding, transformerFuncNode.functionName().text() + PAYLOAD_KEYWORD);
+        }
+        Node paramType = directlyBoundParam.get().typeName();
+        if (paramType.kind().equals(SyntaxKind.STRING_TYPE_DESC)) {
+            return ServiceTemplates.STRING_PAYLOAD_BINDING;
+        } else if (paramType.toSourceCode().trim().equals(BYTE_ARRAY_TYPE)) {
+            return ServiceTemplates.BINARY_PAYLOAD_BINDING;
+        }
+        return String.format(payloadBinding, paramType.toSourceCode().trim());
+    }
+
+    /**
+     * This method checks whether the concurrent executions of the given transformer function should be limited,
+     * which is enabled by configuring a positive maxConcurrent for the function or the package. The requests beyond
+     * the limit are rejected with the Retry-After header given by the retryAfter configuration, as the bulkhead has
+     * no wait queue. Hence the maxQueued and maxQueueWait configurations of the former queue are reported as no
+     * longer supported.
+     *
+     * @param transformerFuncNode Transformer function to be checked
+     * @param config Transformer configurations of the package
+     * @return {@link Boolean} true if the concurrent executions of the transformer function should be limited
+     */
+    private boolean isBulkheadEnabled(FunctionDefinitionNode transformerFuncNode, TransformerConfig config) {
+        return config.forFunction(transformerFuncNode.functionName().text()).getPositiveInt(MAX_CONCURRENT_KEYWORD)
+                .isPresent();
+    }
+
+    /**
+     * This method checks whether the load of the given transformer function should be tracked and reported by the
+     * statistics resource function, which is enabled using the stats configuration of the function or the package.
+     *
+     * @param transformerFuncNode Transformer function to be checked
+     * @param config Transformer configurations of the package
+     * @return {@link Boolean} true if the load of the transformer function should be tracked
+     */
+    private boolean isStatsEnabled(FunctionDefinitionNode transformerFuncNode, TransformerConfig config) {
+        return config.forFunction(transformerFuncNode.functionName().text()).getBoolean(STATS_KEYWORD, false);
+    }
+
+    /**
+     * This method returns the module level declaration of the bulkhead which limits the concurrent executions of the
+     * given transformer function.
+     *
+     * @param transformerFuncNode Transformer function of which the concurrent executions to be limited
+     * @param config Transformer configurations of the package
+     * @return {@link ModuleMemberDeclarationNode} Generated bulkhead declaration node
+     */
+    private ModuleMemberDeclarationNode generateBulkhead(FunctionDefinitionNode transformerFuncNode,
+                                                         TransformerConfig config) {
+        String transformerFuncName = transformerFuncNode.functionName().text();
+        return NodeParser.parseModuleMemberDeclaration(String.format(ServiceTemplates.BULKHEAD, transformerFuncName,
+                config.forFunction(transformerFuncName).getPositiveInt(MAX_CONCURRENT_KEYWORD).orElseThrow()));
+    }
+
+    /**
+     * This method returns the statements which acquire a permit from the bulkhead of the given transformer
+     * function, or reject the request with the 503 status code and the Retry-After header if there is none.
+     *
+     * @param transformerFuncNode Transformer function of which the bulkhead permit to be acquired
+     * @param config Transformer configurations of the package
+     * @param onRejection Statements to be executed before rejecting the request
+     * @return {@link String} Source of the statements
+     */
+    private String generateBulkheadAcquire(FunctionDefinitionNode transformerFuncNode, TransformerConfig config,
+                                           String onRejection) {
+        String transformerFuncName = transformerFuncNode.functionName().text();
+        return String.format(ServiceTemplates.BULKHEAD_ACQUIRE, transformerFuncName, onRejection, config
+                .forFunction(transformerFuncName).getPositiveInt(RETRY_AFTER_KEYWORD).orElse(DEFAULT_RETRY_AFTER));
+    }
+
+    /**
+     * This method checks whether the metrics of the given transformer function should be recorded, which is enabled
+     * using the metrics configuration of the function or the package.
+     *
+     * @param transformerFuncNode Transformer function to be checked
+     * @param config Transformer configurations of the package
+     * @return {@link Boolean} true if the metrics of the transformer function should be recorded
+     */
+    private boolean isMetricsEnabled(FunctionDefinitionNode transformerFuncNode, TransformerConfig config) {
+        return config.forFunction(transformerFuncNode.functionName().text()).getBoolean(METRICS_KEYWORD, false);
+    }
+
+    /**
+     * This method checks whether the resource function of the given transformer function should read the payload
+     * from the request itself, which is required to record metrics, to negotiate the CBOR encoding, to apply
+     * the compression threshold, to bound the executions by a deadline and to limit the payload size.
+     *
+     * @param transformerFuncNode Transformer function to be checked
+     * @param config Transformer configurations of the package
+     * @return {@link Boolean} true if the resource function should read the payload from the request
+     */
+    private boolean isRequestResourceRequired(FunctionDefinitionNode transformerFuncNode, TransformerConfig config) {
+        return isMetricsEnabled(transformerFuncNode, config) || isCborEnabled(transformerFuncNode, config) ||
+                isDeadlineEnabled(transformerFuncNode, config) || isPayloadLimitEnabled(transformerFuncNode, config) ||
+                isCompressionThresholdEnabled(config);
+    }
+
+    /**
+     * This method checks whether the smaller results should be sent uncompressed, which is enabled by configuring a
+     * positive compressionThreshold for the package.
+     *
+     * @param config Transformer configurations of the package
+     * @return {@link Boolean} true if the results smaller than the compression threshold should be sent uncompressed
+     */
+    private boolean isCompressionThresholdEnabled(TransformerConfig config) {
+        return config.getPositiveInt(COMPRESSION_THRESHOLD_KEYWORD).isPresent();
+    }
+
+    /**
+     * This method checks whether the size of the payloads of the given transformer function should be limited,
+     * which is enabled by configuring a positive maxPayloadSize for the function or the package. The limit is
+     * enforced while reading the request, hence an oversized payload is rejected before it is bound.
+     *
+     * @param transformerFuncNode Transformer function to be checked
+     * @param config Transformer configurations of the package
+     * @return {@link Boolean} true if the size of the payloads of the transformer function should be limited
+     */
+    private boolean isPayloadLimitEnabled(FunctionDefinitionNode transformerFuncNode, TransformerConfig config) {
+        return transformerFuncNode.functionSignature().parameters().size() > 0 &&
+                config.forFunction(transformerFuncNode.functionName().text()).getPositiveInt(MAX_PAYLOAD_SIZE_KEYWORD)
+                        .isPresent();
+    }
+
+    /**
+     * This method checks whether the executions of the given transformer function should be bounded by a deadline,
+     * which is enabled by configuring a positive deadline for the function or the package.
+     *
+     * @param transformerFuncNode Transformer function to be checked
+     * @param config Transformer configurations of the package
+     * @return {@link Boolean} true if the executions of the transformer function should be bounded by a deadline
+     */
+    private boolean isDeadlineEnabled(FunctionDefinitionNode transformerFuncNode, TransformerConfig config) {
+        return config.forFunction(transformerFuncNode.functionName().text()).getPositiveDecimal(DEADLINE_KEYWORD)
+                .isPresent();
+    }
+
+    /**
+     * This method checks whether the given transformer function bounded by a deadline holds a bulkhead permit or
+     * tracks its load, which are to be released only once the transformer function completes.
+     *
+     * @param transformerFuncNode Transformer function to be checked
+     * @param config Transformer configurations of the package
+     * @return {@link Boolean} true if the transformer function should be run by its deadline function
+     */
+    private boolean isDeadlineCompletionRequired(FunctionDefinitionNode transformerFuncNode,
+                                                 TransformerConfig config) {
+        return isDeadlineEnabled(transformerFuncNode, config) && (isBulkheadEnabled(transformerFuncNode, config) ||
+                isStatsEnabled(transformerFuncNode, config));
+    }
+
+    /**
+     * This method returns the function which runs the given transformer function on the strand started for its
+     * deadline, and then releases its bulkhead permit and ends the tracking of its load. Hence they are held until
+     * the transformer function actually completes, even if the request is responded once the deadline is exceeded.
+     *
+     * @param transformerFuncNode Transformer function to be run
+     * @param config Transformer configurations of the package
+     * @return {@link ModuleMemberDeclarationNode} Generated function definition node
+     */
+    private ModuleMemberDeclarationNode generateDeadlineFunction(FunctionDefinitionNode transformerFuncNode,
+                                                                 TransformerConfig config) {
+        String transformerFuncName = transformerFuncNode.functionName().text();
+        List<String> params = new ArrayList<>();
+        if (transformerFuncNode.functionSignature().parameters().size() > 0) {
+            String payloadType = getDirectlyBoundParameter(transformerFuncNode, config)
+                    .map(param -> param.typeName().toSourceCode().trim())
+                    .orElse(transformerFuncName + PAYLOAD_KEYWORD);
+            params.add("readonly & " + payloadType + " " + READONLY_PAYLOAD_TOKEN);
+        }
+        String completion = "";
+        if (isStatsEnabled(transformerFuncNode, config)) {
+            params.add("decimal " + LOAD_START_TOKEN);
+            completion += String.format(ServiceTemplates.LOAD_END, transformerFuncName);
+        }
+        if (isBulkheadEnabled(transformerFuncNode, config)) {
+            completion += String.format(ServiceTemplates.BULKHEAD_RELEASE, transformerFuncName);
+        }
+        return NodeParser.parseModuleMemberDeclaration(String.format(ServiceTemplates.DEADLINE_FUNCTION,
+                isIsolated(transformerFuncNode) ? "isolated " : "", transformerFuncName, String.join(", ", params),
+                getReturnTypeSource(transformerFuncNode).orElse("()"),
+                generateResourceTransformerCall(transformerFuncNode, config, READONLY_PAYLOAD_TOKEN).toSourceCode(),
+                completion));
+    }
+
+    /**
+     * This method checks whether the CBOR encoding should be negotiated for the payloads of the given transformer
+     * function, which is enabled using the cbor configuration of the function or the package.
+     *
+     * @param transformerFuncNode Transformer function to be checked
+     * @param config Transformer configurations of the package
+     * @return {@link Boolean} true if the CBOR encoding should be negotiated
+     */
+    private boolean isCborEnabled(FunctionDefinitionNode transformerFuncNode, TransformerConfig config) {
+        return config.forFunction(transformerFuncNode.functionName().text()).getBoolean(CBOR_KEYWORD, false);
+    }
+
+    /**
+     * This method returns the module level declaration of the metrics of the given transformer function.
+     *
+     * @param transformerFuncNode Transformer function of which the metrics to be recorded
+     * @return {@link ModuleMemberDeclarationNode} Generated metrics declaration node
+     */
+    private ModuleMemberDeclarationNode generateTransformerMetrics(FunctionDefinitionNode transformerFuncNode) {
+        return NodeParser.parseModuleMemberDeclaration(String.format(ServiceTemplates.TRANSFORMER_METRICS,
+                transformerFuncNode.functionName().text()));
+    }
+
+    /**
+     * This method checks whether the results of the given transformer function should be cached. Caching is enabled
+     * using the cache configuration of the function or the package, and only for isolated transformer functions
+     * with parameters which return a value, as only those are expected to be pure.
+     *
+     * @param transformerFuncNode Transformer function to be checked
+     * @param config Transformer configurations of the package
+     * @return {@link Boolean} true if the results of the transformer function should be cached
+     */
+    private boolean isCacheEnabled(FunctionDefinitionNode transformerFuncNode, TransformerConfig config) {
+        return config.forFunction(transformerFuncNode.functionName().text()).getBoolean(CACHE_KEYWORD, false)
+                && isIsolated(transformerFuncNode)
+                && transformerFuncNode.functionSignature().parameters().size() > 0
+                && getReturnTypeSource(transformerFuncNode).isPresent();
+    }
+
+    /**
+     * This method returns the module level declaration of the response cache of the given transformer function.
+     *
+     * @param transformerFuncNode Transformer function of which the results to be cached
+     * @param config Transformer configurations of the package
+     * @return {@link ModuleMemberDeclarationNode} Generated response cache declaration node
+     */
+    private ModuleMemberDeclarationNode generateResponseCache(FunctionDefinitionNode transformerFuncNode,
+                                                              TransformerConfig config) {
+        TransformerConfig funcConfig = config.forFunction(transformerFuncNode.functionName().text());
+        return NodeParser.parseModuleMemberDeclaration(String.format(ServiceTemplates.RESPONSE_CACHE,
+                transformerFuncNode.functionName().text(),
+                funcConfig.getPositiveInt(CACHE_CAPACITY_KEYWORD).orElse(DEFAULT_CACHE_CAPACITY),
+                funcConfig.getPositiveDecimal(CACHE_MAX_AGE_KEYWORD).orElse(DEFAULT_CACHE_MAX_AGE).toPlainString()));
+    }
+
+    /**
+     * This method returns the expression which computes the cache key of a payload. The key is built from the
+     * arguments in the order of the parameters, and the fields of their mappings are written in the order of their
+     * names, so that it does not depend on the order of the fields in the request. Additional fields of open records
+     * are part of the key, as they are visible to the transformer function.
+     *
+     * @param transformerFuncNode Transformer function of which the results to be cached
+     * @param config Transformer configurations of the package
+     * @return {@link String} Source of the cache key expression
+     */
+    private String generateCacheKey(FunctionDefinitionNode transformerFuncNode, TransformerConfig config) {
+        if (getDirectlyBoundParameter(transformerFuncNode, config).isPresent()) {
+            return String.format(ServiceTemplates.CACHE_KEY, PAYLOAD_TOKEN);
+        }
+        List<String> argValues = new ArrayList<>();
+        transformerFuncNode.functionSignature().parameters().forEach(param -> {
+            Optional<Token> paramName = Optional.empty();
+            if (param.kind().equals(SyntaxKind.REQUIRED_PARAM)) {
+                paramName = ((RequiredParameterNode) param).paramName();
+            } else if (param.kind().equals(SyntaxKind.DEFAULTABLE_PARAM)) {
+                paramName = ((DefaultableParameterNode) param).paramName();
+            } else if (param.kind().equals(SyntaxKind.REST_PARAM)) {
+                paramName = ((RestParameterNode) param).paramName();
+            }
+            paramName.ifPresent(name -> argValues.add(PAYLOAD_TOKEN + "." + name.text()));
+        });
+        return String.format(ServiceTemplates.CACHE_KEY, String.join(", ", argValues));
+    }
+
+    /**
+     * This method returns the resource function node which exposes the statistics of the response caches.
+     *
+     * @param cachedFuncNames Names of the transformer functions of which the results are cached
+     * @return {@link FunctionDefinitionNode} Generated cache statistics Resource function node
+     */
+    private FunctionDefinitionNode generateCacheStatsResourceFunction(List<String> cachedFuncNames) {
+        String cacheStats = cachedFuncNames.stream()
+                .map(funcName -> generateStringLiteral(funcName) + ": " + funcName + CACHE_KEYWORD_SUFFIX +
+                        ".stats()")
+                .collect(Collectors.joining(", "));
+        return generateGetResourceFunction(CACHE_STATS_PATH, CACHE_STATS_TYPE,
+                "{\n    return {" + cacheStats + "};\n}");
+    }
+
+    /**
+     * This method returns the resource function node which exposes the load of the transformer functions, so that
+     * a load balancer can route the requests to the least loaded instance of the service. The rejected requests of
+     * a transformer function are reported only if its concurrent executions are limited.
+     *
+     * @param trackedFunctions List of transformer functions of which the load is tracked
+     * @param config Transformer configurations of the package
+     * @return {@link FunctionDefinitionNode} Generated statistics Resource function node
+     */
+    private FunctionDefinitionNode generateStatsResourceFunction(List<FunctionDefinitionNode> trackedFunctions,
+                                                                 TransformerConfig config) {
+        String stats = trackedFunctions.stream()
+                .map(transformerFuncNode -> {
+                    String funcName = transformerFuncNode.functionName().text();
+                    String rejected = isBulkheadEnabled(transformerFuncNode, config) ?
+                            funcName + "Bulkhead.rejectedCount()" : "";
+                    return generateStringLiteral(funcName) + ": " + funcName + LOAD_KEYWORD_SUFFIX + ".stats(" +
+                            rejected + ")";
+                })
+                .collect(Collectors.joining(", "));
+        return generateGetResourceFunction(STATS_PATH, STATS_TYPE, "{\n    return {" + stats + "};\n}");
+    }
+
+    /**
+     * This method returns an isolated get resource function node which does not depend on the request.
+     *
+     * @param path Path of the resource function
+     * @param returnType Return type of the resource function
+     * @param body Body block of the resource function
+     * @return {@link FunctionDefinitionNode} Generated Resource function node
+     */
+    private FunctionDefinitionNode generateGetResourceFunction(String path, String returnType, String body) {
+        Token opParenToken = AbstractNodeFactory.createToken(SyntaxKind.OPEN_PAREN_TOKEN);
+        Token clParenToken = AbstractNodeFactory.createToken(SyntaxKind.CLOSE_PAREN_TOKEN);
+        NodeList<Token> functionQualifierNodes = AbstractNodeFactory.createNodeList(
+                AbstractNodeFactory.createToken(SyntaxKind.ISOLATED_KEYWORD),
+                AbstractNodeFactory.createToken(SyntaxKind.RESOURCE_KEYWORD));
+        Token functionKeyword = AbstractNodeFactory.createToken(SyntaxKind.FUNCTION_KEYWORD);
+        IdentifierToken functionName = AbstractNodeFactory.createIdentifierToken(GET_KEYWORD);
+        NodeList<Node> relativeResourcePathNodes = AbstractNodeFactory.createNodeList(
+                AbstractNodeFactory.createIdentifierToken(path));
+        Token returnsKeyword = AbstractNodeFactory.createToken(SyntaxKind.RETURNS_KEYWORD);
+        ReturnTypeDescriptorNode returnTypeDescNode = NodeFactory.createReturnTypeDescriptorNode(returnsKeyword,
+                AbstractNodeFactory.createEmptyNodeList(), NodeParser.parseTypeDescriptor(returnType));
+        FunctionSignatureNode funcSignatureNode = NodeFactory.createFunctionSignatureNode(opParenToken,
+                AbstractNodeFactory.createSeparatedNodeList(), clParenToken, returnTypeDescNode);
+        FunctionBodyNode funcBodyNode = NodeParser.parseFunctionBodyBlock(body);
+        return NodeFactory.createFunctionDefinitionNode(null, null, functionQualifierNodes, functionKeyword,
+                functionName, relativeResourcePathNodes, funcSignatureNode, funcBodyNode);
+    }
+
+    /**
+     * This method returns the resource function node which runs a pipeline of transformer functions, passing the
+     * result of each transformer function to the next one.
+     *
+     * @param transformerFunctions List of transformer functions which can be run in the pipeline
+     * @return {@link FunctionDefinitionNode} Generated pipeline Resource function node
+     */
+    private FunctionDefinitionNode generatePipelineResourceFunction(List<FunctionDefinitionNode> transformerFunctions) {
+        Token opParenToken = AbstractNodeFactory.createToken(SyntaxKind.OPEN_PAREN_TOKEN);
+        Token clParenToken = AbstractNodeFactory.createToken(SyntaxKind.CLOSE_PAREN_TOKEN);
+        NodeList<Token> functionQualifierNodes = generatePipelineQualifiers(transformerFunctions,
+                AbstractNodeFactory.createToken(SyntaxKind.RESOURCE_KEYWORD));
+        Token functionKeyword = AbstractNodeFactory.createToken(SyntaxKind.FUNCTION_KEYWORD);
+        IdentifierToken functionName = AbstractNodeFactory.createIdentifierToken(POST_KEYWORD);
+        NodeList<Node> relativeResourcePathNodes = AbstractNodeFactory.createNodeList(
+                AbstractNodeFactory.createIdentifierToken(PIPELINE_PATH));
+        SeparatedNodeList<ParameterNode> parameterNodes = AbstractNodeFactory.createSeparatedNodeList(
+                generatePayloadParameter(NodeParser.parseTypeDescriptor(PIPELINE_REQUEST_TYPE), REQUEST_TOKEN));
+        Token returnsKeyword = AbstractNodeFactory.createToken(SyntaxKind.RETURNS_KEYWORD);
+        ReturnTypeDescriptorNode returnTypeDescNode = NodeFactory.createReturnTypeDescriptorNode(returnsKeyword,
+                AbstractNodeFactory.createEmptyNodeList(),
+                NodeParser.parseTypeDescriptor(PIPELINE_RESOURCE_RETURN_TYPE));
+        FunctionSignatureNode funcSignatureNode = NodeFactory.createFunctionSignatureNode(opParenToken,
+                parameterNodes, clParenToken, returnTypeDescNode);
+        FunctionBodyNode funcBodyNode = NodeParser.parseFunctionBodyBlock(ServiceTemplates.PIPELINE_RESOURCE_BODY);
+        return NodeFactory.createFunctionDefinitionNode(null, null, functionQualifierNodes, functionKeyword,
+                functionName, relativeResourcePathNodes, funcSignatureNode, funcBodyNode);
+    }
+
+    /**
+     * This method returns the module level declarations which run the steps of a pipeline. The successors of each
+     * transformer function are computed at the compile time from the types of the transformer functions, so that a
+     * pipeline which passes a result to a transformer function of an incompatible parameter type is rejected before
+     * any of its transformer functions is run.
+     *
+     * @param transformerFunctions List of transformer functions which can be run in the pipeline
+     * @param pipelineSuccessors Names of the transformer functions which can receive the result of each function
+     * @param pipelineAnalyzer Analyzer of the parameter types of the transformer functions
+     * @return {@link List<ModuleMemberDeclarationNode>} Generated pipeline declaration nodes
+     */
+    private List<ModuleMemberDeclarationNode> generatePipeline(List<FunctionDefinitionNode> transformerFunctions,
+                                                               Map<String, List<String>> pipelineSuccessors,
+                                                               PipelineAnalyzer pipelineAnalyzer) {
+        String successors = pipelineSuccessors.entrySet().stream()
+                .map(entry -> generateStringLiteral(entry.getKey()) + ": [" + entry.getValue().stream()
+                        .map(this::generateStringLiteral)
+                        .collect(Collectors.joining(", ")) + "]")
+                .collect(Collectors.joining(", "));
+        StringBuilder nextSteps = new StringBuilder();
+        for (FunctionDefinitionNode transformerFuncNode : transformerFunctions) {
+            String transformerFuncName = transformerFuncNode.functionName().text();
+            boolean isSuccessor = pipelineSuccessors.values().stream()
+                    .anyMatch(names -> names.contains(transformerFuncName));
+            if (isSuccessor && pipelineAnalyzer.getChainedParameterType(transformerFuncNode).isPresent()) {
+                RequiredParameterNode paramNode =
+                        (RequiredParameterNode) transformerFuncNode.functionSignature().parameters().get(0);
+                nextSteps.append(String.format(ServiceTemplates.DISPATCH_STEP,
+                        generateStringLiteral(transformerFuncName),
+                        String.format(ServiceTemplates.PIPELINE_INPUT_BINDING,
+                                paramNode.typeName().toSourceCode().trim()),
+                        transformerFuncName + "(inputArg)"));
+            }
+        }
+        String qualifiers = generatePipelineQualifiers(transformerFunctions).stream()
+                .map(qualifier -> qualifier.text() + " ")
+                .collect(Collectors.joining());
+        List<ModuleMemberDeclarationNode> pipelineNodes = new ArrayList<>();
+        pipelineNodes.add(NodeParser.parseModuleMemberDeclaration(
+                String.format(ServiceTemplates.PIPELINE_SUCCESSORS, successors)));
+        pipelineNodes.add(NodeParser.parseModuleMemberDeclaration(
+                String.format(ServiceTemplates.START_PIPELINE_FUNCTION, qualifiers,
+                        generatePayloadDispatchSteps(transformerFunctions))));
+        pipelineNodes.add(NodeParser.parseModuleMemberDeclaration(
+                String.format(ServiceTemplates.CONTINUE_PIPELINE_FUNCTION, qualifiers, nextSteps)));
+        return pipelineNodes;
+    }
+
+    /**
+     * This method returns the module level declarations which run a transformer function of a fan-out request.
+     *
+     * @param fanOutFunctions List of isolated transformer functions which can be run concurrently
+     * @return {@link List<ModuleMemberDeclarationNode>} Generated fan-out declaration nodes
+     */
+    private List<ModuleMemberDeclarationNode> generateFanOut(List<FunctionDefinitionNode> fanOutFunctions) {
+        String fanOutFuncNames = fanOutFunctions.stream()
+                .map(transformerFuncNode -> generateStringLiteral(transformerFuncNode.functionName().text()))
+                .collect(Collectors.joining(", "));
+        List<ModuleMemberDeclarationNode> fanOutNodes = new ArrayList<>();
+        fanOutNodes.add(NodeParser.parseModuleMemberDeclaration(String.format(ServiceTemplates.FAN_OUT_TRANSFORMERS,
+                fanOutFuncNames)));
+        fanOutNodes.add(NodeParser.parseModuleMemberDeclaration(String.format(ServiceTemplates.FAN_OUT_FUNCTION,
+                generatePayloadDispatchSteps(fanOutFunctions))));
+        return fanOutNodes;
+    }
+
+    /**
+     * This method returns the resource function node which runs the selected transformer functions concurrently on
+     * the same payload, so that the latency of the request is that of the slowest transformer function rather than
+     * the sum of all of them.
+     *
+     * @return {@link FunctionDefinitionNode} Generated fan-out Resource function node
+     */
+    private FunctionDefinitionNode generateFanOutResourceFunction() {
+        Token opParenToken = AbstractNodeFactory.createToken(SyntaxKind.OPEN_PAREN_TOKEN);
+        Token clParenToken = AbstractNodeFactory.createToken(SyntaxKind.CLOSE_PAREN_TOKEN);
+        NodeList<Token> functionQualifierNodes = AbstractNodeFactory.createNodeList(
+                AbstractNodeFactory.createToken(SyntaxKind.ISOLATED_KEYWORD),
+                AbstractNodeFactory.createToken(SyntaxKind.RESOURCE_KEYWORD));
+        Token functionKeyword = AbstractNodeFactory.createToken(SyntaxKind.FUNCTION_KEYWORD);
+        IdentifierToken functionName = AbstractNodeFactory.createIdentifierToken(POST_KEYWORD);
+        NodeList<Node> relativeResourcePathNodes = AbstractNodeFactory.createNodeList(
+                AbstractNodeFactory.createIdentifierToken(FAN_OUT_PATH));
+        SeparatedNodeList<ParameterNode> parameterNodes = AbstractNodeFactory.createSeparatedNodeList(
+                generatePayloadParameter(NodeParser.parseTypeDescriptor(FAN_OUT_REQUEST_TYPE), REQUEST_TOKEN));
+        Token returnsKeyword = AbstractNodeFactory.createToken(SyntaxKind.RETURNS_KEYWORD);
+        ReturnTypeDescriptorNode returnTypeDescNode = NodeFactory.createReturnTypeDescriptorNode(returnsKeyword,
+                AbstractNodeFactory.createEmptyNodeList(),
+                NodeParser.parseTypeDescriptor(FAN_OUT_RESOURCE_RETURN_TYPE));
+        FunctionSignatureNode funcSignatureNode = NodeFactory.createFunctionSignatureNode(opParenToken,
+                parameterNodes, clParenToken, returnTypeDescNode);
+        FunctionBodyNode funcBodyNode = NodeParser.parseFunctionBodyBlock(ServiceTemplates.FAN_OUT_RESOURCE_BODY);
+        return NodeFactory.createFunctionDefinitionNode(null, null, functionQualifierNodes, functionKeyword,
+                functionName, relativeResourcePathNodes, funcSignatureNode, funcBodyNode);
+    }
+
+    /**
+     * This method returns the match clauses which bind a JSON payload to the parameters of a transformer function
+     * selected by its name and call it. A payload which cannot be bound results in a PayloadBindingError.
+     *
+     * @param transformerFunctions List of transformer functions to be matched
+     * @return {@link String} Source of the generated match clauses
+     */
+    private String generatePayloadDispatchSteps(List<FunctionDefinitionNode> transformerFunctions) {
+        StringBuilder steps = new StringBuilder();
+        for (FunctionDefinitionNode transformerFuncNode : transformerFunctions) {
+            String transformerFuncName = transformerFuncNode.functionName().text();
+            String payloadBinding = transformerFuncNode.functionSignature().parameters().size() > 0 ?
+                    String.format(ServiceTemplates.DISPATCH_PAYLOAD_BINDING, transformerFuncName) : "";
+            steps.append(String.format(ServiceTemplates.DISPATCH_STEP, generateStringLiteral(transformerFuncName),
+                    payloadBinding, generateTransformerCall(transformerFuncNode, "payloadArgs").toSourceCode()));
+        }
+        return steps.toString();
+    }
+
+    /**
+     * This method returns the qualifiers of a function which may call any of the given transformer functions.
+     *
+     * @param transformerFunctions List of transformer functions which may be called within the function
+     * @param qualifiers Qualifiers to be added after the isolated qualifier
+     * @return {@link NodeList<Token>} Generated function qualifiers
+     */
+    private NodeList<Token> generatePipelineQualifiers(List<FunctionDefinitionNode> transformerFunctions,
+                                                       Token... qualifiers) {
+        List<Token> functionQualifiers = new ArrayList<>();
+        if (transformerFunctions.stream().allMatch(this::isIsolated)) {
+            functionQualifiers.add(AbstractNodeFactory.createToken(SyntaxKind.ISOLATED_KEYWORD));
+        }
+        functionQualifiers.addAll(List.of(qualifiers));
+        return AbstractNodeFactory.createNodeList(functionQualifiers);
+    }
+
+    /**
+     * This method returns the qualifiers of the resource function which calls the given transformer function.
+     *
+     * @param transformerFuncNode Transformer function which is called within the resource function
+     * @return {@link NodeList<Token>} Generated resource function qualifiers
+     */
+    private NodeList<Token> generateResourceQualifiers(FunctionDefinitionNode transformerFuncNode) {
+        List<Token> functionQualifiers = new ArrayList<>();
+        if (isIsolated(transformerFuncNode)) {
+            functionQualifiers.add(AbstractNodeFactory.createToken(SyntaxKind.ISOLATED_KEYWORD));
+        }
+        Token resourceKeyword = AbstractNodeFactory.createToken(SyntaxKind.RESOURCE_KEYWORD);
+        functionQualifiers.add(resourceKeyword);
+        return AbstractNodeFactory.createNodeList(functionQualifiers);
+    }
+
+    /**
+     * This method returns a resource function parameter annotated as the request payload.
+     *
+     * @param typeNameNode Type of the payload parameter
+     * @param paramName Name of the payload parameter
+     * @return {@link RequiredParameterNode} Generated payload parameter node
+     */
+    private RequiredParameterNode generatePayloadParameter(Node typeNameNode, String paramName) {
+        IdentifierToken modulePrefix = AbstractNodeFactory.createIdentifierToken(HTTP_KEYWORD);
+        Token colonToken = AbstractNodeFactory.createToken(SyntaxKind.COLON_TOKEN);
+        Token atToken = AbstractNodeFactory.createToken(SyntaxKind.AT_TOKEN);
+        IdentifierToken annotationToken = AbstractNodeFactory.createIdentifierToken(PAYLOAD_KEYWORD);
+        QualifiedNameReferenceNode annotationReferenceNode =
+                NodeFactory.createQualifiedNameReferenceNode(modulePrefix, colonToken, annotationToken);
+        AnnotationNode annotationNode = NodeFactory.createAnnotationNode(atToken, annotationReferenceNode, null);
+        NodeList<AnnotationNode> annotationNodes = AbstractNodeFactory.createNodeList(annotationNode);
+        IdentifierToken paramNameToken = AbstractNodeFactory.createIdentifierToken(paramName);
+        return NodeFactory.createRequiredParameterNode(annotationNodes, typeNameNode, paramNameToken);
+    }
+
+    /**
+     * This method returns an array type descriptor node whose members are of the given type.
+     *
+     * @param memberTypeName Name of the member type of the array
+     * @return {@link TypeDescriptorNode} Generated array type descriptor node
+     */
+    private TypeDescriptorNode generateArrayTypeDescriptor(String memberTypeName) {
+        SimpleNameReferenceNode memberTypeNode = NodeFactory.createSimpleNameReferenceNode(
+                AbstractNodeFactory.createIdentifierToken(memberTypeName));
+        Token openSBracketToken = AbstractNodeFactory.createToken(SyntaxKind.OPEN_BRACKET_TOKEN);
+        Token closeSBracketToken = AbstractNodeFactory.createToken(SyntaxKind.CLOSE_BRACKET_TOKEN);
+        ArrayDimensionNode arrayDimension = NodeFactory.createArrayDimensionNode(openSBracketToken, null,
+                closeSBracketToken);
+        return NodeFactory.createArrayTypeDescriptorNode(memberTypeNode,
+                AbstractNodeFactory.createNodeList(arrayDimension));
+    }
+
+    /**
+     * This method returns the source of the return type of the given transformer function, if it returns a value.
+     *
+     * @param transformerFuncNode Transformer function of which the return type to be retrieved
+     * @return {@link Optional<String>} Source of the return type, or empty if the function returns nil
+     */
+    private Optional<String> getReturnTypeSource(FunctionDefinitionNode transformerFuncNode) {
+        return transformerFuncNode.functionSignature().returnTypeDesc()
+                .map(ReturnTypeDescriptorNode::type)
+                .filter(type -> !type.kind().equals(SyntaxKind.NIL_TYPE_DESC))
+                .map(type -> type.toSourceCode().trim());
+    }
+
+    /**
+     * This method returns the call expression of the given transformer function, which passes the fields of the
+     * payload variable as the arguments.
+     *
+     * @param transformerFuncNode Transformer function to be called
+     * @param payloadName Name of the payload variable which holds the arguments
+     * @return {@link FunctionCallExpressionNode} Generated function call expression node
+     */
+    private FunctionCallExpressionNode generateTransformerCall(FunctionDefinitionNode transformerFuncNode,
+                                                               String payloadName) {
+        Token opParenToken = AbstractNodeFactory.createToken(SyntaxKind.OPEN_PAREN_TOKEN);
+        Token clParenToken = AbstractNodeFactory.createToken(SyntaxKind.CLOSE_PAREN_TOKEN);
+        IdentifierToken funcNameToken =
+                AbstractNodeFactory.createIdentifierToken(transformerFuncNode.functionName().text());
+        SimpleNameReferenceNode funcNameNode = NodeFactory.createSimpleNameReferenceNode(funcNameToken);
+
+        List<Node> funcArgNodes = new ArrayList<>();
+        transformerFuncNode.functionSignature().parameters().forEach(param -> {
+            IdentifierToken expressionName = NodeFactory.createIdentifierToken(payloadName);
+            SimpleNameReferenceNode methodExpressionNode =
+                    NodeFactory.createSimpleNameReferenceNode(expressionName);
+            Token dotToken = AbstractNodeFactory.createToken(SyntaxKind.DOT_TOKEN);
+            Token elvisToken = AbstractNodeFactory.createToken(SyntaxKind.ELVIS_TOKEN);
+            if (param.kind().equals(SyntaxKind.REQUIRED_PARAM)) {
+                RequiredParameterNode requiredParamNode = (RequiredParameterNode) param;
+                Token defaultFieldName = AbstractNodeFactory.createIdentifierToken("defaultName");
+                IdentifierToken fieldName = AbstractNodeFactory
+                        .createIdentifierToken(requiredParamNode.paramName().orElse(defaultFieldName).text());
+                SimpleNameReferenceNode fieldNameRefNode = NodeFactory.createSimpleNameReferenceNode(fieldName);
+                FieldAccessExpressionNode fieldAccessExprNode =
+                        NodeFactory.createFieldAccessExpressionNode(methodExpressionNode, dotToken,
+                                fieldNameRefNode);
+                PositionalArgumentNode positionalArgNode =
+                        NodeFactory.createPositionalArgumentNode(fieldAccessExprNode);
+                funcArgNodes.add(positionalArgNode);
+            } else if (param.kind().equals(SyntaxKind.DEFAULTABLE_PARAM)) {
+                DefaultableParameterNode requiredParamNode = (DefaultableParameterNode) param;
+                Token defaultFieldName = AbstractNodeFactory.createIdentifierToken("defaultName");
+                IdentifierToken fieldName = AbstractNodeFactory
+                        .createIdentifierToken(requiredParamNode.paramName().orElse(defaultFieldName).text());
+                SimpleNameReferenceNode fieldNameRefNode = NodeFactory.createSimpleNameReferenceNode(fieldName);
+                FieldAccessExpressionNode fieldAccessExprNode =
+                        NodeFactory.createFieldAccessExpressionNode(methodExpressionNode,
+                                dotToken, fieldNameRefNode);
+                BinaryExpressionNode binExprNode =
+                        NodeFactory.createBinaryExpressionNode(SyntaxKind.BINARY_EXPRESSION,
+                                fieldAccessExprNode, elvisToken, requiredParamNode.expression());
+                PositionalArgumentNode positionalArgNode =
+                        NodeFactory.createPositionalArgumentNode(binExprNode);
+                funcArgNodes.add(positionalArgNode);
+            } else if (param.kind().equals(SyntaxKind.REST_PARAM)) {
+                Token ellipsisToken = AbstractNodeFactory.createToken(SyntaxKind.ELLIPSIS_TOKEN);
+                RestParameterNode restParamNode = (RestParameterNode) param;
+                Token defaultFieldName = AbstractNodeFactory.createIdentifierToken("defaultName");
+                IdentifierToken fieldName = AbstractNodeFactory
+                        .createIdentifierToken(restParamNode.paramName().orElse(defaultFieldName).text());
+                SimpleNameReferenceNode fieldNameRefNode = NodeFactory.createSimpleNameReferenceNode(fieldName);
+                FieldAccessExpressionNode fieldAccessExprNode =
+                        NodeFactory.createFieldAccessExpressionNode(methodExpressionNode,
+                                dotToken, fieldNameRefNode);
+                Token openSBracketToken = AbstractNodeFactory.createToken(SyntaxKind.OPEN_BRACKET_TOKEN);
+                Token closeSBracketToken = AbstractNodeFactory.createToken(SyntaxKind.CLOSE_BRACKET_TOKEN);
+                SeparatedNodeList<Node> rhsNodeExpressions = NodeFactory.createSeparatedNodeList();
+                ListConstructorExpressionNode rhsNode = NodeFactory.createListConstructorExpressionNode(
+                        openSBracketToken, rhsNodeExpressions, closeSBracketToken);
+                BinaryExpressionNode binExprNode =
+                        NodeFactory.createBinaryExpressionNode(SyntaxKind.BINARY_EXPRESSION,
+                                fieldAccessExprNode, elvisToken, rhsNode);
+                RestArgumentNode restArgNode = NodeFactory.createRestArgumentNode(ellipsisToken, binExprNode);
+                funcArgNodes.add(restArgNode);
+            }
+        });
+
+        Node[] newNodes = new Node[funcArgNodes.size()];
+        if (funcArgNodes.size() > 0) {
+            newNodes = new Node[funcArgNodes.size() * 2 - 1];
+        }
+
+        for (int index = 0; index < funcArgNodes.size(); index++) {
+            Node node = funcArgNodes.get(index);
+            newNodes[2 * index] = node;
+
+            if (index == funcArgNodes.size() - 1) {
+                break;
+            }
+
+            Token separator = NodeFactory.createToken(SyntaxKind.COMMA_TOKEN);
+            newNodes[(2 * index) + 1] = separator;
+        }
+
+        SeparatedNodeList<FunctionArgumentNode> argumentNodes = NodeFactory.createSeparatedNodeList(newNodes);
+
+        return NodeFactory.createFunctionCallExpressionNode(funcNameNode, opParenToken, argumentNodes,
+                clParenToken);
+    }
+
+    /**
+     * This method checks whether the given transformer function is isolated.
+     *
+     * @param funcDefNode Function definition node of the transformer function
+     * @return {@link Boolean} true if the transformer function has the isolated qualifier
+     */
+    private boolean isIsolated(FunctionDefinitionNode funcDefNode) {
+        return funcDefNode.qualifierList().stream().anyMatch(qualifier ->
+                qualifier.kind() == SyntaxKind.ISOLATED_KEYWORD);
     }
 
     /**
@@ -458,4 +2097,48 @@ public class TransformerServiceGenerator implements GeneratorTask<SourceGenerato
         return NodeFactory.createTypeDefinitionNode(null, publicKeyword, typeKeyWord, typeName,
                 payloadRecordNode, semicolonToken);
     }
+
+    /**
+     * This method returns the Batch Result Record node for the given function definition node, which captures either
+     * the result or the error message of applying the function to a single payload of a batch.
+     *
+     * @param funcDefNode Function definition node for which the Record to be generated
+     * @return {@link TypeDefinitionNode} Generated Batch Result Record TypeDefinitionNode
+     */
+    private TypeDefinitionNode generateBatchResultRecord(FunctionDefinitionNode funcDefNode) {
+        Token recordKeyWord = AbstractNodeFactory.createToken(SyntaxKind.RECORD_KEYWORD);
+        Token bodyStartDelimiter = AbstractNodeFactory.createToken(SyntaxKind.OPEN_BRACE_PIPE_TOKEN);
+        Token bodyEndDelimiter = AbstractNodeFactory.createToken(SyntaxKind.CLOSE_BRACE_PIPE_TOKEN);
+        Token questionMarkToken = AbstractNodeFactory.createToken(SyntaxKind.QUESTION_MARK_TOKEN);
+        Token semicolonToken = AbstractNodeFactory.createToken(SyntaxKind.SEMICOLON_TOKEN);
+
+        List<Node> recordFields = new ArrayList<>();
+        boolean isReturnTypeDescNodePresent = funcDefNode.functionSignature().returnTypeDesc().isPresent() &&
+                !funcDefNode.functionSignature().returnTypeDesc().get().type().kind()
+                        .equals(SyntaxKind.NIL_TYPE_DESC);
+        if (isReturnTypeDescNodePresent) {
+            TypeDescriptorNode resultTypeName =
+                    (TypeDescriptorNode) funcDefNode.functionSignature().returnTypeDesc().get().type();
+            IdentifierToken resultFieldName = AbstractNodeFactory.createIdentifierToken(RESULT_TOKEN);
+            recordFields.add(NodeFactory.createRecordFieldNode(null, null, resultTypeName, resultFieldName,
+                    questionMarkToken, semicolonToken));
+        }
+        Token stringTypeName = AbstractNodeFactory.createToken(SyntaxKind.STRING_KEYWORD);
+        TypeDescriptorNode errorTypeName =
+                NodeFactory.createBuiltinSimpleNameReferenceNode(stringTypeName.kind(), stringTypeName);
+        IdentifierToken errorFieldName = AbstractNodeFactory.createIdentifierToken(ERROR_TOKEN);
+        recordFields.add(NodeFactory.createRecordFieldNode(null, null, errorTypeName, errorFieldName,
+                questionMarkToken, semicolonToken));
+
+        Token publicKeyword = AbstractNodeFactory.createToken(SyntaxKind.PUBLIC_KEYWORD);
+        Token typeKeyWord = AbstractNodeFactory.createToken(SyntaxKind.TYPE_KEYWORD);
+        IdentifierToken typeName =
+                AbstractNodeFactory.createIdentifierToken(funcDefNode.functionName().text() + BATCH_RESULT_KEYWORD);
+        NodeList<Node> recordFieldNodes = AbstractNodeFactory.createNodeList(recordFields);
+        RecordTypeDescriptorNode batchResultRecordNode = NodeFactory.createRecordTypeDescriptorNode(recordKeyWord,
+                bodyStartDelimiter, recordFieldNodes, null, bodyEndDelimiter);
+
+        return NodeFactory.createTypeDefinitionNode(null, publicKeyword, typeKeyWord, typeName,
+                batchResultRecordNode, semicolonToken);
+    }
 }
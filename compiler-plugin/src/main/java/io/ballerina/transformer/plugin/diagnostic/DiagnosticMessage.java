@@ -60,6 +60,26 @@ public enum DiagnosticMessage {
             "Unknown Module level entity detected.",
             DiagnosticSeverity.ERROR),
 
+    WARNING_100("TRANSFORMER_WARNING_100",
+            "Invalid value for the transformer configuration {0}. Therefore the default value will be used.",
+            DiagnosticSeverity.WARNING),
+    WARNING_101("TRANSFORMER_WARNING_101",
+            "The transformer configuration {0} is not supported by the native image profile. Therefore it will be " +
+                    "ignored.",
+            DiagnosticSeverity.WARNING),
+    WARNING_102("TRANSFORMER_WARNING_102",
+            "Invalid value for the transformer configuration {0}, which should be a positive number. Therefore it " +
+                    "will be ignored.",
+            DiagnosticSeverity.WARNING),
+    WARNING_103("TRANSFORMER_WARNING_103",
+            "Invalid value for the transformer configuration {0}, which should be the name of a module of the " +
+                    "package other than the default module. Therefore it will be ignored.",
+            DiagnosticSeverity.WARNING),
+    WARNING_104("TRANSFORMER_WARNING_104",
+            "The transformer configuration {0} is no longer supported, as the requests beyond the maxConcurrent of " +
+                    "a transformer function are rejected instead of being queued. Therefore it will be ignored.",
+            DiagnosticSeverity.WARNING),
+
     HINT100("TRANSFORMER_ERROR_100",
             "Counterpart resource function which will get generated for the transformer function {0} " +
                     "will not support concurrent calls. Therefore consider making it 'isolated'.",
@@ -20,5 +20,6 @@ module io.ballerina.transformer.plugin {
     requires io.ballerina.lang;
     requires io.ballerina.parser;
     requires io.ballerina.tools.api;
+    requires io.ballerina.toml;
     requires io.ballerina.formatter.core;
 }